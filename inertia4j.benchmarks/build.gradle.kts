@@ -0,0 +1,33 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":inertia4j.core"))
+    jmh(project(":inertia4j.spi"))
+    jmh("com.fasterxml.jackson.core:jackson-databind:2.17.2")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(17)
+    }
+}
+
+// Run with `./gradlew :inertia4j.benchmarks:jmh`. A subset can be selected with `-PjmhIncludes=<regex>`,
+// and extra profilers added with `-PjmhProfilers=stack,perfasm`.
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(2)
+    profilers.add("gc")
+    (project.findProperty("jmhProfilers") as String?)?.split(",")?.forEach { profilers.add(it.trim()) }
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
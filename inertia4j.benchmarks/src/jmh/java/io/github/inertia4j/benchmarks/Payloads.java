@@ -0,0 +1,109 @@
+package io.github.inertia4j.benchmarks;
+
+import io.github.inertia4j.core.HttpRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prop maps of increasing size used by the benchmarks, and a minimal request implementation.
+ * <p>
+ * Every payload has a few scalar props, a nested settings object, and a {@code "records"} list whose length sets
+ * the payload size. Record fields contain quotes and non-ASCII text, so escaping and UTF-8 encoding are exercised.
+ */
+final class Payloads {
+    /**
+     * Names of the payloads, usable as a JMH {@code @Param}. The approximate JSON sizes are 500 B, 20 KB, 1 MB
+     * and 8 MB.
+     */
+    static final String tiny = "tiny";
+    static final String small = "small";
+    static final String medium = "medium";
+    static final String large = "large";
+
+    /**
+     * The prop requested by partial reload benchmarks, a small part of every payload.
+     */
+    static final String partialProp = "user";
+
+    private Payloads() {
+    }
+
+    /**
+     * Creates the props of a payload.
+     * @param name The payload name.
+     * @return A new, mutable prop map.
+     */
+    static Map<String, Object> props(String name) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("user", user(0));
+        props.put("locale", "pt-BR");
+        props.put("unreadNotifications", 3);
+        props.put("settings", Map.of("theme", "dark", "density", "compact", "beta", true));
+        props.put("records", records(recordCount(name)));
+        return props;
+    }
+
+    private static int recordCount(String name) {
+        switch (name) {
+            case tiny:
+                return 1;
+            case small:
+                return 80;
+            case medium:
+                return 4_000;
+            case large:
+                return 32_000;
+            default:
+                throw new IllegalArgumentException("Unknown payload: " + name);
+        }
+    }
+
+    private static List<Map<String, Object>> records(int count) {
+        List<Map<String, Object>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", i);
+            record.put("title", "Record \"" + i + "\"");
+            record.put("description", "Descri\u00e7\u00e3o do registro n\u00famero " + i + ", it's long enough to matter");
+            record.put("price", i * 1.25);
+            record.put("active", i % 2 == 0);
+            record.put("tags", List.of("alpha", "beta", "gamma"));
+            record.put("owner", user(i));
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static Map<String, Object> user(int id) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("name", "Jos\u00e9 Silva");
+        user.put("email", "jose" + id + "@example.com");
+        return user;
+    }
+
+    /**
+     * A GET request with fixed headers.
+     */
+    static final class Request implements HttpRequest {
+        private final Map<String, String> headers;
+
+        Request(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public String getMethod() {
+            return "GET";
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.inertia4j.benchmarks;
+
+import io.github.inertia4j.core.HttpResponse;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.core.InertiaRenderingOptions;
+import io.github.inertia4j.core.JacksonPageObjectSerializer;
+import io.github.inertia4j.core.SimpleTemplateRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full {@link InertiaRenderer} pipeline, from request headers to response body, for the JSON
+ * response of Inertia requests, the HTML response of initial page loads, and partial reloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderPipelineBenchmark {
+    @Param({Payloads.tiny, Payloads.small, Payloads.medium, Payloads.large})
+    public String payload;
+
+    private final InertiaRenderer renderer = new InertiaRenderer(
+        new JacksonPageObjectSerializer(),
+        () -> "1",
+        new SimpleTemplateRenderer("templates/app.html")
+    );
+    private final Payloads.Request htmlRequest = new Payloads.Request(Map.of());
+    private final Payloads.Request jsonRequest = new Payloads.Request(Map.of("X-Inertia", "true"));
+    private final Payloads.Request partialRequest = new Payloads.Request(Map.of(
+        "X-Inertia", "true",
+        "X-Inertia-Partial-Component", "Records/Index",
+        "X-Inertia-Partial-Data", Payloads.partialProp
+    ));
+    private InertiaRenderingOptions options;
+
+    @Setup
+    public void setUp() {
+        options = new InertiaRenderingOptions(false, false, "/records", "Records/Index", Payloads.props(payload));
+    }
+
+    @Benchmark
+    public byte[] renderJson() {
+        return renderer.render(jsonRequest, options).getBodyBytes();
+    }
+
+    @Benchmark
+    public byte[] renderHtml() {
+        return renderer.render(htmlRequest, options).getBodyBytes();
+    }
+
+    @Benchmark
+    public byte[] renderPartial() {
+        return renderer.render(partialRequest, options).getBodyBytes();
+    }
+
+    @Benchmark
+    public void renderStreamingHtml() throws IOException {
+        HttpResponse response = renderer.renderStreaming(htmlRequest, options);
+        response.writeBody(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.inertia4j.benchmarks;
+
+import io.github.inertia4j.core.JacksonPageObjectSerializer;
+import io.github.inertia4j.core.SimplePageObjectSerializer;
+import io.github.inertia4j.spi.PageObject;
+import io.github.inertia4j.spi.PageObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JacksonPageObjectSerializer} and {@link SimplePageObjectSerializer} on full and partial page objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializerBenchmark {
+    @Param({Payloads.tiny, Payloads.small, Payloads.medium, Payloads.large})
+    public String payload;
+
+    @Param({"jackson", "simple"})
+    public String implementation;
+
+    private PageObjectSerializer serializer;
+    private final List<String> partialDataProps = List.of(Payloads.partialProp);
+    private PageObject pageObject;
+
+    @Setup
+    public void setUp() {
+        if (implementation.equals("simple")) {
+            serializer = new SimplePageObjectSerializer();
+        } else {
+            serializer = new JacksonPageObjectSerializer();
+        }
+        pageObject = new PageObject("Records/Index", Payloads.props(payload), "/records", false, false, "1");
+    }
+
+    @Benchmark
+    public String serialize() {
+        return serializer.serialize(pageObject, null);
+    }
+
+    @Benchmark
+    public String serializePartial() {
+        return serializer.serialize(pageObject, partialDataProps);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() {
+        return serializer.serializeToBytes(pageObject, null);
+    }
+
+    @Benchmark
+    public void serializeToStream() throws IOException {
+        serializer.serialize(pageObject, null, OutputStream.nullOutputStream());
+    }
+}
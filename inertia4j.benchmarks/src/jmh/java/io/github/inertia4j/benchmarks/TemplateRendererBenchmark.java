@@ -0,0 +1,70 @@
+package io.github.inertia4j.benchmarks;
+
+import io.github.inertia4j.core.JacksonPageObjectSerializer;
+import io.github.inertia4j.core.SimpleTemplateRenderer;
+import io.github.inertia4j.spi.PageObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures {@link SimpleTemplateRenderer} on pre-serialized page objects, so only templating and escaping are
+ * included. The gzip benchmarks compare compressing the page object between precompressed template segments with
+ * compressing the whole page, as a container filter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRendererBenchmark {
+    @Param({Payloads.tiny, Payloads.small, Payloads.medium, Payloads.large})
+    public String payload;
+
+    private final SimpleTemplateRenderer templateRenderer = new SimpleTemplateRenderer("templates/app.html");
+    private String pageObjectJson;
+    private byte[] pageObjectJsonBytes;
+
+    @Setup
+    public void setUp() {
+        PageObject pageObject = new PageObject("Records/Index", Payloads.props(payload), "/records", false, false, "1");
+        pageObjectJson = new JacksonPageObjectSerializer().serialize(pageObject, null);
+        pageObjectJsonBytes = pageObjectJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String render() {
+        return templateRenderer.render(pageObjectJson);
+    }
+
+    @Benchmark
+    public byte[] renderToBytes() {
+        return templateRenderer.renderToBytes(pageObjectJsonBytes);
+    }
+
+    @Benchmark
+    public byte[] renderGzip() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        templateRenderer.renderGzip(json -> json.write(pageObjectJsonBytes), output, Deflater.DEFAULT_COMPRESSION);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] renderToBytesThenGzip() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(templateRenderer.renderToBytes(pageObjectJsonBytes));
+        }
+        return output.toByteArray();
+    }
+}
@@ -12,10 +12,14 @@ dependencies {
     implementation(project(":inertia4j.spi"))
 
     compileOnly("com.fasterxml.jackson.core:jackson-databind:2.17.2")
+    compileOnly("io.micrometer:micrometer-core:1.13.4")
+    compileOnly("io.opentelemetry:opentelemetry-api:1.37.0")
 
     testImplementation("org.junit.jupiter:junit-jupiter:5.12.1")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testRuntimeOnly("com.fasterxml.jackson.core:jackson-databind:2.17.2")
+    testImplementation("io.micrometer:micrometer-core:1.13.4")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing:1.37.0")
 }
 
 java {
@@ -0,0 +1,282 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.PropSelection;
+import io.github.inertia4j.spi.SerializationException;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Properties of a record or JavaBean class written by {@link Utf8JsonWriter}, looked up once per class.
+ * <p>
+ * Records are written with their components, in declaration order. Other classes are written with their public
+ * getters, {@code getX()} and {@code isX()} for booleans, and their public fields, in the order of the fields they
+ * are named after. Property values are read with {@link MethodHandle}s, and property names are encoded to JSON in
+ * advance.
+ */
+final class BeanProperties {
+    private static final MethodType getterType = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<BeanProperties> cache = new ClassValue<>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return lookUp(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final String[] names;
+    private final byte[][] encodedNames;
+    private final MethodHandle[] getters;
+    private final String failure;
+
+    /**
+     * Constructs a BeanProperties.
+     * @param type The class.
+     * @param names The names of the properties.
+     * @param encodedNames The names of the properties, each encoded as a quoted JSON string and a colon.
+     * @param getters The getters of the properties, taking the object and returning the value.
+     * @param failure The reason the class cannot be written, or {@code null} if it can.
+     */
+    private BeanProperties(
+        Class<?> type,
+        String[] names,
+        byte[][] encodedNames,
+        MethodHandle[] getters,
+        String failure
+    ) {
+        this.type = type;
+        this.names = names;
+        this.encodedNames = encodedNames;
+        this.getters = getters;
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the properties of a class.
+     * @param type The class.
+     * @return The properties, looked up on the first call for the class.
+     */
+    static BeanProperties of(Class<?> type) {
+        return cache.get(type);
+    }
+
+    /**
+     * Writes an object as a JSON object of its properties. Getters of properties left out by the selection are not
+     * called.
+     * @param writer The writer.
+     * @param bean The object, an instance of the class.
+     * @param selection The properties written, or {@code null} to write all of them.
+     * @throws IOException if writing to the stream fails.
+     * @throws SerializationException if the class has no properties, or a getter fails.
+     */
+    void write(Utf8JsonWriter writer, Object bean, PropSelection selection) throws IOException {
+        if (failure != null) throw new SerializationException("Cannot serialize " + type.getName() + ": " + failure);
+
+        writer.enter();
+        writer.writeByte('{');
+        boolean first = true;
+        for (int i = 0; i < getters.length; i++) {
+            if (selection != null && !selection.includes(names[i])) continue;
+            if (!first) writer.writeByte(',');
+            first = false;
+            writer.writeRaw(encodedNames[i]);
+            writer.writeValue(get(i, bean), selection != null ? selection.get(names[i]) : null);
+        }
+        writer.writeByte('}');
+        writer.exit();
+    }
+
+    /**
+     * Reads the values of the properties of an object, in the order they are written.
+     * @param bean The object, an instance of the class.
+     * @return The values, or an empty array if the class cannot be written.
+     * @throws SerializationException if a getter fails.
+     */
+    Object[] values(Object bean) {
+        if (failure != null) return new Object[0];
+
+        Object[] values = new Object[getters.length];
+        for (int i = 0; i < getters.length; i++) {
+            values[i] = get(i, bean);
+        }
+        return values;
+    }
+
+    /**
+     * Reads the value of a property.
+     * @param index The index of the property.
+     * @param bean The object, an instance of the class.
+     * @return The value.
+     * @throws SerializationException if the getter fails.
+     */
+    private Object get(int index, Object bean) {
+        try {
+            return (Object) getters[index].invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * Looks up the properties of a class.
+     */
+    private static BeanProperties lookUp(Class<?> type) {
+        Map<String, MethodHandle> properties;
+        try {
+            properties = isRecord(type) ? recordComponents(type) : beanProperties(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return new BeanProperties(type, null, null, null, "its properties are not accessible (" + e + ")");
+        }
+        if (properties.isEmpty()) {
+            return new BeanProperties(type, null, null, null, "it has no public getters or fields");
+        }
+
+        String[] names = new String[properties.size()];
+        byte[][] encodedNames = new byte[properties.size()][];
+        MethodHandle[] getters = new MethodHandle[properties.size()];
+        int i = 0;
+        for (Map.Entry<String, MethodHandle> property : properties.entrySet()) {
+            names[i] = property.getKey();
+            encodedNames[i] = encodeName(property.getKey());
+            getters[i] = property.getValue().asType(getterType);
+            i++;
+        }
+        return new BeanProperties(type, names, encodedNames, getters, null);
+    }
+
+    /**
+     * Checks whether a class is a record, without depending on the Java 16 API.
+     */
+    private static boolean isRecord(Class<?> type) {
+        Class<?> superclass = type.getSuperclass();
+        return superclass != null && superclass.getName().equals("java.lang.Record");
+    }
+
+    /**
+     * Gets the accessors of the components of a record, through reflection since the record API is not available
+     * to Java 11 code.
+     */
+    private static Map<String, MethodHandle> recordComponents(Class<?> type) throws ReflectiveOperationException {
+        Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        Map<String, MethodHandle> properties = new LinkedHashMap<>();
+        for (Object component : components) {
+            Class<?> componentClass = component.getClass();
+            String name = (String) componentClass.getMethod("getName").invoke(component);
+            Method accessor = (Method) componentClass.getMethod("getAccessor").invoke(component);
+            properties.put(name, unreflect(accessor));
+        }
+        return properties;
+    }
+
+    /**
+     * Gets the public getters and fields of a class, getters taking precedence over fields of the same name.
+     * Properties named after a field of the class come first, in the order the fields are declared, like Jackson
+     * orders them, and the others follow sorted by name.
+     */
+    private static Map<String, MethodHandle> beanProperties(Class<?> type) throws IllegalAccessException {
+        Map<String, MethodHandle> found = new TreeMap<>();
+        for (Method method : type.getMethods()) {
+            String name = propertyName(method);
+            if (name != null && !found.containsKey(name)) found.put(name, unreflect(method));
+        }
+        for (Field field : type.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+            if (!found.containsKey(field.getName())) {
+                field.trySetAccessible();
+                found.put(field.getName(), MethodHandles.lookup().unreflectGetter(field));
+            }
+        }
+
+        Map<String, MethodHandle> properties = new LinkedHashMap<>();
+        for (String fieldName : declaredFieldNames(type)) {
+            MethodHandle getter = found.remove(fieldName);
+            if (getter != null) properties.put(fieldName, getter);
+        }
+        properties.putAll(found);
+        return properties;
+    }
+
+    /**
+     * Lists the names of the instance fields of a class and its superclasses, superclass fields first.
+     */
+    private static List<String> declaredFieldNames(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+            names.addAll(declaredFieldNames(type.getSuperclass()));
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) names.add(field.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Gets the name of the property a method is the getter of.
+     * @return The property name, or {@code null} if the method is not a getter.
+     */
+    private static String propertyName(Method method) {
+        if (
+            Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() > 0
+                || method.getReturnType() == void.class
+                || method.getDeclaringClass() == Object.class
+                || method.isBridge()
+                || method.isSynthetic()
+        ) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) return decapitalize(name.substring(3));
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    /**
+     * Lower-cases the leading upper-case chars of a property name, so {@code getURL} gives {@code url} and
+     * {@code getFirstName} gives {@code firstName}, like Jackson.
+     */
+    private static String decapitalize(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length && Character.isUpperCase(chars[i]); i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Creates a method handle for a getter, making it accessible first so public getters of non-public classes can
+     * be called.
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        method.trySetAccessible();
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * Encodes a property name as a JSON field name.
+     */
+    private static byte[] encodeName(String name) {
+        Utf8JsonWriter writer = new Utf8JsonWriter(new byte[name.length() + 3], null);
+        try {
+            writer.writeFieldName(name);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to a buffer cannot fail", e);
+        }
+        return writer.toByteArray();
+    }
+}
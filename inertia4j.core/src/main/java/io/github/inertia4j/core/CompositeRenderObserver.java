@@ -0,0 +1,110 @@
+package io.github.inertia4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link RenderObserver} notifying several observers, created by {@link RenderObserver#of(List)}.
+ */
+class CompositeRenderObserver implements RenderObserver {
+    private final List<RenderObserver> observers;
+
+    /**
+     * Constructs a CompositeRenderObserver.
+     * @param observers The observers to notify, in order.
+     */
+    CompositeRenderObserver(List<RenderObserver> observers) {
+        this.observers = List.copyOf(observers);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Observers that ignore the render are left out, so that when all of them do, the renderer skips observation.
+     */
+    @Override
+    public RenderObservation start(RenderInfo render) {
+        List<RenderObservation> observations = new ArrayList<>(observers.size());
+        for (RenderObserver observer : observers) {
+            RenderObservation observation = observer.start(render);
+            if (observation != RenderObservation.none) observations.add(observation);
+        }
+        if (observations.isEmpty()) return RenderObservation.none;
+        if (observations.size() == 1) return observations.get(0);
+        return new CompositeRenderObservation(observations);
+    }
+
+    private static class CompositeRenderObservation implements RenderObservation {
+        private final List<RenderObservation> observations;
+
+        CompositeRenderObservation(List<RenderObservation> observations) {
+            this.observations = observations;
+        }
+
+        @Override
+        public PhaseObservation startPhase(RenderPhase phase, String propName) {
+            List<PhaseObservation> phases = new ArrayList<>(observations.size());
+            for (RenderObservation observation : observations) {
+                phases.add(observation.startPhase(phase, propName));
+            }
+            return new CompositePhaseObservation(phases);
+        }
+
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            for (RenderObservation observation : observations) {
+                observation.versionConflictAvoided(clientVersion, version);
+            }
+        }
+
+        @Override
+        public void propSerialized(String propName, long bytes) {
+            for (RenderObservation observation : observations) {
+                observation.propSerialized(propName, bytes);
+            }
+        }
+
+        @Override
+        public void serialized(long bytes) {
+            for (RenderObservation observation : observations) {
+                observation.serialized(bytes);
+            }
+        }
+
+        @Override
+        public void finished(int status, long bodyBytes, Throwable failure) {
+            for (RenderObservation observation : observations) {
+                observation.finished(status, bodyBytes, failure);
+            }
+        }
+    }
+
+    private static class CompositePhaseObservation implements PhaseObservation {
+        private final List<PhaseObservation> phases;
+
+        CompositePhaseObservation(List<PhaseObservation> phases) {
+            this.phases = phases;
+        }
+
+        @Override
+        public Scope makeCurrent() {
+            List<Scope> scopes = new ArrayList<>(phases.size());
+            for (PhaseObservation phase : phases) {
+                scopes.add(phase.makeCurrent());
+            }
+            return () -> {
+                // Scopes are closed in reverse order, as they were nested
+                for (int i = scopes.size() - 1; i >= 0; i--) {
+                    scopes.get(i).close();
+                }
+            };
+        }
+
+        @Override
+        public void end(Throwable failure) {
+            for (PhaseObservation phase : phases) {
+                phase.end(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.inertia4j.core;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream counting the bytes written through it, used by {@link InertiaRenderer} to report the size of
+ * streamed responses to its {@link RenderObserver}. Closing this stream does not close the underlying stream.
+ */
+class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    /**
+     * Constructs a new counting stream.
+     * @param output The stream receiving the content.
+     */
+    CountingOutputStream(OutputStream output) {
+        super(output);
+    }
+
+    /**
+     * Writes a single byte.
+     * @param b The byte to write.
+     * @throws IOException if writing to the underlying stream fails.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    /**
+     * Writes the given bytes to the underlying stream in a single call.
+     * @param bytes The bytes to write.
+     * @param offset The start offset in the array.
+     * @param length The number of bytes to write.
+     * @throws IOException if writing to the underlying stream fails.
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+        count += length;
+    }
+
+    /**
+     * Flushes the underlying stream, leaving it open.
+     * @throws IOException if flushing the underlying stream fails.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    /**
+     * Gets the number of bytes written so far.
+     * @return The byte count.
+     */
+    long getCount() {
+        return count;
+    }
+}
@@ -2,32 +2,51 @@ package io.github.inertia4j.core;
 
 import io.github.inertia4j.spi.PageObject;
 import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.PropSizeListener;
 import io.github.inertia4j.spi.SerializationException;
-import io.github.inertia4j.core.MissingDependencyException; // Javadoc import
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
  * Default implementation of {@link PageObjectSerializer}.
  * <p>
  * This implementation checks if Jackson Databind is present on the classpath.
- * If it is, it delegates serialization to JacksonPageObjectSerializer.
- * If not, it throws a {@link MissingDependencyException} during construction.
+ * If it is, it delegates serialization to {@link JacksonPageObjectSerializer}.
+ * If not, it falls back to {@link SimplePageObjectSerializer}, which needs no JSON library.
  */
 public class DefaultPageObjectSerializer implements PageObjectSerializer {
+    private static final System.Logger logger = System.getLogger(DefaultPageObjectSerializer.class.getName());
+
     private final PageObjectSerializer actualSerializer;
 
     /**
      * Constructs a new DefaultPageObjectSerializer, checking for Jackson dependency.
-     * @throws MissingDependencyException if Jackson Databind is not found on the classpath.
      */
     public DefaultPageObjectSerializer() {
+        if (jacksonAvailable()) {
+            this.actualSerializer = new JacksonPageObjectSerializer();
+        } else {
+            this.actualSerializer = new SimplePageObjectSerializer();
+        }
+    }
+
+    /**
+     * Checks whether Jackson Databind is on the classpath.
+     * @return {@code true} if Jackson can be used.
+     */
+    private static boolean jacksonAvailable() {
         try {
             Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+            return true;
         } catch (ClassNotFoundException exception) {
-            throw new MissingDependencyException("Missing Jackson JSON dependency. Please add it to the classpath or provide a custom PageObjectSerializer implementation");
+            logger.log(
+                System.Logger.Level.DEBUG,
+                "Jackson JSON dependency not found, page objects are serialized with SimplePageObjectSerializer"
+            );
+            return false;
         }
-        this.actualSerializer = new JacksonPageObjectSerializer();
     }
 
     /**
@@ -37,4 +56,57 @@ public class DefaultPageObjectSerializer implements PageObjectSerializer {
     public String serialize(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
         return actualSerializer.serialize(pageObject, partialDataProps);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serializeToBytes(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        return actualSerializer.serializeToBytes(pageObject, partialDataProps);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output
+    ) throws IOException, SerializationException {
+        actualSerializer.serialize(pageObject, partialDataProps, output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serializeToBytes(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws SerializationException {
+        return actualSerializer.serializeToBytes(pageObject, partialDataProps, propSizeListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output,
+        PropSizeListener propSizeListener
+    ) throws IOException, SerializationException {
+        actualSerializer.serialize(pageObject, partialDataProps, output, propSizeListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object preEncode(Object value) throws SerializationException {
+        return actualSerializer.preEncode(value);
+    }
 }
@@ -0,0 +1,38 @@
+package io.github.inertia4j.core;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An asset version recorded in a {@link VersionStore}, with the time it was first deployed.
+ */
+public final class DeployedVersion {
+    private final String version;
+    private final Instant deployedAt;
+
+    /**
+     * Constructs a DeployedVersion.
+     * @param version The asset version.
+     * @param deployedAt The time the version was first published to the store.
+     */
+    public DeployedVersion(String version, Instant deployedAt) {
+        this.version = Objects.requireNonNull(version);
+        this.deployedAt = Objects.requireNonNull(deployedAt);
+    }
+
+    /**
+     * Gets the asset version.
+     * @return The asset version.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time the version was first published to the store.
+     * @return The deployment time.
+     */
+    public Instant getDeployedAt() {
+        return deployedAt;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.inertia4j.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Computes and compares the strong entity tags ({@code ETag} header values) of page responses.
+ * Used internally by {@link InertiaRenderer}.
+ */
+final class EntityTags {
+    /**
+     * Number of digest bytes kept in a tag, enough to make collisions between versions of a page unlikely.
+     */
+    private static final int tagBytes = 16;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Computes the tag of a response body.
+     * @param body The response body.
+     * @return The quoted tag.
+     */
+    static String of(byte[] body) {
+        return quote(digest().digest(body));
+    }
+
+    /**
+     * Computes the tag of a response from a tag supplied by the application, which identifies the state of the page
+     * but not its representation. The representation is mixed in, so the HTML page, the JSON page object and each
+     * partial reload get different tags.
+     * @param suppliedTag The tag supplied by the application.
+     * @param representation Description of the representation, such as the kind of response and the partial props.
+     * @return The quoted tag.
+     */
+    static String of(String suppliedTag, String representation) {
+        MessageDigest digest = digest();
+        digest.update(suppliedTag.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(representation.getBytes(StandardCharsets.UTF_8));
+        return quote(digest.digest());
+    }
+
+    /**
+     * Checks whether a tag matches an {@code If-None-Match} header, using the weak comparison the header calls for,
+     * since compression by a proxy or the container may have weakened the tag.
+     * @param ifNoneMatch The value of the {@code If-None-Match} header, can be null.
+     * @param tag The quoted tag of the response.
+     * @return {@code true} if the client already has the response.
+     */
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String candidateTag = candidate.trim();
+            if (candidateTag.equals("*")) return true;
+            if (candidateTag.startsWith("W/")) candidateTag = candidateTag.substring(2);
+            if (candidateTag.equals(tag)) return true;
+        }
+        return false;
+    }
+
+    private static String quote(byte[] digest) {
+        byte[] truncated = new byte[tagBytes];
+        System.arraycopy(digest, 0, truncated, 0, tagBytes);
+        return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(truncated) + '"';
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
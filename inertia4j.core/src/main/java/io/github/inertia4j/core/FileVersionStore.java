@@ -0,0 +1,108 @@
+package io.github.inertia4j.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link VersionStore} keeping the versions in a file, one per line as the deployment time in epoch milliseconds
+ * and the version, separated by a tab. Created by {@link VersionStore#ofFile(Path)}.
+ */
+final class FileVersionStore implements VersionStore {
+    private final Path file;
+
+    /**
+     * Constructs a FileVersionStore.
+     * @param file The path of the file, created if it does not exist.
+     */
+    FileVersionStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The file is locked while it is read, and rewritten if the version is new.
+     *
+     * @throws UncheckedIOException if the file cannot be read or written.
+     */
+    @Override
+    public synchronized List<DeployedVersion> publish(String version) {
+        if (version.indexOf('\n') >= 0 || version.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Version must not contain line breaks");
+        }
+
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE
+            );
+            // Locks are held by the process, so publish is synchronized against the other threads
+            FileLock lock = channel.lock()
+        ) {
+            List<DeployedVersion> versions = parse(read(channel));
+            List<DeployedVersion> updated = InMemoryVersionStore.withVersion(versions, version);
+            if (updated != versions) {
+                channel.truncate(0);
+                ByteBuffer contents = ByteBuffer.wrap(format(updated).getBytes(StandardCharsets.UTF_8));
+                while (contents.hasRemaining()) channel.write(contents, contents.position());
+            }
+            return updated;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish the asset version to " + file, e);
+        }
+    }
+
+    /**
+     * Reads the whole contents of a file.
+     */
+    private static String read(FileChannel channel) throws IOException {
+        ByteBuffer contents = ByteBuffer.allocate((int) channel.size());
+        while (contents.hasRemaining() && channel.read(contents, contents.position()) >= 0) {
+            // Read until the buffer is full
+        }
+        return new String(contents.array(), 0, contents.position(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the versions in the file, skipping malformed lines.
+     */
+    private static List<DeployedVersion> parse(String contents) {
+        List<DeployedVersion> versions = new ArrayList<>();
+        for (String line : contents.split("\n")) {
+            int separator = line.indexOf('\t');
+            if (separator <= 0 || separator == line.length() - 1) continue;
+            try {
+                Instant deployedAt = Instant.ofEpochMilli(Long.parseLong(line.substring(0, separator)));
+                versions.add(new DeployedVersion(line.substring(separator + 1), deployedAt));
+            } catch (NumberFormatException e) {
+                // Not written by this store
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Formats versions as the contents of the file.
+     */
+    private static String format(List<DeployedVersion> versions) {
+        StringBuilder contents = new StringBuilder();
+        for (DeployedVersion deployed : versions) {
+            contents.append(deployed.getDeployedAt().toEpochMilli())
+                .append('\t')
+                .append(deployed.getVersion())
+                .append('\n');
+        }
+        return contents.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.inertia4j.core;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output stream that escapes quote characters of UTF-8 encoded content, so it can be written as the value of a
+ * quoted HTML attribute. Used by {@link SimpleTemplateRenderer} to stream the page object JSON into the template.
+ * Closing this stream does not close the underlying stream.
+ */
+class HtmlAttributeEscapingOutputStream extends FilterOutputStream {
+    private static final byte[] escapedDoubleQuote = "&quot;".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] escapedSingleQuote = "&apos;".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Constructs a new escaping stream.
+     * @param output The stream receiving the escaped content.
+     */
+    HtmlAttributeEscapingOutputStream(OutputStream output) {
+        super(output);
+    }
+
+    /**
+     * Writes a single byte, escaping it if it is a quote character.
+     * @param b The byte to write.
+     * @throws IOException if writing to the underlying stream fails.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        byte[] replacement = replacementFor((byte) b);
+        if (replacement != null) {
+            out.write(replacement);
+        } else {
+            out.write(b);
+        }
+    }
+
+    /**
+     * Writes the given bytes, passing runs without quote characters through to the underlying stream unchanged.
+     * @param bytes The bytes to write.
+     * @param offset The start offset in the array.
+     * @param length The number of bytes to write.
+     * @throws IOException if writing to the underlying stream fails.
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        int end = offset + length;
+        int unescapedStart = offset;
+        for (int i = offset; i < end; i++) {
+            byte[] replacement = replacementFor(bytes[i]);
+            if (replacement == null) continue;
+
+            out.write(bytes, unescapedStart, i - unescapedStart);
+            out.write(replacement);
+            unescapedStart = i + 1;
+        }
+        out.write(bytes, unescapedStart, end - unescapedStart);
+    }
+
+    /**
+     * Flushes the underlying stream without closing it.
+     * @throws IOException if flushing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private static byte[] replacementFor(byte b) {
+        switch (b) {
+            case '"':
+                return escapedDoubleQuote;
+            case '\'':
+                return escapedSingleQuote;
+            default:
+                return null;
+        }
+    }
+}
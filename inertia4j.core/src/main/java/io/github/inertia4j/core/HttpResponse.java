@@ -1,5 +1,10 @@
 package io.github.inertia4j.core;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -12,7 +17,8 @@ import java.util.Map;
 public class HttpResponse {
     private int code;
     private final Map<String, List<String>> headers = new HashMap<>();
-    private String body;
+    private byte[] body;
+    private BodyWriter bodyWriter;
 
     /**
      * Sets the HTTP status code for the response.
@@ -38,14 +44,24 @@ public class HttpResponse {
 
     /**
      * Sets the body content for the response.
-     * @param body The response body as a String.
+     * @param body The response body as UTF-8 encoded bytes.
      * @return This HttpResponse instance for chaining.
      */
-    HttpResponse setBody(String body) {
+    HttpResponse setBody(byte[] body) {
         this.body = body;
         return this;
     }
 
+    /**
+     * Sets a writer that produces the body content when the response is written, instead of a materialized body.
+     * @param bodyWriter The writer producing the UTF-8 encoded response body.
+     * @return This HttpResponse instance for chaining.
+     */
+    HttpResponse setBodyWriter(BodyWriter bodyWriter) {
+        this.bodyWriter = bodyWriter;
+        return this;
+    }
+
     /**
      * Gets the HTTP status code of the response.
      * @return The HTTP status code.
@@ -63,10 +79,67 @@ public class HttpResponse {
     }
 
     /**
-     * Gets the body of the response.
-     * @return The response body as a String.
+     * Gets the body of the response, decoded from UTF-8.
+     * Prefer {@link #getBodyBytes()} when the body is handed to a container that accepts bytes.
+     * @return The response body as a String, or {@code null} if the response has no body.
      */
     public String getBody() {
+        byte[] bodyBytes = getBodyBytes();
+        return bodyBytes != null ? new String(bodyBytes, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Gets the body of the response as UTF-8 encoded bytes, as produced by the serializer and template renderer.
+     * For streamed responses, this buffers the whole body in memory; use {@link #writeBody(OutputStream)} instead.
+     * @return The response body bytes, or {@code null} if the response has no body.
+     */
+    public byte[] getBodyBytes() {
+        if (body == null && bodyWriter != null) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try {
+                bodyWriter.writeTo(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            body = output.toByteArray();
+            bodyWriter = null;
+        }
         return body;
     }
+
+    /**
+     * Checks whether the response has a body, either materialized or streamed.
+     * @return {@code true} if the response has a body.
+     */
+    public boolean hasBody() {
+        return body != null || bodyWriter != null;
+    }
+
+    /**
+     * Writes the body of the response to the given stream. Streamed responses are produced directly into the stream,
+     * so the status code and headers must be committed before calling this method. The stream is not closed.
+     * @param output The stream to write the UTF-8 encoded body to.
+     * @throws IOException if writing to the stream fails.
+     * @throws io.github.inertia4j.spi.SerializationException if the page object cannot be serialized.
+     */
+    public void writeBody(OutputStream output) throws IOException {
+        if (bodyWriter != null) {
+            bodyWriter.writeTo(output);
+        } else if (body != null) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Produces the body of a streamed response.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+        /**
+         * Writes the UTF-8 encoded body to the given stream.
+         * @param output The stream to write to, which must not be closed.
+         * @throws IOException if writing to the stream fails.
+         */
+        void writeTo(OutputStream output) throws IOException;
+    }
 }
@@ -0,0 +1,40 @@
+package io.github.inertia4j.core;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link VersionStore} keeping the versions published by the current process in memory.
+ * Created by {@link VersionStore#inMemory()}.
+ */
+final class InMemoryVersionStore implements VersionStore {
+    private List<DeployedVersion> versions = List.of();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<DeployedVersion> publish(String version) {
+        versions = withVersion(versions, version);
+        return versions;
+    }
+
+    /**
+     * Adds a version to a list of versions if it is not in it yet, dropping the oldest versions beyond
+     * {@link VersionStore#maxVersions}.
+     * @param versions The versions, from the oldest to the most recent deployment.
+     * @param version The version to add.
+     * @return The given list if it has the version already, or an unmodifiable list with the version added.
+     */
+    static List<DeployedVersion> withVersion(List<DeployedVersion> versions, String version) {
+        for (DeployedVersion deployed : versions) {
+            if (deployed.getVersion().equals(version)) return versions;
+        }
+        List<DeployedVersion> updated = new ArrayList<>(versions);
+        // Kept at millisecond precision, like the file store
+        updated.add(new DeployedVersion(version, Instant.ofEpochMilli(System.currentTimeMillis())));
+        if (updated.size() > maxVersions) updated.subList(0, updated.size() - maxVersions).clear();
+        return List.copyOf(updated);
+    }
+}
@@ -1,30 +1,101 @@
 package io.github.inertia4j.core;
 
+import io.github.inertia4j.spi.LazyProp;
 import io.github.inertia4j.spi.PageObject;
 import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.PageObjectWriter;
+import io.github.inertia4j.spi.PropSizeListener;
 import io.github.inertia4j.spi.SerializationException;
 import io.github.inertia4j.spi.TemplateRenderer;
 
-import java.util.Arrays;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * The core class responsible for transforming regular web responses into Inertia-compatible responses.
  * It handles full page loads, partial updates, asset versioning, and redirects according to the Inertia protocol.
  */
 public class InertiaRenderer {
+    /**
+     * Request headers page responses depend on, sent in the {@code Vary} header so that caches keep the HTML page,
+     * the JSON page object and partial reloads apart.
+     */
+    private static final String varyHeaders =
+        "X-Inertia, X-Inertia-Partial-Data, X-Inertia-Partial-Except, X-Inertia-Partial-Component";
+
+    /**
+     * Whether the {@code jdk.jfr} module is available, checked once since runtimes built without it, such as some
+     * jlink images, would fail to load the {@link JfrRenderObserver}.
+     */
+    private static final boolean flightRecorderAvailable = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
     private final PageObjectSerializer pageObjectSerializer;
     private final TemplateRenderer templateRenderer;
     private final Supplier<String> versionProvider;
+    private final PropResolver propResolver;
+    private final PayloadBudget payloadBudget;
+    private final Map<String, Object> sharedProps;
+    private final Map<String, Object> sharedValues;
+    private final boolean eTags;
+    private final boolean compression;
+    private final boolean rawJsonValidation;
+    private final VersionGracePolicy versionGracePolicy;
+    private final RenderObserver renderObserver;
+    private final RenderObserver observers;
+
+    /**
+     * Internal constructor used by the public constructors and the {@code with} methods.
+     */
+    private InertiaRenderer(
+        PageObjectSerializer pageObjectSerializer,
+        Supplier<String> versionProvider,
+        TemplateRenderer templateRenderer,
+        PropResolver propResolver,
+        PayloadBudget payloadBudget,
+        Map<String, Object> sharedProps,
+        Map<String, Object> sharedValues,
+        boolean eTags,
+        boolean compression,
+        boolean rawJsonValidation,
+        VersionGracePolicy versionGracePolicy,
+        RenderObserver renderObserver
+    ) {
+        this.pageObjectSerializer = pageObjectSerializer;
+        this.templateRenderer = templateRenderer;
+        this.versionProvider = versionProvider;
+        this.propResolver = propResolver;
+        this.payloadBudget = payloadBudget;
+        this.sharedProps = sharedProps;
+        this.sharedValues = sharedValues;
+        this.eTags = eTags;
+        this.compression = compression;
+        this.rawJsonValidation = rawJsonValidation;
+        this.versionGracePolicy = versionGracePolicy;
+        this.renderObserver = renderObserver;
+        this.observers = flightRecorderAvailable
+            ? RenderObserver.of(List.of(JfrRenderObserver.instance, renderObserver))
+            : renderObserver;
+    }
 
     /**
      * Constructs an InertiaRenderer with explicit dependencies.
      *
      * @param pageObjectSerializer PageObjectSerializer implementation used to serialize the {@link PageObject}.
-     * @param versionProvider provider for the current Inertia asset version
+     * @param versionProvider provider for the current Inertia asset version, called once per render
      * @param templateRenderer renderer for the base HTML template used in full page loads.
      */
     public InertiaRenderer(
@@ -32,16 +103,27 @@ public class InertiaRenderer {
         Supplier<String> versionProvider,
         TemplateRenderer templateRenderer
     ) {
-        this.pageObjectSerializer = pageObjectSerializer;
-        this.templateRenderer = templateRenderer;
-        this.versionProvider = versionProvider;
+        this(
+            pageObjectSerializer,
+            versionProvider,
+            templateRenderer,
+            new PropResolver(),
+            PayloadBudget.unlimited,
+            Map.of(),
+            Map.of(),
+            false,
+            false,
+            false,
+            VersionGracePolicy.strict,
+            RenderObserver.none
+        );
     }
 
     /**
      * Constructs an InertiaRenderer using the default {@link SimpleTemplateRenderer}.
      *
      * @param pageObjectSerializer PageObjectSerializer implementation used to serialize the {@link PageObject}.
-     * @param versionProvider provider for the current Inertia asset version
+     * @param versionProvider provider for the current Inertia asset version, called once per render
      * @param templatePath path to the HTML template to be served
      * @throws TemplateRenderingException if the template file cannot be read.
      */
@@ -53,23 +135,486 @@ public class InertiaRenderer {
         this(pageObjectSerializer, versionProvider, new SimpleTemplateRenderer(templatePath));
     }
 
+    /**
+     * Gets the executor used to evaluate props by default: a virtual-thread-per-task executor when running on
+     * JDK 21 or later, shared by all renderers.
+     *
+     * @return The default prop executor, or {@code null} on older runtimes, where props are evaluated on the
+     *         request thread.
+     */
+    public static Executor defaultPropExecutor() {
+        return PropResolver.defaultExecutor();
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, evaluating props on the given executor.
+     * When a response includes several {@link io.github.inertia4j.spi.LazyProp lazy props}, they are evaluated
+     * concurrently on this executor before serialization, so the render takes as long as the slowest prop rather
+     * than the sum of all of them. Defaults to {@link #defaultPropExecutor()}.
+     * <p>
+     * Props evaluated on the executor do not see state bound to the request thread, such as thread locals.
+     *
+     * @param propExecutor executor used to evaluate props, or {@code null} to evaluate them on the request thread.
+     * @return A new {@code InertiaRenderer} instance using the given executor.
+     */
+    public InertiaRenderer withPropExecutor(Executor propExecutor) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver.withExecutor(propExecutor),
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, waiting at most the given time for the
+     * lazy and {@link java.util.concurrent.CompletionStage} props of a render. Props still running when it elapses
+     * are handled according to the {@link #withPropFailurePolicy(PropFailurePolicy) failure policy}, and lazy ones
+     * are cancelled, interrupting the thread evaluating them. Lazy props evaluated on the request thread, without an
+     * executor, are not bound by the timeout.
+     *
+     * @param propTimeout maximum time to wait for the props of a render, or {@code null} to wait indefinitely.
+     * @return A new {@code InertiaRenderer} instance using the given timeout.
+     * @throws IllegalArgumentException if the timeout is zero or negative.
+     */
+    public InertiaRenderer withPropTimeout(Duration propTimeout) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver.withTimeout(propTimeout),
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, handling lazy props that fail or time out
+     * according to the given policy. Defaults to {@link PropFailurePolicy#FAIL}.
+     *
+     * @param propFailurePolicy policy applied to props that fail or time out.
+     * @return A new {@code InertiaRenderer} instance using the given policy.
+     */
+    public InertiaRenderer withPropFailurePolicy(PropFailurePolicy propFailurePolicy) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver.withFailurePolicy(propFailurePolicy),
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, checking the size of each top-level prop
+     * against the given budget as the page object is serialized. Props are measured by serializers implementing
+     * {@link PageObjectSerializer#serializeToBytes(PageObject, List, PropSizeListener)},
+     * such as {@link DefaultPageObjectSerializer}. Oversized props are handled according to the
+     * {@link #withPayloadBudgetPolicy(PayloadBudgetPolicy) budget policy}.
+     *
+     * @param propPayloadBudget maximum size of a prop in bytes, including its name, or {@code 0} for no limit.
+     * @return A new {@code InertiaRenderer} instance using the given budget.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+    public InertiaRenderer withPropPayloadBudget(long propPayloadBudget) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget.withPropBytes(propPayloadBudget),
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, checking the size of each serialized page
+     * object against the given budget. Oversized pages are handled according to the
+     * {@link #withPayloadBudgetPolicy(PayloadBudgetPolicy) budget policy}.
+     *
+     * @param pagePayloadBudget maximum size of a page object in bytes, or {@code 0} for no limit.
+     * @return A new {@code InertiaRenderer} instance using the given budget.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+    public InertiaRenderer withPagePayloadBudget(long pagePayloadBudget) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget.withPageBytes(pagePayloadBudget),
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, handling props and page objects over their
+     * payload budget according to the given policy. Defaults to {@link PayloadBudgetPolicy#LOG}. Under
+     * {@link PayloadBudgetPolicy#FAIL}, {@link #renderStreaming(HttpRequest, InertiaRenderingOptions)} serializes
+     * the page object before the response is sent, so that it can still fail.
+     *
+     * @param payloadBudgetPolicy policy applied to oversized props and page objects.
+     * @return A new {@code InertiaRenderer} instance using the given policy.
+     */
+    public InertiaRenderer withPayloadBudgetPolicy(PayloadBudgetPolicy payloadBudgetPolicy) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget.withPolicy(payloadBudgetPolicy),
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, adding the given props to every page it
+     * renders, such as feature flags, application settings or translations. They replace the shared props set
+     * previously. Props of the page take precedence over shared props of the same name, and partial reloads leave
+     * shared props out unless they request them.
+     * <p>
+     * Plain values are serialized once, by {@link PageObjectSerializer#preEncode(Object)}, and copied into every page
+     * object, so they must not change afterwards. Partial reloads selecting part of a shared prop serialize it
+     * again. {@link LazyProp Lazy} and {@link CompletionStage} values are
+     * resolved by each render including them instead. Props depending on the request are shared with
+     * {@link InertiaRenderingOptions#withSharedProps(Map)}.
+     *
+     * @param sharedProps props added to every page, can be null.
+     * @return A new {@code InertiaRenderer} instance sharing the given props.
+     * @throws SerializationException if a shared prop cannot be serialized.
+     */
+    public InertiaRenderer withSharedProps(Map<String, Object> sharedProps) throws SerializationException {
+        Map<String, Object> encodedProps = new HashMap<>();
+        if (sharedProps != null) {
+            for (Map.Entry<String, Object> prop : sharedProps.entrySet()) {
+                Object value = prop.getValue();
+                boolean resolvedPerRender = value instanceof LazyProp || value instanceof CompletionStage;
+                encodedProps.put(prop.getKey(), resolvedPerRender ? value : pageObjectSerializer.preEncode(value));
+            }
+        }
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            Collections.unmodifiableMap(encodedProps),
+            sharedProps != null ? Collections.unmodifiableMap(new HashMap<>(sharedProps)) : Map.of(),
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, sending a strong {@code ETag} computed from
+     * the body of page responses to GET requests. Requests whose {@code If-None-Match} header matches it are answered
+     * with 304 Not Modified and no body, so polling and revisits of unchanged pages cost a render but no transfer.
+     * Tags supplied with {@link InertiaRenderingOptions#withETag(String)} are used instead, and spare the render as
+     * well. Streamed responses only get supplied tags, since their body is written after the headers.
+     *
+     * @param eTags whether tags are computed for page responses.
+     * @return A new {@code InertiaRenderer} instance computing tags or not.
+     */
+    public InertiaRenderer withETags(boolean eTags) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, compressing page responses with gzip when
+     * the request accepts it. Page objects under a kilobyte are sent as is. The compression level depends on the
+     * size of the page object: small ones are compressed at the highest level, large ones at the fastest. Streamed
+     * responses, whose size is not known up front, use the fastest level. The template segments around the page
+     * object are compressed only once by the default {@link SimpleTemplateRenderer}.
+     * <p>
+     * The body of compressed responses is not UTF-8 text, so they must be sent with
+     * {@link HttpResponse#getBodyBytes()} or {@link HttpResponse#writeBody(java.io.OutputStream)}.
+     *
+     * @param compression whether page responses are compressed.
+     * @return A new {@code InertiaRenderer} instance compressing page responses or not.
+     */
+    public InertiaRenderer withCompression(boolean compression) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, checking the syntax of the
+     * {@link io.github.inertia4j.spi.RawJson RawJson} values among resolved props before serialization. Serializers
+     * copy raw JSON verbatim, so without validation a malformed document produces a page object the client cannot
+     * parse; with it, the render fails with a {@link SerializationException} naming the prop. Validation reads
+     * every raw JSON document in full, so it is meant for development. Disabled by default.
+     *
+     * @param rawJsonValidation whether raw JSON props are validated.
+     * @return A new {@code InertiaRenderer} instance validating raw JSON props or not.
+     */
+    public InertiaRenderer withRawJsonValidation(boolean rawJsonValidation) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            rawJsonValidation,
+            this.versionGracePolicy,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, serving clients whose asset version differs
+     * from the current one when the given policy tolerates their version, instead of answering with a 409 version
+     * conflict that forces a full page reload. Used during rolling deploys, when nodes serving different versions
+     * answer the same clients. Tolerated versions are reported to the
+     * {@link #withRenderObserver(RenderObserver) render observer} as avoided conflicts. Defaults to
+     * {@link VersionGracePolicy#strict}.
+     *
+     * @param versionGracePolicy policy deciding which other versions are served.
+     * @return A new {@code InertiaRenderer} instance using the given policy.
+     */
+    public InertiaRenderer withVersionGracePolicy(VersionGracePolicy versionGracePolicy) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            versionGracePolicy != null ? versionGracePolicy : VersionGracePolicy.strict,
+            this.renderObserver
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderer} with the same dependencies, notifying the given observer of every
+     * render, redirect and location response, for instance to record metrics. Use {@link RenderObserver#of(List)}
+     * to register several observers. Renders are also reported to JDK Flight Recorder as
+     * {@code io.github.inertia4j.Render} events, whatever the observer.
+     *
+     * @param renderObserver observer notified of renders, or {@link RenderObserver#none} to disable observation.
+     * @return A new {@code InertiaRenderer} instance using the given observer.
+     */
+    public InertiaRenderer withRenderObserver(RenderObserver renderObserver) {
+        return new InertiaRenderer(
+            this.pageObjectSerializer,
+            this.versionProvider,
+            this.templateRenderer,
+            this.propResolver,
+            this.payloadBudget,
+            this.sharedProps,
+            this.sharedValues,
+            this.eTags,
+            this.compression,
+            this.rawJsonValidation,
+            this.versionGracePolicy,
+            renderObserver != null ? renderObserver : RenderObserver.none
+        );
+    }
+
     /**
      * Renders the response according to the Inertia protocol based on the incoming request and rendering options.
      * Handles full page loads, partial updates, and asset version conflicts.
+     * {@link java.util.concurrent.CompletionStage} props are awaited on the calling thread; use
+     * {@link #renderAsync(HttpRequest, InertiaRenderingOptions)} to avoid blocking on them.
      *
      * @param request The incoming HTTP request wrapper.
      * @param options rendering options containing component name, props, etc.
      * @return An {@link HttpResponse} object configured according to the Inertia protocol.
      * @throws SerializationException if the {@link PageObject} serialization fails.
+     * @throws PropResolutionException if a lazy prop times out under {@link PropFailurePolicy#FAIL}.
      */
     public HttpResponse render(
         HttpRequest request,
         InertiaRenderingOptions options
     ) throws SerializationException {
-        if (isVersionConflict(request)) {
+        String version = versionProvider.get();
+        if (isVersionConflict(request, version)) {
             return handleVersionConflictResponse(request, options);
         }
-        return handleSuccessResponse(request, options);
+        return handleSuccessResponse(request, options, version, false);
+    }
+
+    /**
+     * Renders the response like {@link #render(HttpRequest, InertiaRenderingOptions)}, but without blocking on
+     * {@link java.util.concurrent.CompletionStage} props. The request headers are read before this method returns;
+     * the props are then resolved, and the page object serialized, once every future among them has completed.
+     * Serialization runs on the prop executor when there is one.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options rendering options containing component name, props, etc.
+     * @return A stage completed with the {@link HttpResponse}, or failed with the serialization error or the
+     *         prop failure.
+     */
+    public CompletionStage<HttpResponse> renderAsync(
+        HttpRequest request,
+        InertiaRenderingOptions options
+    ) {
+        return renderAsync(request, options, propResolver.getExecutor());
+    }
+
+    /**
+     * Renders the response like {@link #renderAsync(HttpRequest, InertiaRenderingOptions)}, serializing the page
+     * object on the given executor. Adapters use it to keep serialization off threads that must not block, such as
+     * event loops.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options rendering options containing component name, props, etc.
+     * @param serializationExecutor executor the page object is serialized on, or {@code null} to serialize it on the
+     *                              thread that completes the last prop.
+     * @return A stage completed with the {@link HttpResponse}, or failed with the serialization error or the
+     *         prop failure.
+     */
+    public CompletionStage<HttpResponse> renderAsync(
+        HttpRequest request,
+        InertiaRenderingOptions options,
+        Executor serializationExecutor
+    ) {
+        String version = versionProvider.get();
+        if (isVersionConflict(request, version)) {
+            return CompletableFuture.completedFuture(handleVersionConflictResponse(request, options));
+        }
+
+        boolean inertiaRequest = isInertiaRequest(request);
+        PartialReload partialReload = PartialReload.of(request);
+        InertiaRenderingOptions pageOptions = pageOptions(request, options);
+        Map<String, Object> pageProps = pageProps(options, partialReload);
+        RenderObservation observation = startObservation(options, inertiaRequest, partialReload);
+        observeAvoidedConflict(request, version, observation);
+        String suppliedETag = suppliedETag(request, options, version, inertiaRequest, partialReload);
+        if (suppliedETag != null && EntityTags.matches(request.getHeader("If-None-Match"), suppliedETag)) {
+            observation.finished(304, 0, null);
+            return CompletableFuture.completedFuture(notModified(suppliedETag, options));
+        }
+        boolean gzip = acceptsGzip(request);
+        Function<Map<String, Object>, HttpResponse> respond = props -> {
+            HttpResponse response = handleSuccessResponse(
+                inertiaRequest,
+                pageObject(pageOptions, version, pageProps, props, partialReload),
+                serializedProps(partialReload, props),
+                false,
+                gzip,
+                observation
+            );
+            response = applyCachePolicy(request, options, response, suppliedETag, false);
+            observation.finished(response.getCode(), bodyLength(response), null);
+            return response;
+        };
+
+        PhaseObservation propsPhase = observation.startPhase(RenderPhase.PROPS, null);
+        CompletableFuture<Map<String, Object>> props = propResolver
+            .resolveAsync(pageProps, partialReload, observation)
+            .thenApply(this::validated)
+            .whenComplete((resolved, failure) -> propsPhase.end(failure != null ? PropResolver.unwrap(failure) : null));
+        CompletableFuture<HttpResponse> response = serializationExecutor != null
+            ? props.thenApplyAsync(respond, serializationExecutor)
+            : props.thenApply(respond);
+        if (observation == RenderObservation.none) return response;
+        return response.whenComplete((completed, failure) -> {
+            if (failure != null) observation.finished(0, 0, PropResolver.unwrap(failure));
+        });
+    }
+
+    /**
+     * Renders the response like {@link #render(HttpRequest, InertiaRenderingOptions)}, but without materializing
+     * the body. The page object is serialized, and the template rendered around it, only when
+     * {@link HttpResponse#writeBody(java.io.OutputStream)} is called with the response stream. Peak memory then
+     * depends on the buffer sizes of the serializer and the stream rather than on the size of the page.
+     * <p>
+     * Since the status code and headers are committed before the body is written, serialization errors raised
+     * while writing the body can no longer change the status of the response. For this reason, when payload budgets
+     * are set with the {@link PayloadBudgetPolicy#FAIL} policy, the body is materialized like
+     * {@link #render(HttpRequest, InertiaRenderingOptions)} does, so an oversized page fails the render rather than
+     * being sent truncated.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options rendering options containing component name, props, etc.
+     * @return An {@link HttpResponse} object with a streamed body, configured according to the Inertia protocol.
+     * @throws PayloadBudgetExceededException if a prop or the page object exceeds its budget under
+     *                                        {@link PayloadBudgetPolicy#FAIL}.
+     */
+    public HttpResponse renderStreaming(
+        HttpRequest request,
+        InertiaRenderingOptions options
+    ) {
+        String version = versionProvider.get();
+        if (isVersionConflict(request, version)) {
+            return handleVersionConflictResponse(request, options);
+        }
+        return handleSuccessResponse(request, options, version, !payloadBudget.failsRenders());
     }
 
     /**
@@ -84,8 +629,10 @@ public class InertiaRenderer {
         HttpRequest request,
         String location
     ) {
+        int code = isPutPatchDelete(request) ? 303 : 302;
+        observeBodilessResponse(null, location, RenderKind.REDIRECT, code);
         return new HttpResponse()
-            .setCode(isPutPatchDelete(request) ? 303 : 302)
+            .setCode(code)
             .setHeader("Location", location);
     }
 
@@ -97,6 +644,7 @@ public class InertiaRenderer {
      * @return An {@link HttpResponse} object configured for an external redirect.
      */
     public HttpResponse location(String url) {
+        observeBodilessResponse(null, url, RenderKind.LOCATION, 409);
         return new HttpResponse()
             .setCode(409)
             .setHeader("X-Inertia-Location", url);
@@ -104,16 +652,46 @@ public class InertiaRenderer {
 
     /**
      * Checks if the request indicates an asset version conflict.
-     * This happens on GET requests where the `X-Inertia-Version` header doesn't match the current asset version.
+     * This happens on GET requests where the `X-Inertia-Version` header doesn't match the current asset version,
+     * unless the version grace policy tolerates the version of the client.
      * @param request The incoming HTTP request.
+     * @param version The current asset version, or {@code null} if versioning is not used.
      * @return {@code true} if there's a version conflict, {@code false} otherwise.
      */
-    private boolean isVersionConflict(HttpRequest request) {
-        if (!request.getMethod().equalsIgnoreCase("GET")) return false;
+    private boolean isVersionConflict(HttpRequest request, String version) {
+        if (version != null) versionGracePolicy.publish(version);
+
+        String clientVersion = mismatchedClientVersion(request, version);
+
+        return clientVersion != null && !versionGracePolicy.accepts(version, clientVersion);
+    }
+
+    /**
+     * Gets the asset version of the client on GET requests where the `X-Inertia-Version` header doesn't match the
+     * current asset version.
+     * @param request The incoming HTTP request.
+     * @param version The current asset version, or {@code null} if versioning is not used.
+     * @return The asset version of the client, or {@code null} if it matches or isn't checked.
+     */
+    private static String mismatchedClientVersion(HttpRequest request, String version) {
+        if (version == null || !request.getMethod().equalsIgnoreCase("GET")) return null;
 
         String versionHeader = request.getHeader("X-Inertia-Version");
 
-        return versionHeader != null && !versionHeader.equals(versionProvider.get());
+        return versionHeader != null && !versionHeader.equals(version) ? versionHeader : null;
+    }
+
+    /**
+     * Reports a render served despite a mismatched client version, tolerated by the version grace policy.
+     * @param request The incoming HTTP request.
+     * @param version The current asset version.
+     * @param observation The observation of the render.
+     */
+    private static void observeAvoidedConflict(HttpRequest request, String version, RenderObservation observation) {
+        if (observation == RenderObservation.none) return;
+
+        String clientVersion = mismatchedClientVersion(request, version);
+        if (clientVersion != null) observation.versionConflictAvoided(clientVersion, version);
     }
 
     /**
@@ -127,85 +705,551 @@ public class InertiaRenderer {
         HttpRequest request,
         InertiaRenderingOptions options
     ) {
+        observeBodilessResponse(options.componentName, options.url, RenderKind.VERSION_CONFLICT, 409);
         return new HttpResponse()
             .setCode(409)
             .setHeader("X-Inertia-Location", options.url);
     }
 
     /**
-     * Handles a standard successful Inertia request (not a version conflict or redirect).
-     * Determines whether to return a full HTML response or a JSON response based on the `X-Inertia` header.
+     * Handles a standard successful Inertia request (not a version conflict or redirect), resolving the props on
+     * the calling thread.
      * @param request The incoming HTTP request.
      * @param options The rendering options.
+     * @param version The current asset version.
+     * @param streaming Whether the body should be written on demand instead of being materialized.
      * @return An {@link HttpResponse} containing either the full HTML page or the JSON PageObject.
      * @throws SerializationException if PageObject serialization fails.
      */
     private HttpResponse handleSuccessResponse(
         HttpRequest request,
-        InertiaRenderingOptions options
+        InertiaRenderingOptions options,
+        String version,
+        boolean streaming
     ) throws SerializationException {
-        var response = new HttpResponse();
+        boolean inertiaRequest = isInertiaRequest(request);
+        PartialReload partialReload = PartialReload.of(request);
+        RenderObservation observation = startObservation(options, inertiaRequest, partialReload);
+        observeAvoidedConflict(request, version, observation);
+        String suppliedETag = suppliedETag(request, options, version, inertiaRequest, partialReload);
+        if (suppliedETag != null && EntityTags.matches(request.getHeader("If-None-Match"), suppliedETag)) {
+            observation.finished(304, 0, null);
+            return notModified(suppliedETag, options);
+        }
+        try {
+            Map<String, Object> pageProps = pageProps(options, partialReload);
+            Map<String, Object> props;
+            PhaseObservation propsPhase = observation.startPhase(RenderPhase.PROPS, null);
+            try {
+                props = validated(propResolver.resolve(pageProps, partialReload, observation));
+            } catch (RuntimeException | Error e) {
+                propsPhase.end(e);
+                throw e;
+            }
+            propsPhase.end(null);
 
-        PageObject pageObject = pageObjectFromOptions(request, options);
-        String serializedPageObject = serializePageObject(request, pageObject);
+            PageObject pageObject = pageObject(
+                pageOptions(request, options),
+                version,
+                pageProps,
+                props,
+                partialReload
+            );
+            HttpResponse response = handleSuccessResponse(
+                inertiaRequest,
+                pageObject,
+                serializedProps(partialReload, props),
+                streaming,
+                acceptsGzip(request),
+                observation
+            );
+            response = applyCachePolicy(request, options, response, suppliedETag, streaming);
+            if (!streaming) observation.finished(response.getCode(), bodyLength(response), null);
+            return response;
+        } catch (RuntimeException | Error e) {
+            observation.finished(0, 0, e);
+            throw e;
+        }
+    }
 
-        String inertiaHeader = request.getHeader("X-Inertia");
-        if (inertiaHeader != null && inertiaHeader.equalsIgnoreCase("true")) {
+    /**
+     * Checks the raw JSON values among resolved props when {@link #withRawJsonValidation(boolean) validation} is
+     * enabled.
+     * @param props The resolved props.
+     * @return The same props.
+     * @throws SerializationException if a raw JSON value is malformed.
+     */
+    private Map<String, Object> validated(Map<String, Object> props) {
+        if (rawJsonValidation) RawJsonValidator.validate(props);
+        return props;
+    }
+
+    /**
+     * Builds the response for a standard successful Inertia request from its page object.
+     * Returns the JSON PageObject for Inertia requests, and the full HTML page otherwise.
+     * @param inertiaRequest Whether the request has the `X-Inertia` header.
+     * @param pageObject The page object, with its props resolved.
+     * @param partialDataProps The props included by a partial reload, or {@code null} to include all props.
+     * @param streaming Whether the body should be written on demand instead of being materialized.
+     * @param gzip Whether the body can be compressed with gzip.
+     * @param observation The observation notified of the serialization and template phases.
+     * @return An {@link HttpResponse} containing either the full HTML page or the JSON PageObject.
+     * @throws SerializationException if PageObject serialization fails.
+     */
+    private HttpResponse handleSuccessResponse(
+        boolean inertiaRequest,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        boolean streaming,
+        boolean gzip,
+        RenderObservation observation
+    ) throws SerializationException {
+        var response = new HttpResponse();
+
+        if (inertiaRequest) {
             response
                 .setHeader("Content-Type", "application/json")
-                .setHeader("X-Inertia", "true")
-                .setBody(serializedPageObject);
+                .setHeader("X-Inertia", "true");
         } else {
-            response
-                .setHeader("Content-Type", "text/html")
-                .setBody(templateRenderer.render(serializedPageObject));
+            response.setHeader("Content-Type", "text/html");
+        }
+        response.setHeader("Vary", vary());
+
+        if (streaming) {
+            if (gzip) response.setHeader("Content-Encoding", "gzip");
+            response.setBodyWriter(streamedBody(inertiaRequest, pageObject, partialDataProps, gzip, observation));
+        } else {
+            byte[] serializedPageObject = serialize(pageObject, partialDataProps, observation);
+            boolean compressed = gzip && serializedPageObject.length >= ResponseCompression.minBytes;
+            if (compressed) response.setHeader("Content-Encoding", "gzip");
+            if (!inertiaRequest) {
+                response.setBody(renderTemplate(serializedPageObject, compressed, observation));
+            } else if (compressed) {
+                int level = ResponseCompression.level(serializedPageObject.length);
+                response.setBody(ResponseCompression.gzip(serializedPageObject, level));
+            } else {
+                response.setBody(serializedPageObject);
+            }
         }
 
         return response.setCode(200);
     }
 
     /**
-     * Creates a {@link PageObject} instance from the provided rendering options.
-     * Checks for the `X-Inertia-Partial-Component` header to potentially modify props based on partial rendering requests.
+     * Serializes the page object to UTF-8 encoded JSON, as the serialization phase of the render.
+     * @param pageObject The page object, with its props resolved.
+     * @param partialDataProps The props included by a partial reload, or {@code null} to include all props.
+     * @param observation The observation of the render.
+     * @return The serialized page object.
+     * @throws SerializationException if PageObject serialization fails.
+     */
+    private byte[] serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        RenderObservation observation
+    ) throws SerializationException {
+        PropSizeListener propSizeListener = propSizeListener(pageObject.getComponent(), observation);
+        PhaseObservation phase = observation.startPhase(RenderPhase.SERIALIZATION, null);
+        byte[] serializedPageObject;
+        try {
+            serializedPageObject = propSizeListener != null
+                ? pageObjectSerializer.serializeToBytes(pageObject, partialDataProps, propSizeListener)
+                : pageObjectSerializer.serializeToBytes(pageObject, partialDataProps);
+        } catch (RuntimeException | Error e) {
+            phase.end(e);
+            throw e;
+        }
+        phase.end(null);
+        observation.serialized(serializedPageObject.length);
+        payloadBudget.checkPage(pageObject.getComponent(), serializedPageObject.length);
+        return serializedPageObject;
+    }
+
+    /**
+     * Renders the HTML template around the serialized page object, as the template phase of the render.
+     * @param serializedPageObject The serialized page object.
+     * @param gzip Whether to compress the page with gzip, at a level depending on the size of the page object.
+     * @param observation The observation of the render.
+     * @return The UTF-8 encoded HTML page, compressed if requested.
+     */
+    private byte[] renderTemplate(byte[] serializedPageObject, boolean gzip, RenderObservation observation) {
+        PhaseObservation phase = observation.startPhase(RenderPhase.TEMPLATE, null);
+        byte[] page;
+        try {
+            if (gzip) {
+                ByteArrayOutputStream compressedPage = new ByteArrayOutputStream(serializedPageObject.length / 4 + 256);
+                templateRenderer.renderGzip(
+                    json -> json.write(serializedPageObject),
+                    compressedPage,
+                    ResponseCompression.level(serializedPageObject.length)
+                );
+                page = compressedPage.toByteArray();
+            } else {
+                page = templateRenderer.renderToBytes(serializedPageObject);
+            }
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            phase.end(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException | Error e) {
+            phase.end(e);
+            throw e;
+        }
+        phase.end(null);
+        return page;
+    }
+
+    /**
+     * Creates the writer of a streamed response body: the serialized page object for Inertia requests, and the
+     * template rendered around it otherwise. When the render is observed or payload budgets are set, the bytes
+     * written are counted, and the render is reported as finished once the body is written.
+     * @param inertiaRequest Whether the request has the `X-Inertia` header.
+     * @param pageObject The page object, with its props resolved.
+     * @param partialDataProps The props included by a partial reload, or {@code null} to include all props.
+     * @param gzip Whether to compress the body with gzip.
+     * @param observation The observation of the render.
+     * @return The body writer.
+     */
+    private HttpResponse.BodyWriter streamedBody(
+        boolean inertiaRequest,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        boolean gzip,
+        RenderObservation observation
+    ) {
+        if (observation == RenderObservation.none && !payloadBudget.limitsProps() && !payloadBudget.limitsPages()) {
+            PageObjectWriter json = output -> pageObjectSerializer.serialize(pageObject, partialDataProps, output);
+            return output -> writeStreamedBody(inertiaRequest, json, gzip, output);
+        }
+
+        PropSizeListener propSizeListener = propSizeListener(pageObject.getComponent(), observation);
+        HttpResponse.BodyWriter json = output -> {
+            CountingOutputStream counted = new CountingOutputStream(output);
+            PhaseObservation phase = observation.startPhase(RenderPhase.SERIALIZATION, null);
+            try {
+                if (propSizeListener != null) {
+                    pageObjectSerializer.serialize(pageObject, partialDataProps, counted, propSizeListener);
+                } else {
+                    pageObjectSerializer.serialize(pageObject, partialDataProps, counted);
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                phase.end(e);
+                throw e;
+            }
+            phase.end(null);
+            observation.serialized(counted.getCount());
+            payloadBudget.checkPage(pageObject.getComponent(), counted.getCount());
+        };
+        HttpResponse.BodyWriter body = output -> {
+            if (inertiaRequest) {
+                writeStreamedBody(true, json::writeTo, gzip, output);
+                return;
+            }
+
+            // The template phase ends where the page object is written, so it does not overlap the serialization
+            AtomicReference<PhaseObservation> phase = new AtomicReference<>(
+                observation.startPhase(RenderPhase.TEMPLATE, null)
+            );
+            PageObjectWriter pageObjectJson = jsonOutput -> {
+                phase.getAndSet(PhaseObservation.none).end(null);
+                json.writeTo(jsonOutput);
+            };
+            try {
+                writeStreamedBody(false, pageObjectJson, gzip, output);
+            } catch (IOException | RuntimeException | Error e) {
+                phase.getAndSet(PhaseObservation.none).end(e);
+                throw e;
+            }
+            phase.getAndSet(PhaseObservation.none).end(null);
+        };
+        return output -> {
+            CountingOutputStream counted = new CountingOutputStream(output);
+            try {
+                body.writeTo(counted);
+            } catch (IOException | RuntimeException | Error e) {
+                observation.finished(200, counted.getCount(), e);
+                throw e;
+            }
+            observation.finished(200, counted.getCount(), null);
+        };
+    }
+
+    /**
+     * Writes the body of a streamed response: the page object JSON for Inertia requests, and the template rendered
+     * around it otherwise.
+     * @param inertiaRequest Whether the request has the `X-Inertia` header.
+     * @param json The writer producing the page object JSON.
+     * @param gzip Whether to compress the body with gzip.
+     * @param output The stream to write the body to.
+     * @throws IOException if writing to the stream fails.
+     */
+    private void writeStreamedBody(
+        boolean inertiaRequest,
+        PageObjectWriter json,
+        boolean gzip,
+        OutputStream output
+    ) throws IOException {
+        if (inertiaRequest) {
+            if (gzip) {
+                ResponseCompression.gzip(json, output, ResponseCompression.streamingLevel);
+            } else {
+                json.writeTo(output);
+            }
+        } else if (gzip) {
+            templateRenderer.renderGzip(json, output, ResponseCompression.streamingLevel);
+        } else {
+            templateRenderer.render(json, output);
+        }
+    }
+
+    /**
+     * Computes the tag of the response from the tag supplied with the rendering options, mixing in everything else
+     * the body depends on: the kind of response, the component, the URL, the asset version, the partial reload
+     * headers and the content coding.
      * @param request The incoming HTTP request.
      * @param options The rendering options.
-     * @return A configured {@link PageObject}.
+     * @param version The current asset version.
+     * @param inertiaRequest Whether the request has the `X-Inertia` header.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @return The quoted tag, or {@code null} if no tag was supplied or the request is not a GET or HEAD request.
      */
-    private PageObject pageObjectFromOptions(HttpRequest request, InertiaRenderingOptions options) {
+    private String suppliedETag(
+        HttpRequest request,
+        InertiaRenderingOptions options,
+        String version,
+        boolean inertiaRequest,
+        PartialReload partialReload
+    ) {
+        if (options.eTag == null || !isGetOrHead(request)) return null;
+
+        String representation = String.join(
+            "\n",
+            inertiaRequest ? "json" : "html",
+            options.componentName,
+            options.url,
+            Objects.toString(version, ""),
+            partialReload != null && partialReload.getOnly() != null ? String.join(",", partialReload.getOnly()) : "",
+            partialReload != null ? String.join(",", partialReload.getExcept()) : "",
+            Objects.toString(request.getHeader("X-Inertia-Partial-Component"), ""),
+            acceptsGzip(request) ? "gzip" : "identity"
+        );
+        return EntityTags.of(options.eTag, representation);
+    }
+
+    /**
+     * Applies the cache policy of the rendering options to a page response, and its tag if it has one. When the
+     * client already has the response, it is replaced with a 304 Not Modified response.
+     * @param request The incoming HTTP request.
+     * @param options The rendering options.
+     * @param response The page response.
+     * @param suppliedETag The tag computed from the tag supplied with the options, or {@code null}.
+     * @param streaming Whether the body is written on demand, in which case no tag can be computed from it.
+     * @return The response to send.
+     */
+    private HttpResponse applyCachePolicy(
+        HttpRequest request,
+        InertiaRenderingOptions options,
+        HttpResponse response,
+        String suppliedETag,
+        boolean streaming
+    ) {
+        if (options.cacheControl != null) response.setHeader("Cache-Control", options.cacheControl);
+
+        String eTag = suppliedETag;
+        if (eTag == null && eTags && !streaming && isGetOrHead(request)) {
+            eTag = EntityTags.of(response.getBodyBytes());
+        }
+        if (eTag == null) return response;
+        if (EntityTags.matches(request.getHeader("If-None-Match"), eTag)) return notModified(eTag, options);
+        return response.setHeader("ETag", eTag);
+    }
+
+    /**
+     * Creates a 304 Not Modified response, telling the client that the page it has is still current.
+     * @param eTag The tag of the page.
+     * @param options The rendering options.
+     * @return The response, without body.
+     */
+    private HttpResponse notModified(String eTag, InertiaRenderingOptions options) {
+        HttpResponse response = new HttpResponse()
+            .setCode(304)
+            .setHeader("ETag", eTag)
+            .setHeader("Vary", vary());
+        if (options.cacheControl != null) response.setHeader("Cache-Control", options.cacheControl);
+        return response;
+    }
+
+    /**
+     * Gets the value of the {@code Vary} header of page responses, which depend on the content codings accepted by
+     * the client when they are compressed.
+     */
+    private String vary() {
+        return compression ? varyHeaders + ", Accept-Encoding" : varyHeaders;
+    }
+
+    /**
+     * Checks whether the page response to a request is to be compressed with gzip.
+     * @param request The incoming HTTP request.
+     * @return {@code true} if compression is enabled and the request accepts gzip.
+     */
+    private boolean acceptsGzip(HttpRequest request) {
+        return compression && ResponseCompression.acceptsGzip(request.getHeader("Accept-Encoding"));
+    }
+
+    /**
+     * Gets the size of the body of a materialized response.
+     */
+    private static long bodyLength(HttpResponse response) {
+        return response.hasBody() ? response.getBodyBytes().length : 0;
+    }
+
+    /**
+     * Creates the listener receiving the size of each prop as the page object is serialized, reporting it to the
+     * observation and checking it against the prop budget.
+     * @param component The name of the rendered component.
+     * @param observation The observation of the render.
+     * @return The listener, or {@code null} if prop sizes are neither observed nor limited.
+     */
+    private PropSizeListener propSizeListener(String component, RenderObservation observation) {
+        if (observation == RenderObservation.none && !payloadBudget.limitsProps()) return null;
+
+        return (propName, bytes) -> {
+            observation.propSerialized(propName, bytes);
+            payloadBudget.checkProp(component, propName, bytes);
+        };
+    }
+
+    /**
+     * Starts the observation of a render producing a page.
+     * @param options The rendering options.
+     * @param inertiaRequest Whether the request has the `X-Inertia` header.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @return The observation of the render, {@link RenderObservation#none} if no observer records it.
+     */
+    private RenderObservation startObservation(
+        InertiaRenderingOptions options,
+        boolean inertiaRequest,
+        PartialReload partialReload
+    ) {
+        RenderKind kind;
+        if (!inertiaRequest) {
+            kind = RenderKind.HTML;
+        } else if (partialReload != null) {
+            kind = RenderKind.PARTIAL;
+        } else {
+            kind = RenderKind.JSON;
+        }
+        List<String> partialDataProps = null;
+        if (partialReload != null) {
+            partialDataProps = partialReload.getOnly() != null ? partialReload.getOnly() : List.of();
+        }
+        return observers.start(new RenderInfo(options.componentName, options.url, kind, partialDataProps));
+    }
+
+    /**
+     * Reports a response without body, such as a redirect, to the render observers.
+     * @param component The name of the component, or {@code null} for redirects.
+     * @param url The URL of the page, or the redirect location.
+     * @param kind The kind of response.
+     * @param code The status code of the response.
+     */
+    private void observeBodilessResponse(String component, String url, RenderKind kind, int code) {
+        observers.start(new RenderInfo(component, url, kind, null)).finished(code, 0, null);
+    }
+
+    /**
+     * Applies the `X-Inertia-Partial-Component` header, if present, to the rendering options.
+     * @param request The incoming HTTP request.
+     * @param options The rendering options.
+     * @return The options used to build the page object.
+     */
+    private InertiaRenderingOptions pageOptions(HttpRequest request, InertiaRenderingOptions options) {
         String partialComponentHeader = request.getHeader("X-Inertia-Partial-Component");
         if (partialComponentHeader != null) {
-            options = options.withPartialComponent(partialComponentHeader);
+            return options.withPartialComponent(partialComponentHeader);
+        }
+        return options;
+    }
+
+    /**
+     * Merges the shared props of the renderer and of the request with the props of the page, which take precedence.
+     * Shared props selected in part by a partial reload are passed unencoded, so the serializer can select their
+     * properties.
+     * @param options The rendering options.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @return The props of the page, can be null.
+     */
+    private Map<String, Object> pageProps(InertiaRenderingOptions options, PartialReload partialReload) {
+        if (sharedProps.isEmpty() && options.sharedProps == null) return options.props;
+
+        Map<String, Object> props = new HashMap<>(sharedProps);
+        if (partialReload != null) {
+            for (Map.Entry<String, Object> prop : sharedValues.entrySet()) {
+                if (partialReload.selection(prop.getKey()) != null) props.put(prop.getKey(), prop.getValue());
+            }
         }
+        if (options.sharedProps != null) props.putAll(options.sharedProps);
+        if (options.props != null) props.putAll(options.props);
+        return props;
+    }
+
+    /**
+     * Creates a {@link PageObject} instance from the rendering options and the resolved props.
+     * Deferred props are listed in the page object on full loads, and only resolved when requested by a partial reload.
+     * @param options The rendering options, with the partial component applied.
+     * @param version The current asset version.
+     * @param pageProps The props of the page, including shared props, before resolution.
+     * @param props The resolved props.
+     * @param partialReload The props selected by a partial reload, or {@code null} to include all props.
+     * @return A configured {@link PageObject}.
+     */
+    private PageObject pageObject(
+        InertiaRenderingOptions options,
+        String version,
+        Map<String, Object> pageProps,
+        Map<String, Object> props,
+        PartialReload partialReload
+    ) {
         return new PageObject(
             options.componentName,
-            options.props != null ? options.props : Map.of(),
+            props,
             options.url,
             options.encryptHistory,
             options.clearHistory,
-            versionProvider.get()
+            version,
+            partialReload == null ? propResolver.deferredGroups(pageProps) : null,
+            partialReload != null ? partialReload.selections(props.keySet()) : null
         );
     }
 
     /**
-     * Serializes the {@link PageObject} into a JSON string.
-     * Checks for the `X-Inertia-Partial-Data` header to determine if only a subset of props should be included in the JSON.
+     * Checks the `X-Inertia` header to determine whether the client expects a JSON PageObject.
      * @param request The incoming HTTP request.
-     * @param pageObject The PageObject to serialize.
-     * @return The JSON string representation of the PageObject.
-     * @throws SerializationException if serialization fails.
+     * @return {@code true} for Inertia requests, {@code false} for full page loads.
      */
-    private String serializePageObject(HttpRequest request, PageObject pageObject) throws SerializationException {
-        String partialDataHeader = request.getHeader("X-Inertia-Partial-Data");
+    private boolean isInertiaRequest(HttpRequest request) {
+        String inertiaHeader = request.getHeader("X-Inertia");
+        return inertiaHeader != null && inertiaHeader.equalsIgnoreCase("true");
+    }
 
-        List<String> partialDataProps = null;
-        if (partialDataHeader != null) {
-            partialDataProps = Arrays.stream(partialDataHeader.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
-        }
+    /**
+     * Lists the props passed to the serializer, which the props resolved for a partial reload are already limited to.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @param props The resolved props.
+     * @return The names of the props to serialize, or {@code null} if all props should be included.
+     */
+    private static List<String> serializedProps(PartialReload partialReload, Map<String, Object> props) {
+        return partialReload != null ? List.copyOf(props.keySet()) : null;
+    }
 
-        return pageObjectSerializer.serialize(pageObject, partialDataProps);
+    /**
+     * Checks if the HTTP request method is GET or HEAD, the methods conditional requests apply to.
+     * @param request The incoming HTTP request.
+     * @return {@code true} if the method is GET or HEAD, {@code false} otherwise.
+     */
+    private boolean isGetOrHead(HttpRequest request) {
+        String requestMethod = request.getMethod();
+        return requestMethod.equalsIgnoreCase("GET") || requestMethod.equalsIgnoreCase("HEAD");
     }
 
     /**
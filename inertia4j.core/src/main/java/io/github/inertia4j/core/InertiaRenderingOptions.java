@@ -11,6 +11,32 @@ public class InertiaRenderingOptions {
     final String url;
     final String componentName;
     final Map<String, Object> props;
+    final Map<String, Object> sharedProps;
+    final String eTag;
+    final String cacheControl;
+
+    /**
+     * Internal constructor used by the public constructor and the {@code with} methods.
+     */
+    private InertiaRenderingOptions(
+        boolean encryptHistory,
+        boolean clearHistory,
+        String url,
+        String componentName,
+        Map<String, Object> props,
+        Map<String, Object> sharedProps,
+        String eTag,
+        String cacheControl
+    ) {
+        this.encryptHistory = encryptHistory;
+        this.clearHistory = clearHistory;
+        this.url = url;
+        this.componentName = componentName;
+        this.props = props;
+        this.sharedProps = sharedProps;
+        this.eTag = eTag;
+        this.cacheControl = cacheControl;
+    }
 
     /**
      * Constructs a new set of rendering options.
@@ -28,11 +54,7 @@ public class InertiaRenderingOptions {
         String componentName,
         Map<String, Object> props
     ) {
-        this.encryptHistory = encryptHistory;
-        this.clearHistory = clearHistory;
-        this.url = url;
-        this.componentName = componentName;
-        this.props = props;
+        this(encryptHistory, clearHistory, url, componentName, props, null, null, null);
     }
 
     /**
@@ -49,7 +71,79 @@ public class InertiaRenderingOptions {
             this.clearHistory,
             this.url,
             component,
-            this.props
+            this.props,
+            this.sharedProps,
+            this.eTag,
+            this.cacheControl
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderingOptions} instance with props shared by the current request, such as the
+     * authenticated user or flash messages, typically collected by middleware before the handler renders the page.
+     * They are merged with the {@link InertiaRenderer#withSharedProps(Map) shared props of the renderer}, and the
+     * props of the page take precedence over both. Like page props, they can be lazy, and are left out by partial
+     * reloads that don't request them.
+     *
+     * @param sharedProps The props shared by the request, can be null.
+     * @return A new {@code InertiaRenderingOptions} instance with the given shared props.
+     */
+    public InertiaRenderingOptions withSharedProps(Map<String, Object> sharedProps) {
+        return new InertiaRenderingOptions(
+            this.encryptHistory,
+            this.clearHistory,
+            this.url,
+            this.componentName,
+            this.props,
+            sharedProps,
+            this.eTag,
+            this.cacheControl
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderingOptions} instance with a tag identifying the state of the page, such as
+     * a revision number or a last modification time. GET requests whose {@code If-None-Match} header matches the
+     * page are answered with 304 Not Modified before any prop is resolved. The tag is combined with the kind of
+     * response, the partial reload headers and the asset version, so it only needs to change with the data of the
+     * page.
+     *
+     * @param eTag The tag of the page, or {@code null} to let the renderer compute one if enabled with
+     *             {@link InertiaRenderer#withETags(boolean)}.
+     * @return A new {@code InertiaRenderingOptions} instance with the given tag.
+     */
+    public InertiaRenderingOptions withETag(String eTag) {
+        return new InertiaRenderingOptions(
+            this.encryptHistory,
+            this.clearHistory,
+            this.url,
+            this.componentName,
+            this.props,
+            this.sharedProps,
+            eTag,
+            this.cacheControl
+        );
+    }
+
+    /**
+     * Creates a new {@code InertiaRenderingOptions} instance with the {@code Cache-Control} header sent with the
+     * page, for instance {@code "private, no-cache"} to have browsers revalidate the page with its tag on every visit,
+     * or {@code "public, max-age=60"} to let shared caches store it. Responses vary on the Inertia request headers,
+     * so caches keep the HTML and JSON responses apart.
+     *
+     * @param cacheControl The value of the {@code Cache-Control} header, or {@code null} not to send one.
+     * @return A new {@code InertiaRenderingOptions} instance with the given cache policy.
+     */
+    public InertiaRenderingOptions withCacheControl(String cacheControl) {
+        return new InertiaRenderingOptions(
+            this.encryptHistory,
+            this.clearHistory,
+            this.url,
+            this.componentName,
+            this.props,
+            this.sharedProps,
+            this.eTag,
+            cacheControl
         );
     }
 }
@@ -1,44 +1,503 @@
 package io.github.inertia4j.core;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.inertia4j.spi.LazyProp;
 import io.github.inertia4j.spi.PageObject;
 import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.PropSelection;
+import io.github.inertia4j.spi.PropSizeListener;
+import io.github.inertia4j.spi.RawJson;
 import io.github.inertia4j.spi.SerializationException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
 
 /**
  * {@link PageObjectSerializer} implementation using Jackson for JSON serialization.
+ * <p>
+ * The page object is written field by field with a {@link JsonGenerator}, so props are streamed straight to the
+ * output instead of being materialized as an intermediate {@code JsonNode} tree first.
  */
 public class JacksonPageObjectSerializer implements PageObjectSerializer {
     /**
      * The Jackson ObjectMapper instance used for serialization.
-     * Configured to order map entries by keys for consistent output.
+     * Configured to order map entries by keys for consistent output, not to flush the generator after
+     * every prop value, and to copy {@link RawJson} values verbatim.
      */
     private final ObjectMapper objectMapper = new ObjectMapper()
-        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+        .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
+        .registerModule(new SimpleModule().addSerializer(RawJson.class, new RawJsonSerializer()));
 
     /**
      * {@inheritDoc}
      * <p>
      * If {@code partialDataProps} is provided, only the properties specified in the list
-     * will be included under the "props" key in the resulting JSON.
+     * will be included under the "props" key in the resulting JSON. Props left out are skipped
+     * before serialization, so their values are never visited.
      *
      */
     @Override
     public String serialize(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        SegmentedStringWriter writer = new SegmentedStringWriter(new BufferRecycler());
         try {
-            ObjectNode tree = objectMapper.valueToTree(pageObject);
-            if (partialDataProps != null) {
-                ObjectNode propsNode = (ObjectNode) tree.get("props");
-                propsNode.retain(partialDataProps);
+            try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+                writePageObject(generator, pageObject, partialDataProps, null, null);
             }
-            return objectMapper.writeValueAsString(tree);
+            return writer.getAndClear();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JSON is encoded to UTF-8 by the generator as it is written, without an intermediate String.
+     */
+    @Override
+    public byte[] serializeToBytes(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        return serializeToBytes(pageObject, partialDataProps, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Prop sizes are measured from the position of the generator before and after each prop, without extra copies.
+     */
+    @Override
+    public byte[] serializeToBytes(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws SerializationException {
+        ByteArrayBuilder output = new ByteArrayBuilder();
+        try {
+            try (JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8)) {
+                writePageObject(
+                    generator,
+                    pageObject,
+                    partialDataProps,
+                    propSizeListener,
+                    () -> output.size() + generator.getOutputBuffered()
+                );
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The generator writes through its own small buffer to the given stream, so memory use does not depend on
+     * the size of the page object.
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output
+    ) throws IOException, SerializationException {
+        serialize(pageObject, partialDataProps, output, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Prop sizes are measured from the bytes written to the stream and the bytes still buffered by the generator.
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output,
+        PropSizeListener propSizeListener
+    ) throws IOException, SerializationException {
+        CountingOutputStream countingOutput = propSizeListener != null ? new CountingOutputStream(output) : null;
+        try (JsonGenerator generator = objectMapper.createGenerator(
+            countingOutput != null ? countingOutput : output,
+            JsonEncoding.UTF8
+        )) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writePageObject(
+                generator,
+                pageObject,
+                partialDataProps,
+                propSizeListener,
+                countingOutput != null ? () -> countingOutput.getCount() + generator.getOutputBuffered() : null
+            );
+        } catch (JsonProcessingException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is serialized once, and its UTF-8 encoding is copied verbatim into each page object it is part of.
+     */
+    @Override
+    public Object preEncode(Object value) throws SerializationException {
+        try {
+            return new PreEncodedValue(objectMapper.writeValueAsString(value));
         } catch (JsonProcessingException e) {
             throw new SerializationException(e);
         }
     }
+
+    /**
+     * Writes the page object fields in the order defined by the Inertia protocol documentation.
+     * The {@code deferredProps} field is only written when the page has deferred props.
+     * @param generator The generator to write to.
+     * @param pageObject The page object to write.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @param propSizeListener Listener notified of the size of each prop, or {@code null} not to measure props.
+     * @param position Supplier of the number of bytes written so far, used when measuring props.
+     * @throws IOException if writing fails.
+     */
+    private void writePageObject(
+        JsonGenerator generator,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener,
+        LongSupplier position
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("component", pageObject.getComponent());
+        generator.writeFieldName("props");
+        writeProps(generator, pageObject, partialDataProps, propSizeListener, position);
+        generator.writeStringField("url", pageObject.getUrl());
+        generator.writeFieldName("version");
+        objectMapper.writeValue(generator, pageObject.getVersion());
+        generator.writeBooleanField("encryptHistory", pageObject.isEncryptHistory());
+        generator.writeBooleanField("clearHistory", pageObject.isClearHistory());
+        if (pageObject.getDeferredProps() != null && !pageObject.getDeferredProps().isEmpty()) {
+            generator.writeFieldName("deferredProps");
+            objectMapper.writeValue(generator, pageObject.getDeferredProps());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the props object, sorted by key, skipping any prop not listed in {@code partialDataProps}.
+     * {@link LazyProp} values that were not resolved by the renderer are evaluated here, only if they are written.
+     * Values returned by {@link #preEncode(Object)} are copied verbatim, and props selected in part by a partial
+     * reload are written through a filter leaving out the properties not selected.
+     * @param generator The generator to write to.
+     * @param pageObject The page object, whose props can be null.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @param propSizeListener Listener notified of the size of each prop, or {@code null} not to measure props.
+     * @param position Supplier of the number of bytes written so far, used when measuring props.
+     * @throws IOException if writing fails.
+     */
+    private void writeProps(
+        JsonGenerator generator,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener,
+        LongSupplier position
+    ) throws IOException {
+        Map<String, Object> props = pageObject.getProps();
+        boolean measured = propSizeListener != null && position != null;
+        generator.writeStartObject();
+        if (props != null) {
+            for (String key : includedKeys(props, partialDataProps)) {
+                Object value = props.get(key);
+                if (value instanceof LazyProp) {
+                    value = ((LazyProp) value).resolve();
+                }
+                long start = measured ? position.getAsLong() : 0;
+                generator.writeFieldName(key);
+                PropSelection selection = pageObject.getPropSelection(key);
+                if (value instanceof PreEncodedValue) {
+                    generator.writeRawValue(((PreEncodedValue) value).json);
+                } else if (selection != null) {
+                    objectMapper.writeValue(
+                        new FilteringGeneratorDelegate(
+                            generator,
+                            new SelectionFilter(selection),
+                            TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH,
+                            true
+                        ),
+                        value
+                    );
+                } else {
+                    objectMapper.writeValue(generator, value);
+                }
+                if (measured) propSizeListener.propSerialized(key, position.getAsLong() - start);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Selects the keys of the props that should be written, in sorted order.
+     * @param props The props map.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @return The sorted keys to write.
+     */
+    private static List<String> includedKeys(Map<String, Object> props, List<String> partialDataProps) {
+        List<String> keys;
+        if (partialDataProps == null) {
+            keys = new ArrayList<>(props.keySet());
+        } else {
+            Set<String> requested = new HashSet<>(partialDataProps);
+            keys = new ArrayList<>(Math.min(requested.size(), props.size()));
+            for (String key : props.keySet()) {
+                if (requested.contains(key)) keys.add(key);
+            }
+        }
+        Collections.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Prop value serialized ahead of time by {@link #preEncode(Object)}.
+     */
+    private static final class PreEncodedValue {
+        private final SerializableString json;
+
+        /**
+         * Constructs a pre-encoded value, encoding the JSON to UTF-8 right away.
+         * @param json The serialized value.
+         */
+        PreEncodedValue(String json) {
+            this.json = new SerializedString(json);
+            this.json.asUnquotedUTF8();
+        }
+    }
+
+    /**
+     * Token filter writing the properties of objects included by a {@link PropSelection}, and the elements of
+     * arrays with the same selection. Objects and arrays left empty are still written.
+     */
+    private static final class SelectionFilter extends TokenFilter {
+        private final PropSelection selection;
+
+        /**
+         * Constructs a SelectionFilter.
+         * @param selection The properties written.
+         */
+        SelectionFilter(PropSelection selection) {
+            this.selection = selection;
+        }
+
+        /**
+         * Filters a property by name, applying its nested selection to its value.
+         */
+        @Override
+        public TokenFilter includeProperty(String name) {
+            if (!selection.includes(name)) return null;
+            PropSelection nested = selection.get(name);
+            return nested != null ? new SelectionFilter(nested) : TokenFilter.INCLUDE_ALL;
+        }
+
+        /**
+         * Writes objects whose properties were all left out as empty objects.
+         */
+        @Override
+        public boolean includeEmptyObject(boolean contentsFiltered) {
+            return true;
+        }
+
+        /**
+         * Writes arrays whose elements were all left out as empty arrays.
+         */
+        @Override
+        public boolean includeEmptyArray(boolean contentsFiltered) {
+            return true;
+        }
+    }
+
+    /**
+     * Writes {@link RawJson} values verbatim, without parsing them, wherever they appear in the props.
+     */
+    private static final class RawJsonSerializer extends StdSerializer<RawJson> {
+        /**
+         * Constructs a RawJsonSerializer.
+         */
+        RawJsonSerializer() {
+            super(RawJson.class);
+        }
+
+        /**
+         * Writes the JSON of the value as is. UTF-8 generators copy its bytes, and generators writing text copy its
+         * text, so the value is only converted when it was created in the other form.
+         */
+        @Override
+        public void serialize(RawJson value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeRawValue(new RawJsonString(value));
+        }
+    }
+
+    /**
+     * {@link SerializableString} view of a {@link RawJson} value, for {@link JsonGenerator#writeRawValue}. The
+     * unquoted UTF-8 form is the encoded JSON of the value, and the other forms are derived from its text, both
+     * converted at most once.
+     */
+    private static final class RawJsonString implements SerializableString {
+        private final RawJson value;
+        private byte[] utf8;
+        private SerializedString text;
+
+        /**
+         * Constructs a RawJsonString.
+         * @param value The raw JSON value.
+         */
+        RawJsonString(RawJson value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets the UTF-8 encoded JSON of the value.
+         */
+        private byte[] utf8() {
+            if (utf8 == null) utf8 = value.getBytes();
+            return utf8;
+        }
+
+        /**
+         * Gets the JSON text of the value.
+         */
+        private SerializedString text() {
+            if (text == null) text = new SerializedString(value.getJson());
+            return text;
+        }
+
+        /**
+         * Gets the JSON text.
+         */
+        @Override
+        public String getValue() {
+            return text().getValue();
+        }
+
+        /**
+         * Gets the length of the JSON text.
+         */
+        @Override
+        public int charLength() {
+            return text().charLength();
+        }
+
+        /**
+         * Gets the JSON text quoted as a JSON string.
+         */
+        @Override
+        public char[] asQuotedChars() {
+            return text().asQuotedChars();
+        }
+
+        /**
+         * Gets the UTF-8 encoded JSON, which generators copy verbatim.
+         */
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8();
+        }
+
+        /**
+         * Gets the JSON text quoted as a JSON string, encoded to UTF-8.
+         */
+        @Override
+        public byte[] asQuotedUTF8() {
+            return text().asQuotedUTF8();
+        }
+
+        /**
+         * Appends the quoted UTF-8 form to a buffer, if it fits.
+         */
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return text().appendQuotedUTF8(buffer, offset);
+        }
+
+        /**
+         * Appends the quoted text to a buffer, if it fits.
+         */
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return text().appendQuoted(buffer, offset);
+        }
+
+        /**
+         * Copies the UTF-8 encoded JSON to a buffer, if it fits.
+         */
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            byte[] bytes = utf8();
+            if (offset + bytes.length > buffer.length) return -1;
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            return bytes.length;
+        }
+
+        /**
+         * Appends the JSON text to a buffer, if it fits.
+         */
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return text().appendUnquoted(buffer, offset);
+        }
+
+        /**
+         * Writes the quoted UTF-8 form to a stream.
+         */
+        @Override
+        public int writeQuotedUTF8(OutputStream output) throws IOException {
+            return text().writeQuotedUTF8(output);
+        }
+
+        /**
+         * Writes the UTF-8 encoded JSON to a stream.
+         */
+        @Override
+        public int writeUnquotedUTF8(OutputStream output) throws IOException {
+            byte[] bytes = utf8();
+            output.write(bytes);
+            return bytes.length;
+        }
+
+        /**
+         * Puts the quoted UTF-8 form in a buffer, if it fits.
+         */
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return text().putQuotedUTF8(buffer);
+        }
+
+        /**
+         * Puts the UTF-8 encoded JSON in a buffer, if it fits.
+         */
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            byte[] bytes = utf8();
+            if (bytes.length > buffer.remaining()) return -1;
+            buffer.put(bytes);
+            return bytes.length;
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package io.github.inertia4j.core;
+
+import jdk.jfr.EventType;
+
+/**
+ * {@link RenderObserver} emitting a {@link RenderEvent} to JDK Flight Recorder for every render. Registered by
+ * every {@link InertiaRenderer}, in addition to the configured observer, when the {@code jdk.jfr} module is present.
+ * <p>
+ * When no recording enables the event, renders are not observed at all, so the overhead is a single check of the
+ * event type, without allocating an event.
+ */
+final class JfrRenderObserver implements RenderObserver {
+    /**
+     * The shared instance, as the observer is stateless.
+     */
+    static final JfrRenderObserver instance = new JfrRenderObserver();
+
+    private static final EventType eventType = EventType.getEventType(RenderEvent.class);
+
+    private JfrRenderObserver() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderObservation start(RenderInfo render) {
+        if (!eventType.isEnabled()) return RenderObservation.none;
+
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        return new JfrRenderObservation(event, render);
+    }
+
+    /**
+     * Observation filling the event of a single render, committed when the render finishes.
+     * The phases recorded here run one after another, possibly on different threads, so no synchronization is
+     * needed beyond the ordering provided by the renderer.
+     */
+    private static class JfrRenderObservation implements RenderObservation {
+        private final RenderEvent event;
+        private final RenderInfo render;
+
+        /**
+         * Constructs an observation for the given render.
+         * @param event The event of the render, already begun.
+         * @param render The observed render.
+         */
+        JfrRenderObservation(RenderEvent event, RenderInfo render) {
+            this.event = event;
+            this.render = render;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PhaseObservation startPhase(RenderPhase phase, String propName) {
+            long start = System.nanoTime();
+            switch (phase) {
+                case PROPS:
+                    return failure -> event.propsTime = System.nanoTime() - start;
+                case SERIALIZATION:
+                    return failure -> event.serializationTime = System.nanoTime() - start;
+                case TEMPLATE:
+                    return failure -> event.templateTime = System.nanoTime() - start;
+                default:
+                    return PhaseObservation.none;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            event.clientVersion = clientVersion;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialized(long bytes) {
+            event.pageObjectSize = bytes;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void finished(int status, long bodyBytes, Throwable failure) {
+            event.end();
+            if (!event.shouldCommit()) return;
+
+            event.component = render.getComponent();
+            event.url = render.getUrl();
+            event.kind = render.getKind().name();
+            event.partialData = render.getPartialDataProps() != null
+                ? String.join(",", render.getPartialDataProps())
+                : null;
+            event.versionConflict = render.getKind() == RenderKind.VERSION_CONFLICT;
+            event.status = status;
+            event.bodySize = bodyBytes;
+            event.failure = failure != null ? failure.getClass().getName() : null;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.inertia4j.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import java.util.Locale;
+
+/**
+ * {@link RenderObserver} recording Micrometer metrics for every render:
+ * <ul>
+ *     <li>{@code inertia.render}: timer of whole renders, tagged with the component, the kind of response, the
+ *     status code and the exception class, if any.</li>
+ *     <li>{@code inertia.render.phase}: timer of the props, serialization and template phases of renders, tagged
+ *     with the component, the kind of response and the phase.</li>
+ *     <li>{@code inertia.render.prop}: timer of each lazy or asynchronous prop, tagged with the component and the
+ *     prop name.</li>
+ *     <li>{@code inertia.render.payload}: distribution of the size of serialized page objects, in bytes, tagged
+ *     with the component and the kind of response.</li>
+ *     <li>{@code inertia.render.prop.payload}: distribution of the size of each serialized prop, in bytes, tagged
+ *     with the component and the prop name, when the serializer measures props.</li>
+ *     <li>{@code inertia.render.version.conflicts.avoided}: counter of renders served to clients with another asset
+ *     version, tolerated by the {@link VersionGracePolicy}, tagged with the component and the kind of response.</li>
+ * </ul>
+ * Tags only use values defined by the application, never request headers, so their cardinality is bounded by the
+ * number of components and props. Redirects are tagged with the component {@code none}.
+ * <p>
+ * Requires {@code io.micrometer:micrometer-core} on the classpath.
+ */
+public class MicrometerRenderObserver implements RenderObserver {
+    private static final String renderTimerName = "inertia.render";
+    private static final String phaseTimerName = "inertia.render.phase";
+    private static final String propTimerName = "inertia.render.prop";
+    private static final String payloadSummaryName = "inertia.render.payload";
+    private static final String propPayloadSummaryName = "inertia.render.prop.payload";
+    private static final String avoidedConflictsCounterName = "inertia.render.version.conflicts.avoided";
+    private static final String noTag = "none";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructs a MicrometerRenderObserver.
+     * @param registry The registry the metrics are recorded in.
+     */
+    public MicrometerRenderObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderObservation start(RenderInfo render) {
+        return new MicrometerRenderObservation(render);
+    }
+
+    /**
+     * Gets the value of the {@code exception} tag for a failure.
+     * @param failure The failure, or {@code null}.
+     * @return The simple class name of the failure, or {@code none}.
+     */
+    private static String exceptionTag(Throwable failure) {
+        return failure != null ? failure.getClass().getSimpleName() : noTag;
+    }
+
+    /**
+     * Observation of a single render, timed from its start.
+     */
+    private class MicrometerRenderObservation implements RenderObservation {
+        private final Timer.Sample sample = Timer.start(registry);
+        private final Tags componentTags;
+        private final String kind;
+
+        /**
+         * Constructs an observation for the given render.
+         * @param render The observed render.
+         */
+        MicrometerRenderObservation(RenderInfo render) {
+            this.componentTags = Tags.of("component", render.getComponent() != null ? render.getComponent() : noTag);
+            this.kind = render.getKind().name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PhaseObservation startPhase(RenderPhase phase, String propName) {
+            Timer.Sample phaseSample = Timer.start(registry);
+            if (phase == RenderPhase.PROP) {
+                return failure -> phaseSample.stop(
+                    Timer.builder(propTimerName)
+                        .description("Time taken to resolve lazy and asynchronous Inertia props")
+                        .tags(componentTags.and("prop", propName, "exception", exceptionTag(failure)))
+                        .register(registry)
+                );
+            }
+            return failure -> phaseSample.stop(
+                Timer.builder(phaseTimerName)
+                    .description("Time taken by the phases of Inertia renders")
+                    .tags(componentTags.and("kind", kind, "phase", phase.name().toLowerCase(Locale.ROOT)))
+                    .register(registry)
+            );
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            Counter.builder(avoidedConflictsCounterName)
+                .description("Renders served to clients with another asset version, tolerated by the grace policy")
+                .tags(componentTags.and("kind", kind))
+                .register(registry)
+                .increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void propSerialized(String propName, long bytes) {
+            DistributionSummary.builder(propPayloadSummaryName)
+                .description("Size of serialized Inertia props")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(componentTags.and("prop", propName))
+                .register(registry)
+                .record(bytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialized(long bytes) {
+            DistributionSummary.builder(payloadSummaryName)
+                .description("Size of serialized Inertia page objects")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(componentTags.and("kind", kind))
+                .register(registry)
+                .record(bytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void finished(int status, long bodyBytes, Throwable failure) {
+            sample.stop(
+                Timer.builder(renderTimerName)
+                    .description("Time taken by Inertia renders and redirects")
+                    .tags(componentTags.and(
+                        "kind", kind,
+                        "status", status != 0 ? String.valueOf(status) : noTag,
+                        "exception", exceptionTag(failure)
+                    ))
+                    .register(registry)
+            );
+        }
+    }
+}
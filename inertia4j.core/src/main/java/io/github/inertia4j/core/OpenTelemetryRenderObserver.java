@@ -0,0 +1,188 @@
+package io.github.inertia4j.core;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link RenderObserver} recording OpenTelemetry spans for renders. Each render gets a span, a child of the span
+ * current on the thread calling the renderer, with child spans for prop resolution, serialization and template
+ * rendering. Prop resolution has a child span for each lazy or asynchronous prop, current on the thread evaluating
+ * the prop, so calls made by the prop to other services show up under it.
+ * <p>
+ * Render spans have the following attributes: {@code inertia.component}, {@code inertia.kind},
+ * {@code inertia.partial_data} for partial reloads, {@code inertia.client_version} for clients with another asset
+ * version tolerated by the {@link VersionGracePolicy}, {@code inertia.page_object.size} in bytes,
+ * {@code http.response.status_code} and {@code http.response.body.size}.
+ * <p>
+ * Requires {@code io.opentelemetry:opentelemetry-api} on the classpath.
+ */
+public class OpenTelemetryRenderObserver implements RenderObserver {
+    private static final String instrumentationScopeName = "io.github.inertia4j";
+    private static final AttributeKey<String> componentAttribute = AttributeKey.stringKey("inertia.component");
+    private static final AttributeKey<String> kindAttribute = AttributeKey.stringKey("inertia.kind");
+    private static final AttributeKey<List<String>> partialDataAttribute =
+        AttributeKey.stringArrayKey("inertia.partial_data");
+    private static final AttributeKey<String> clientVersionAttribute = AttributeKey.stringKey("inertia.client_version");
+    private static final AttributeKey<String> propAttribute = AttributeKey.stringKey("inertia.prop");
+    private static final AttributeKey<Long> pageObjectSizeAttribute = AttributeKey.longKey("inertia.page_object.size");
+    private static final AttributeKey<Long> statusCodeAttribute = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<Long> bodySizeAttribute = AttributeKey.longKey("http.response.body.size");
+
+    private final Tracer tracer;
+
+    /**
+     * Constructs an OpenTelemetryRenderObserver.
+     * @param openTelemetry The OpenTelemetry instance the spans are recorded with.
+     */
+    public OpenTelemetryRenderObserver(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(instrumentationScopeName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderObservation start(RenderInfo render) {
+        String kind = render.getKind().name().toLowerCase(Locale.ROOT);
+        var spanBuilder = tracer
+            .spanBuilder(render.getComponent() != null ? "render " + render.getComponent() : kind)
+            .setSpanKind(SpanKind.INTERNAL)
+            .setAttribute(kindAttribute, kind);
+        if (render.getComponent() != null) {
+            spanBuilder.setAttribute(componentAttribute, render.getComponent());
+        }
+        if (render.getPartialDataProps() != null) {
+            spanBuilder.setAttribute(partialDataAttribute, render.getPartialDataProps());
+        }
+        Span span = spanBuilder.startSpan();
+        return new OpenTelemetryRenderObservation(span, Context.current().with(span));
+    }
+
+    /**
+     * Ends a span, recording the failure if there is one.
+     * @param span The span to end.
+     * @param failure The exception that failed the spanned work, or {@code null}.
+     */
+    private static void end(Span span, Throwable failure) {
+        if (failure != null) {
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    /**
+     * Observation of a single render, holding its span.
+     */
+    private class OpenTelemetryRenderObservation implements RenderObservation {
+        private final Span span;
+        private final Context context;
+        private volatile Context propsContext;
+
+        /**
+         * Constructs an observation for the render with the given span.
+         * @param span The span of the render.
+         * @param context The context child spans are created in.
+         */
+        OpenTelemetryRenderObservation(Span span, Context context) {
+            this.span = span;
+            this.context = context;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PhaseObservation startPhase(RenderPhase phase, String propName) {
+            Span phaseSpan;
+            switch (phase) {
+                case PROP:
+                    Context parent = propsContext != null ? propsContext : context;
+                    phaseSpan = tracer.spanBuilder("resolve prop " + propName)
+                        .setParent(parent)
+                        .setAttribute(propAttribute, propName)
+                        .startSpan();
+                    break;
+                case PROPS:
+                    phaseSpan = tracer.spanBuilder("resolve props").setParent(context).startSpan();
+                    propsContext = context.with(phaseSpan);
+                    break;
+                case SERIALIZATION:
+                    phaseSpan = tracer.spanBuilder("serialize page object").setParent(context).startSpan();
+                    break;
+                default:
+                    phaseSpan = tracer.spanBuilder("render template").setParent(context).startSpan();
+                    break;
+            }
+            return new OpenTelemetryPhaseObservation(phaseSpan);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            span.setAttribute(clientVersionAttribute, clientVersion);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialized(long bytes) {
+            span.setAttribute(pageObjectSizeAttribute, bytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void finished(int status, long bodyBytes, Throwable failure) {
+            if (status != 0) {
+                span.setAttribute(statusCodeAttribute, (long) status);
+                span.setAttribute(bodySizeAttribute, bodyBytes);
+            }
+            end(span, failure);
+        }
+    }
+
+    /**
+     * Observation of a phase of a render, holding its span.
+     */
+    private static class OpenTelemetryPhaseObservation implements PhaseObservation {
+        private final Span span;
+
+        /**
+         * Constructs an observation for the phase with the given span.
+         * @param span The span of the phase.
+         */
+        OpenTelemetryPhaseObservation(Span span) {
+            this.span = span;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PhaseObservation.Scope makeCurrent() {
+            io.opentelemetry.context.Scope scope = span.makeCurrent();
+            return scope::close;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void end(Throwable failure) {
+            OpenTelemetryRenderObserver.end(span, failure);
+        }
+    }
+}
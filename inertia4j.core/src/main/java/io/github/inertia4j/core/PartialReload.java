@@ -0,0 +1,178 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.PropSelection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selection of the props of a partial reload, from the {@code X-Inertia-Partial-Data} and
+ * {@code X-Inertia-Partial-Except} headers. Used internally by {@link InertiaRenderer} and {@link PropResolver}.
+ * <p>
+ * Both headers list props by name, or by dot-separated path to select a branch of a prop, such as
+ * {@code users.data}. Only the listed props are included, and the excluded props are then left out. Top-level
+ * props are selected before they are resolved, so lazy props left out are never evaluated. Paths into a prop are
+ * passed to the serializer as a {@link PropSelection}, which writes only the selected entries of maps and
+ * properties of records and beans, at any depth.
+ */
+final class PartialReload {
+    private final List<String> only;
+    private final List<String> except;
+    private final Path onlyPaths;
+    private final Path exceptPaths;
+
+    /**
+     * Constructs a PartialReload.
+     * @param only The paths of the props to include, or {@code null} to include all props.
+     * @param except The paths of the props to leave out.
+     */
+    private PartialReload(List<String> only, List<String> except) {
+        this.only = only;
+        this.except = except;
+        this.onlyPaths = only != null ? Path.of(only) : null;
+        this.exceptPaths = Path.of(except);
+    }
+
+    /**
+     * Reads the partial reload headers of a request.
+     * @param request The incoming HTTP request.
+     * @return The selection, or {@code null} if the request is not a partial reload.
+     */
+    static PartialReload of(HttpRequest request) {
+        String onlyHeader = request.getHeader("X-Inertia-Partial-Data");
+        String exceptHeader = request.getHeader("X-Inertia-Partial-Except");
+        if (onlyHeader == null && exceptHeader == null) return null;
+
+        return new PartialReload(
+            onlyHeader != null ? paths(onlyHeader) : null,
+            exceptHeader != null ? paths(exceptHeader) : List.of()
+        );
+    }
+
+    /**
+     * Gets the paths listed by the {@code X-Inertia-Partial-Data} header.
+     * @return The paths of the props to include, or {@code null} if the header is absent.
+     */
+    List<String> getOnly() {
+        return only;
+    }
+
+    /**
+     * Gets the paths listed by the {@code X-Inertia-Partial-Except} header.
+     * @return The paths of the props to leave out, empty if the header is absent.
+     */
+    List<String> getExcept() {
+        return except;
+    }
+
+    /**
+     * Checks whether a top-level prop is included, at least in part.
+     * @param key The name of the prop.
+     * @return {@code true} if the prop is included.
+     */
+    boolean includes(String key) {
+        if (onlyPaths != null && !onlyPaths.children.containsKey(key)) return false;
+
+        Path excluded = exceptPaths.children.get(key);
+        return excluded == null || !excluded.whole;
+    }
+
+    /**
+     * Gets the selections of the props written in part, listed by nested paths.
+     * @param keys The names of the included props.
+     * @return The selections by prop name, or {@code null} if every prop is written whole.
+     */
+    Map<String, PropSelection> selections(Set<String> keys) {
+        Map<String, PropSelection> selections = null;
+        for (String key : keys) {
+            PropSelection selection = selection(key);
+            if (selection == null) continue;
+            if (selections == null) selections = new HashMap<>();
+            selections.put(key, selection);
+        }
+        return selections;
+    }
+
+    /**
+     * Gets the selection of a prop listed by nested paths.
+     * @param key The name of the prop, which must be {@link #includes(String) included}.
+     * @return The selection, or {@code null} if the prop is written whole.
+     */
+    PropSelection selection(String key) {
+        Path only = onlyPaths != null ? onlyPaths.children.get(key) : null;
+        Path except = exceptPaths.children.get(key);
+        if (only != null && only.whole) only = null;
+        return only != null || except != null ? selection(only, except) : null;
+    }
+
+    /**
+     * Builds the selection of a value from the paths below it.
+     * @param only The paths of the properties to include, or {@code null} to include all properties.
+     * @param except The paths of the properties to leave out, or {@code null} to leave none out.
+     */
+    private static PropSelection selection(Path only, Path except) {
+        Set<String> excluded = new HashSet<>();
+        Set<String> listed = new HashSet<>();
+        if (except != null) {
+            for (Map.Entry<String, Path> child : except.children.entrySet()) {
+                if (child.getValue().whole) excluded.add(child.getKey());
+                listed.add(child.getKey());
+            }
+        }
+        if (only != null) listed.addAll(only.children.keySet());
+
+        Map<String, PropSelection> nested = new HashMap<>();
+        for (String name : listed) {
+            if (excluded.contains(name)) continue;
+            Path onlyChild = only != null ? only.children.get(name) : null;
+            if (only != null && onlyChild == null) continue;
+            if (onlyChild != null && onlyChild.whole) onlyChild = null;
+            Path exceptChild = except != null ? except.children.get(name) : null;
+            if (onlyChild != null || exceptChild != null) nested.put(name, selection(onlyChild, exceptChild));
+        }
+        return PropSelection.of(only != null ? only.children.keySet() : null, excluded, nested);
+    }
+
+    /**
+     * Splits the value of a partial reload header into paths.
+     */
+    private static List<String> paths(String header) {
+        return Arrays.stream(header.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Tree of the dot-separated paths listed by a header.
+     */
+    private static class Path {
+        final Map<String, Path> children = new HashMap<>();
+        /**
+         * Whether the path itself is listed, so the whole value below it is selected.
+         */
+        boolean whole;
+
+        /**
+         * Builds the tree of a list of paths.
+         * @param paths The dot-separated paths.
+         * @return The root of the tree.
+         */
+        static Path of(List<String> paths) {
+            Path root = new Path();
+            for (String path : paths) {
+                Path node = root;
+                for (String segment : path.split("\\.")) {
+                    node = node.children.computeIfAbsent(segment, key -> new Path());
+                }
+                node.whole = true;
+            }
+            return root;
+        }
+    }
+}
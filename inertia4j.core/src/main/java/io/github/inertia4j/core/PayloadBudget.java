@@ -0,0 +1,120 @@
+package io.github.inertia4j.core;
+
+/**
+ * Checks the size of the props and page objects written by {@link InertiaRenderer} against configured budgets.
+ * Used internally by {@link InertiaRenderer}.
+ */
+class PayloadBudget {
+    private static final System.Logger logger = System.getLogger(PayloadBudget.class.getName());
+
+    /**
+     * A budget without limits.
+     */
+    static final PayloadBudget unlimited = new PayloadBudget(0, 0, PayloadBudgetPolicy.LOG);
+
+    private final long propBytes;
+    private final long pageBytes;
+    private final PayloadBudgetPolicy policy;
+
+    /**
+     * Constructs a PayloadBudget.
+     * @param propBytes Maximum size of a single top-level prop in bytes, or {@code 0} for no limit.
+     * @param pageBytes Maximum size of a serialized page object in bytes, or {@code 0} for no limit.
+     * @param policy How to handle a prop or page object exceeding its budget.
+     */
+    PayloadBudget(long propBytes, long pageBytes, PayloadBudgetPolicy policy) {
+        if (propBytes < 0 || pageBytes < 0) {
+            throw new IllegalArgumentException("Payload budgets must not be negative");
+        }
+        this.propBytes = propBytes;
+        this.pageBytes = pageBytes;
+        this.policy = policy != null ? policy : PayloadBudgetPolicy.LOG;
+    }
+
+    /**
+     * Creates a copy of this budget with the given prop limit.
+     * @param propBytes Maximum size of a single top-level prop in bytes, or {@code 0} for no limit.
+     * @return The new budget.
+     */
+    PayloadBudget withPropBytes(long propBytes) {
+        return new PayloadBudget(propBytes, pageBytes, policy);
+    }
+
+    /**
+     * Creates a copy of this budget with the given page limit.
+     * @param pageBytes Maximum size of a serialized page object in bytes, or {@code 0} for no limit.
+     * @return The new budget.
+     */
+    PayloadBudget withPageBytes(long pageBytes) {
+        return new PayloadBudget(propBytes, pageBytes, policy);
+    }
+
+    /**
+     * Creates a copy of this budget with the given policy.
+     * @param policy How to handle a prop or page object exceeding its budget.
+     * @return The new budget.
+     */
+    PayloadBudget withPolicy(PayloadBudgetPolicy policy) {
+        return new PayloadBudget(propBytes, pageBytes, policy);
+    }
+
+    /**
+     * Checks whether the size of props is limited, in which case props must be measured.
+     * @return {@code true} if there is a prop limit.
+     */
+    boolean limitsProps() {
+        return propBytes > 0;
+    }
+
+    /**
+     * Checks whether the size of page objects is limited, in which case streamed page objects must be measured.
+     * @return {@code true} if there is a page limit.
+     */
+    boolean limitsPages() {
+        return pageBytes > 0;
+    }
+
+    /**
+     * Checks whether an oversized prop or page object fails the render, in which case the page object must be
+     * measured before any of it is sent.
+     * @return {@code true} if there is a limit and the policy is {@link PayloadBudgetPolicy#FAIL}.
+     */
+    boolean failsRenders() {
+        return policy == PayloadBudgetPolicy.FAIL && (limitsProps() || limitsPages());
+    }
+
+    /**
+     * Checks the size of a prop against the prop limit.
+     * @param component The name of the rendered component.
+     * @param propName The name of the prop.
+     * @param bytes The size of the prop in bytes.
+     * @throws PayloadBudgetExceededException if the prop exceeds the limit under {@link PayloadBudgetPolicy#FAIL}.
+     */
+    void checkProp(String component, String propName, long bytes) {
+        if (propBytes > 0 && bytes > propBytes) {
+            exceeded("Prop '" + propName + "' of component '" + component + "' is " + bytes
+                + " bytes, over its budget of " + propBytes + " bytes");
+        }
+    }
+
+    /**
+     * Checks the size of a page object against the page limit.
+     * @param component The name of the rendered component.
+     * @param bytes The size of the serialized page object in bytes.
+     * @throws PayloadBudgetExceededException if the page exceeds the limit under {@link PayloadBudgetPolicy#FAIL}.
+     */
+    void checkPage(String component, long bytes) {
+        if (pageBytes > 0 && bytes > pageBytes) {
+            exceeded("Page object of component '" + component + "' is " + bytes
+                + " bytes, over its budget of " + pageBytes + " bytes");
+        }
+    }
+
+    /**
+     * Applies the policy to an exceeded budget.
+     */
+    private void exceeded(String message) {
+        if (policy == PayloadBudgetPolicy.FAIL) throw new PayloadBudgetExceededException(message);
+        logger.log(System.Logger.Level.WARNING, message);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.InertiaException;
+
+/**
+ * Exception thrown by {@link InertiaRenderer} under {@link PayloadBudgetPolicy#FAIL} when a prop or a page object
+ * is larger than its payload budget.
+ */
+public class PayloadBudgetExceededException extends InertiaException {
+    /**
+     * Constructs a new exception with the specified detail message.
+     * @param message The detail message.
+     */
+    public PayloadBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.inertia4j.core;
+
+/**
+ * Determines how {@link InertiaRenderer} handles a prop or a page object exceeding its payload budget.
+ */
+public enum PayloadBudgetPolicy {
+    /**
+     * Logs a warning and sends the response as is. This is the default.
+     */
+    LOG,
+    /**
+     * Fails the render with a {@link PayloadBudgetExceededException}, to catch oversized props during development.
+     */
+    FAIL
+}
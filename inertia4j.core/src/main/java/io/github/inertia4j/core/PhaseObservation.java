@@ -0,0 +1,46 @@
+package io.github.inertia4j.core;
+
+/**
+ * Observation of a phase of a render, created by {@link RenderObservation#startPhase(RenderPhase, String)}.
+ */
+public interface PhaseObservation {
+    /**
+     * An observation ignoring all notifications.
+     */
+    PhaseObservation none = failure -> {
+    };
+
+    /**
+     * Makes this phase current on the calling thread, until the returned scope is closed. Called on the threads
+     * doing the work of the phase, such as the thread evaluating a lazy prop, so that tracing context set up by
+     * the observer is visible to that work.
+     * @return The scope to close, on the same thread, when the work is done.
+     */
+    default Scope makeCurrent() {
+        return Scope.none;
+    }
+
+    /**
+     * Called when the phase ends.
+     * @param failure The exception that failed the phase, or {@code null} if it succeeded.
+     */
+    void end(Throwable failure);
+
+    /**
+     * A scope in which a phase is current, see {@link #makeCurrent()}.
+     */
+    @FunctionalInterface
+    interface Scope extends AutoCloseable {
+        /**
+         * An empty scope.
+         */
+        Scope none = () -> {
+        };
+
+        /**
+         * Ends the scope, restoring what was current before it.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.PageObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes gzip compressed pages made of a static prefix, dynamic content and a static suffix, compressing the static
+ * segments only once. Used internally by {@link SimpleTemplateRenderer}.
+ * <p>
+ * A deflate stream is a sequence of blocks, each decodable on its own as long as it only refers back to data of the
+ * same compressor. The prefix is compressed up to a byte-aligned, non-final block, the content of each page by a
+ * compressor of its own, flushed the same way, and the suffix ends the stream with the final block. The three parts
+ * are concatenated in a single gzip member, whose checksum covers the uncompressed page.
+ */
+final class PrecompressedTemplate {
+    private static final byte[] gzipHeader = {
+        0x1f, (byte) 0x8b, // Magic number
+        Deflater.DEFLATED, // Compression method
+        0, // Flags
+        0, 0, 0, 0, // Modification time
+        0, // Extra flags
+        (byte) 0xff // Operating system: unknown
+    };
+    private static final int bufferSize = 8192;
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final byte[] compressedPrefix;
+    private final byte[] compressedSuffix;
+
+    /**
+     * Constructs a PrecompressedTemplate, compressing the static segments at the highest level.
+     * @param prefix The UTF-8 encoded part of the page before the content.
+     * @param suffix The UTF-8 encoded part of the page after the content.
+     */
+    PrecompressedTemplate(byte[] prefix, byte[] suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.compressedPrefix = deflate(prefix, false);
+        this.compressedSuffix = deflate(suffix, true);
+    }
+
+    /**
+     * Writes a gzip compressed page, with the content produced by a writer between the static segments.
+     * @param content The writer producing the content, which must not close the stream it writes to.
+     * @param output The stream to write the gzip compressed page to, which is not closed.
+     * @param level The deflate compression level of the content.
+     * @throws IOException if writing to the stream fails.
+     */
+    void write(PageObjectWriter content, OutputStream output, int level) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(prefix);
+        output.write(gzipHeader);
+        output.write(compressedPrefix);
+
+        Deflater deflater = new Deflater(level, true);
+        long contentLength;
+        try {
+            // Escaped content comes in small writes, buffered rather than handed to the compressor one by one
+            CountingOutputStream countedContent = new CountingOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(new DeflaterOutputStream(output, deflater, bufferSize, true), checksum),
+                bufferSize
+            ));
+            content.writeTo(countedContent);
+            // A sync flush ends the content on a byte boundary without marking its last block as final
+            countedContent.flush();
+            contentLength = countedContent.getCount();
+        } finally {
+            deflater.end();
+        }
+
+        checksum.update(suffix);
+        output.write(compressedSuffix);
+        writeIntLittleEndian(output, checksum.getValue());
+        writeIntLittleEndian(output, prefix.length + contentLength + suffix.length);
+    }
+
+    /**
+     * Compresses a static segment as raw deflate blocks.
+     * @param segment The segment to compress.
+     * @param last Whether the segment ends the stream, in which case its last block is final. Otherwise, it ends on
+     *             a byte boundary so that other blocks can follow.
+     * @return The compressed segment.
+     */
+    private static byte[] deflate(byte[] segment, boolean last) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(segment);
+            if (last) deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            byte[] buffer = new byte[bufferSize];
+            while (true) {
+                int length = deflater.deflate(buffer, 0, buffer.length, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                compressed.write(buffer, 0, length);
+                if (last ? deflater.finished() : length < buffer.length) break;
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the low 32 bits of a value in little-endian order, as gzip trailers store them.
+     */
+    private static void writeIntLittleEndian(OutputStream output, long value) throws IOException {
+        output.write((int) value);
+        output.write((int) (value >>> 8));
+        output.write((int) (value >>> 16));
+        output.write((int) (value >>> 24));
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.inertia4j.core;
+
+/**
+ * Determines how {@link InertiaRenderer} handles a {@link io.github.inertia4j.spi.LazyProp} that fails to
+ * evaluate or does not complete within the prop timeout.
+ */
+public enum PropFailurePolicy {
+    /**
+     * Fails the whole render. Exceptions thrown by the prop are rethrown as is, and timeouts are reported
+     * with a {@link PropResolutionException}. This is the default.
+     */
+    FAIL,
+    /**
+     * Sends the prop with a {@code null} value and logs the failure.
+     */
+    NULL,
+    /**
+     * Leaves the prop out of the response and logs the failure.
+     */
+    OMIT
+}
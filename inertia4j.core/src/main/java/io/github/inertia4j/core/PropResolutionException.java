@@ -0,0 +1,27 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.InertiaException;
+
+/**
+ * Exception thrown by {@link InertiaRenderer} when a lazy prop cannot be resolved, for instance because it did not
+ * complete within the configured prop timeout.
+ */
+public class PropResolutionException extends InertiaException {
+    /**
+     * Constructs a new exception for the prop with the specified name.
+     * @param propName The name of the prop that could not be resolved.
+     * @param message The detail message.
+     */
+    public PropResolutionException(String propName, String message) {
+        super("Failed to resolve prop '" + propName + "': " + message);
+    }
+
+    /**
+     * Constructs a new exception for the prop with the specified name and cause.
+     * @param propName The name of the prop that could not be resolved.
+     * @param cause The cause.
+     */
+    public PropResolutionException(String propName, Throwable cause) {
+        super("Failed to resolve prop '" + propName + "'", cause);
+    }
+}
@@ -0,0 +1,430 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.DeferredProp;
+import io.github.inertia4j.spi.LazyProp;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Selects the props included in a response and evaluates the {@link LazyProp} values among them.
+ * Used internally by {@link InertiaRenderer}.
+ */
+class PropResolver {
+    private static final System.Logger logger = System.getLogger(PropResolver.class.getName());
+    /**
+     * Marks a failed prop that is left out of the response.
+     */
+    private static final Object omitted = new Object();
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final PropFailurePolicy failurePolicy;
+
+    /**
+     * Constructs a PropResolver.
+     * @param executor Executor used to evaluate lazy props concurrently, or {@code null} to evaluate them
+     *                 one after another on the calling thread.
+     * @param timeout Maximum time a render waits for its lazy props and futures, or {@code null} to wait
+     *                indefinitely. Lazy props evaluated on the calling thread are not bound by it.
+     * @param failurePolicy How to handle a lazy prop that fails or times out.
+     */
+    PropResolver(Executor executor, Duration timeout, PropFailurePolicy failurePolicy) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Prop timeout must be positive: " + timeout);
+        }
+        this.executor = executor;
+        this.timeout = timeout;
+        this.failurePolicy = failurePolicy != null ? failurePolicy : PropFailurePolicy.FAIL;
+    }
+
+    /**
+     * Constructs a PropResolver evaluating lazy props on {@link #defaultExecutor()}, without timeout, failing the
+     * render when a prop fails.
+     */
+    PropResolver() {
+        this(defaultExecutor(), null, PropFailurePolicy.FAIL);
+    }
+
+    /**
+     * Gets the executor used to evaluate props concurrently by default: a virtual-thread-per-task executor when
+     * running on JDK 21 or later. The executor is looked up reflectively, since this module targets Java 11.
+     * @return The shared virtual thread executor, or {@code null} on older runtimes.
+     */
+    static Executor defaultExecutor() {
+        return VirtualThreadExecutorHolder.executor;
+    }
+
+    /**
+     * Creates a copy of this resolver using the given executor.
+     * @param executor The executor, or {@code null} to evaluate props on the calling thread.
+     * @return The new resolver.
+     */
+    PropResolver withExecutor(Executor executor) {
+        return new PropResolver(executor, timeout, failurePolicy);
+    }
+
+    /**
+     * Creates a copy of this resolver using the given timeout.
+     * @param timeout The timeout, or {@code null} to wait indefinitely.
+     * @return The new resolver.
+     */
+    PropResolver withTimeout(Duration timeout) {
+        return new PropResolver(executor, timeout, failurePolicy);
+    }
+
+    /**
+     * Creates a copy of this resolver using the given failure policy.
+     * @param failurePolicy The failure policy.
+     * @return The new resolver.
+     */
+    PropResolver withFailurePolicy(PropFailurePolicy failurePolicy) {
+        return new PropResolver(executor, timeout, failurePolicy);
+    }
+
+    /**
+     * Gets the executor used to evaluate props concurrently.
+     * @return The executor, or {@code null} if props are evaluated on the calling thread.
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the maximum time a render waits for its lazy props.
+     * @return The timeout, or {@code null} if there is none.
+     */
+    Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets the policy applied to lazy props that fail or time out.
+     * @return The failure policy.
+     */
+    PropFailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    /**
+     * Selects the props included in the response and evaluates the lazy values among them, blocking until they
+     * are all resolved. See {@link #resolveAsync(Map, PartialReload, RenderObservation)}.
+     * @param props The props from the rendering options, can be null.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @param observation The observation notified of each lazy or asynchronous prop.
+     * @return The props to serialize.
+     * @throws PropResolutionException if a lazy prop times out or cannot be evaluated, under
+     *                                 {@link PropFailurePolicy#FAIL}.
+     */
+    Map<String, Object> resolve(
+        Map<String, Object> props,
+        PartialReload partialReload,
+        RenderObservation observation
+    ) {
+        try {
+            return resolveAsync(props, partialReload, observation).join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new PropResolutionException("props", cause);
+        }
+    }
+
+    /**
+     * Selects the props included in the response and evaluates the lazy values among them.
+     * Props left out by a partial reload are dropped before any lazy value is evaluated, and the branches of the
+     * included values it selects are applied as soon as they are resolved. On full loads, {@link DeferredProp} values
+     * are left out, to be fetched by the client later.
+     * <p>
+     * {@link CompletionStage} values, including those returned by lazy props, are awaited without blocking.
+     * When several lazy props are included, they are evaluated concurrently on the executor, so the render waits
+     * for the slowest of them rather than for all of them in turn. Without an executor, lazy props are evaluated
+     * on the calling thread before this method returns.
+     * @param props The props from the rendering options, can be null.
+     * @param partialReload The props selected by a partial reload, or {@code null} for a full load.
+     * @param observation The observation notified of each lazy or asynchronous prop, as a
+     *                    {@link RenderPhase#PROP} phase.
+     * @return A future completed with the props to serialize, or failed with the first prop failure under
+     *         {@link PropFailurePolicy#FAIL}.
+     */
+    CompletableFuture<Map<String, Object>> resolveAsync(
+        Map<String, Object> props,
+        PartialReload partialReload,
+        RenderObservation observation
+    ) {
+        if (props == null) return CompletableFuture.completedFuture(Map.of());
+        if (partialReload == null && !containsPendingProp(props)) return CompletableFuture.completedFuture(props);
+
+        Map<String, Object> resolvedProps = new HashMap<>();
+        Map<String, Object> pendingProps = new HashMap<>();
+        int lazyPropCount = 0;
+        for (Map.Entry<String, Object> prop : props.entrySet()) {
+            String key = prop.getKey();
+            Object value = prop.getValue();
+            if (partialReload == null && value instanceof DeferredProp) continue;
+            if (partialReload != null && !partialReload.includes(key)) continue;
+
+            if (value instanceof LazyProp) {
+                pendingProps.put(key, value);
+                lazyPropCount++;
+            } else if (value instanceof CompletionStage) {
+                pendingProps.put(key, value);
+            } else {
+                resolvedProps.put(key, value);
+            }
+        }
+        if (pendingProps.isEmpty()) return CompletableFuture.completedFuture(resolvedProps);
+
+        boolean concurrent = executor != null && (lazyPropCount > 1 || timeout != null);
+        return resolvePendingProps(pendingProps, resolvedProps, concurrent, observation);
+    }
+
+    /**
+     * Lists the deferred props left out of a full load, grouped by the name of the request that fetches them.
+     * @param props The props from the rendering options, can be null.
+     * @return The sorted prop names by group, or {@code null} if there are no deferred props.
+     */
+    Map<String, List<String>> deferredGroups(Map<String, Object> props) {
+        if (props == null) return null;
+
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Object> prop : props.entrySet()) {
+            if (prop.getValue() instanceof DeferredProp) keys.add(prop.getKey());
+        }
+        if (keys.isEmpty()) return null;
+
+        Collections.sort(keys);
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (String key : keys) {
+            String group = ((DeferredProp) props.get(key)).getGroup();
+            groups.computeIfAbsent(group, g -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+
+    /**
+     * Evaluates the lazy props and awaits the futures among the included props, applying the timeout and the
+     * failure policy to each of them.
+     * @param pendingProps The lazy props and futures to resolve, by name.
+     * @param resolvedProps The map receiving the resolved values.
+     * @param concurrent Whether lazy props are evaluated on the executor rather than on the calling thread.
+     * @param observation The observation notified of each prop.
+     * @return A future completed with {@code resolvedProps} once every prop is resolved.
+     */
+    private CompletableFuture<Map<String, Object>> resolvePendingProps(
+        Map<String, Object> pendingProps,
+        Map<String, Object> resolvedProps,
+        boolean concurrent,
+        RenderObservation observation
+    ) {
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        List<PropTask> tasks = new ArrayList<>();
+        Map<String, CompletableFuture<Object>> futures = new HashMap<>();
+        pendingProps.forEach((key, value) -> {
+            PhaseObservation phase = observation.startPhase(RenderPhase.PROP, key);
+            CompletableFuture<Object> future;
+            PropTask task = null;
+            if (value instanceof LazyProp) {
+                Supplier<Object> evaluation = observedEvaluation((LazyProp) value, phase);
+                if (concurrent) {
+                    task = new PropTask(evaluation);
+                    tasks.add(task);
+                    executor.execute(task);
+                    future = task.completion;
+                } else {
+                    future = resolveOnCallingThread(evaluation);
+                }
+                future = future.thenCompose(PropResolver::completionOf);
+            } else {
+                future = completionOf(value);
+            }
+            if (phase != PhaseObservation.none) {
+                future.whenComplete((resolved, failure) -> phase.end(failure != null ? unwrap(failure) : null));
+            }
+            if (timeout != null) {
+                future = future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            PropTask evaluationTask = task;
+            CompletableFuture<Object> handled = future.handle((resolved, failure) -> {
+                if (failure == null) return resolved;
+                // Whatever the policy, the value of a timed out prop is no longer used, so its evaluation is
+                // interrupted rather than left running on the executor.
+                if (evaluationTask != null) evaluationTask.cancel(true);
+                return handleFailure(key, failure);
+            });
+            handled.whenComplete((resolved, failure) -> {
+                if (failure != null) result.completeExceptionally(failure);
+            });
+            futures.put(key, handled);
+        });
+
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            futures.forEach((key, future) -> {
+                Object value = future.join();
+                if (value == omitted) return;
+                resolvedProps.put(key, value);
+            });
+            result.complete(resolvedProps);
+        });
+        result.whenComplete((resolved, failure) -> {
+            if (failure != null) tasks.forEach(task -> task.cancel(true));
+        });
+        return result;
+    }
+
+    /**
+     * Evaluation of a lazy prop on the executor. Unlike a {@link CompletableFuture} supplied asynchronously, it can
+     * be cancelled while running, interrupting the thread evaluating the prop.
+     */
+    private static class PropTask extends FutureTask<Object> {
+        /**
+         * Future completed with the outcome of the evaluation, or with a {@link CancellationException} if the task
+         * is cancelled before it runs.
+         */
+        final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+        /**
+         * Constructs a task for the given evaluation.
+         * @param evaluation The evaluation of the prop.
+         */
+        PropTask(Supplier<Object> evaluation) {
+            super(evaluation::get);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void done() {
+            try {
+                completion.complete(get());
+            } catch (ExecutionException e) {
+                completion.completeExceptionally(e.getCause());
+            } catch (CancellationException | InterruptedException e) {
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Wraps the evaluation of a lazy prop so that its phase is current on the thread evaluating it.
+     * @param prop The prop to evaluate.
+     * @param phase The observation of the prop phase.
+     * @return The evaluation.
+     */
+    private static Supplier<Object> observedEvaluation(LazyProp prop, PhaseObservation phase) {
+        if (phase == PhaseObservation.none) return prop::resolve;
+
+        return () -> {
+            PhaseObservation.Scope scope = phase.makeCurrent();
+            try {
+                return prop.resolve();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Evaluates a lazy prop on the calling thread.
+     * @param evaluation The evaluation of the prop.
+     * @return A future completed with the value, or failed with the exception thrown by the prop.
+     */
+    private static CompletableFuture<Object> resolveOnCallingThread(Supplier<Object> evaluation) {
+        try {
+            return CompletableFuture.completedFuture(evaluation.get());
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Adapts a prop value to a future of its own. Futures supplied by the application are not completed or
+     * cancelled by the resolver, so timeouts apply to a dependent future instead.
+     * @param value The value, which may be a {@link CompletionStage}.
+     * @return A future completed with the value, or with the result of the stage.
+     */
+    private static CompletableFuture<Object> completionOf(Object value) {
+        if (value instanceof CompletionStage) {
+            return ((CompletionStage<?>) value).<Object>thenApply(resolved -> resolved).toCompletableFuture();
+        }
+        return CompletableFuture.completedFuture(value);
+    }
+
+    /**
+     * Applies the failure policy to a prop that failed or timed out.
+     * @param key The name of the prop.
+     * @param failure The failure.
+     * @return The value sent for the prop, or {@link #omitted} to leave it out.
+     * @throws CompletionException wrapping the failure under {@link PropFailurePolicy#FAIL}.
+     */
+    private Object handleFailure(String key, Throwable failure) {
+        Throwable cause = unwrap(failure);
+        if (cause instanceof TimeoutException) {
+            cause = new PropResolutionException(key, "not resolved within " + timeout);
+        }
+        switch (failurePolicy) {
+            case NULL:
+                logger.log(System.Logger.Level.WARNING, "Prop '" + key + "' failed, sending null", cause);
+                return null;
+            case OMIT:
+                logger.log(System.Logger.Level.WARNING, "Prop '" + key + "' failed, leaving it out", cause);
+                return omitted;
+            default:
+                throw new CompletionException(cause);
+        }
+    }
+
+    /**
+     * Gets the underlying cause of an exception raised while completing a future.
+     */
+    static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static boolean containsPendingProp(Map<String, Object> props) {
+        for (Object value : props.values()) {
+            if (value instanceof LazyProp || value instanceof CompletionStage) return true;
+        }
+        return false;
+    }
+    /**
+     * Holds the shared virtual thread executor, created on first use.
+     */
+    private static class VirtualThreadExecutorHolder {
+        private static final Executor executor = createVirtualThreadExecutor();
+
+        private static Executor createVirtualThreadExecutor() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+}
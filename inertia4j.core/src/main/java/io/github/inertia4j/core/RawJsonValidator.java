@@ -0,0 +1,255 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.RawJson;
+import io.github.inertia4j.spi.SerializationException;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Checks the syntax of the {@link RawJson} values of resolved props, so a malformed document fails the render with
+ * the name of its prop instead of producing a page object the client cannot parse. The JSON is scanned without
+ * building any value, but it is still read in full, so validation is meant for development.
+ */
+final class RawJsonValidator {
+    /**
+     * The deepest nesting of props, and of objects and arrays in raw JSON, that is checked.
+     */
+    private static final int maxDepth = 1000;
+
+    private final String json;
+    private int position;
+    private int depth;
+
+    /**
+     * Constructs a validator for one document.
+     * @param json The JSON text.
+     */
+    private RawJsonValidator(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Checks the raw JSON values among resolved props, including those nested in maps, iterables, arrays, optionals,
+     * records and beans. The properties of records and beans are read like {@link Utf8JsonWriter} reads them, so
+     * their getters are called once more when the page object is serialized. Classes of the {@code java} and
+     * {@code javax} packages are not looked into.
+     * @param props The resolved props.
+     * @throws SerializationException if a raw JSON value is not a single valid JSON value.
+     */
+    static void validate(Map<String, Object> props) {
+        for (Map.Entry<String, Object> prop : props.entrySet()) {
+            validateValue(prop.getKey(), prop.getValue(), 0);
+        }
+    }
+
+    /**
+     * Checks the raw JSON values in a prop value.
+     */
+    private static void validateValue(String key, Object value, int depth) {
+        if (value instanceof RawJson) {
+            String json = ((RawJson) value).getJson();
+            int offset = new RawJsonValidator(json).check();
+            if (offset >= 0) {
+                throw new SerializationException("Prop '" + key + "' has invalid raw JSON at offset " + offset);
+            }
+        } else if (depth < maxDepth) {
+            if (value instanceof Map) {
+                for (Object nested : ((Map<?, ?>) value).values()) validateValue(key, nested, depth + 1);
+            } else if (value instanceof Iterable) {
+                for (Object nested : (Iterable<?>) value) validateValue(key, nested, depth + 1);
+            } else if (value instanceof Object[]) {
+                for (Object nested : (Object[]) value) validateValue(key, nested, depth + 1);
+            } else if (value instanceof Optional) {
+                validateValue(key, ((Optional<?>) value).orElse(null), depth + 1);
+            } else if (isBean(value)) {
+                for (Object nested : BeanProperties.of(value.getClass()).values(value)) {
+                    validateValue(key, nested, depth + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a value is a record or a bean of the application, whose properties may hold raw JSON.
+     */
+    private static boolean isBean(Object value) {
+        if (value == null || value instanceof Enum || value instanceof Number || value instanceof CharSequence) {
+            return false;
+        }
+        Class<?> type = value.getClass();
+        String name = type.getName();
+        return !type.isArray() && !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    /**
+     * Checks that the document is a single JSON value, surrounded by whitespace only.
+     * @return The offset of the first invalid char, or {@code -1} if the document is valid.
+     */
+    private int check() {
+        skipWhitespace();
+        if (!value()) return position;
+        skipWhitespace();
+        return position < json.length() ? position : -1;
+    }
+
+    /**
+     * Reads a value.
+     * @return {@code false} if the value is invalid, with the position at the invalid char.
+     */
+    private boolean value() {
+        if (position == json.length()) return false;
+        char c = json.charAt(position);
+        switch (c) {
+            case '{':
+                return object();
+            case '[':
+                return array();
+            case '"':
+                return string();
+            case 't':
+                return literal("true");
+            case 'f':
+                return literal("false");
+            case 'n':
+                return literal("null");
+            default:
+                return (c == '-' || (c >= '0' && c <= '9')) && number();
+        }
+    }
+
+    /**
+     * Reads an object, the position being at its opening brace.
+     */
+    private boolean object() {
+        if (++depth > maxDepth) return false;
+        position++;
+        skipWhitespace();
+        if (consume('}')) {
+            depth--;
+            return true;
+        }
+        do {
+            skipWhitespace();
+            if (position == json.length() || json.charAt(position) != '"' || !string()) return false;
+            skipWhitespace();
+            if (!consume(':')) return false;
+            skipWhitespace();
+            if (!value()) return false;
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume('}')) return false;
+        depth--;
+        return true;
+    }
+
+    /**
+     * Reads an array, the position being at its opening bracket.
+     */
+    private boolean array() {
+        if (++depth > maxDepth) return false;
+        position++;
+        skipWhitespace();
+        if (consume(']')) {
+            depth--;
+            return true;
+        }
+        do {
+            skipWhitespace();
+            if (!value()) return false;
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume(']')) return false;
+        depth--;
+        return true;
+    }
+
+    /**
+     * Reads a string, the position being at its opening quote.
+     */
+    private boolean string() {
+        position++;
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c == '"') {
+                position++;
+                return true;
+            } else if (c < ' ') {
+                return false;
+            } else if (c == '\\') {
+                position++;
+                if (position == json.length()) return false;
+                char escaped = json.charAt(position);
+                if (escaped == 'u') {
+                    for (int i = 0; i < 4; i++) {
+                        position++;
+                        if (position == json.length() || Character.digit(json.charAt(position), 16) < 0) return false;
+                    }
+                } else if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+                    return false;
+                }
+            }
+            position++;
+        }
+        return false;
+    }
+
+    /**
+     * Reads a number: an optional minus sign, an integer part without leading zeros, then an optional fraction
+     * and exponent.
+     */
+    private boolean number() {
+        consume('-');
+        if (!consume('0') && !digits()) return false;
+        if (consume('.') && !digits()) return false;
+        if (consume('e') || consume('E')) {
+            if (!consume('+')) consume('-');
+            return digits();
+        }
+        return true;
+    }
+
+    /**
+     * Reads one or more digits.
+     */
+    private boolean digits() {
+        int start = position;
+        while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+            position++;
+        }
+        return position > start;
+    }
+
+    /**
+     * Reads a literal, the position being at its first char.
+     */
+    private boolean literal(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (!consume(literal.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Moves past the char at the position if it is the given one.
+     * @return {@code true} if the char was consumed.
+     */
+    private boolean consume(char c) {
+        if (position < json.length() && json.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves past the JSON whitespace at the position.
+     */
+    private void skipWhitespace() {
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return;
+            position++;
+        }
+    }
+}
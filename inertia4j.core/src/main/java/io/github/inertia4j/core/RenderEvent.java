@@ -0,0 +1,78 @@
+package io.github.inertia4j.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event emitted for every render, redirect and location response of an
+ * {@link InertiaRenderer}, by {@link JfrRenderObserver}.
+ */
+@Name("io.github.inertia4j.Render")
+@Label("Inertia Render")
+@Category("Inertia4J")
+@Description("Render of an Inertia page, redirect or location response")
+@StackTrace(false)
+final class RenderEvent extends Event {
+    @Label("Component")
+    @Description("Name of the rendered component, absent for redirects")
+    String component;
+
+    @Label("URL")
+    @Description("URL of the page, or location of the redirect")
+    String url;
+
+    @Label("Kind")
+    @Description("Kind of response: HTML, JSON, PARTIAL, VERSION_CONFLICT, REDIRECT or LOCATION")
+    String kind;
+
+    @Label("Partial Data")
+    @Description("Comma-separated props requested by a partial reload")
+    String partialData;
+
+    @Label("Version Conflict")
+    @Description("Whether the client's asset version was outdated")
+    boolean versionConflict;
+
+    @Label("Client Version")
+    @Description("Asset version of the client, when it differs from the current one but the grace policy tolerates it")
+    String clientVersion;
+
+    @Label("Status")
+    @Description("Status code of the response, 0 if the render failed before producing one")
+    int status;
+
+    @Label("Page Object Size")
+    @Description("Size of the serialized page object")
+    @DataAmount
+    long pageObjectSize;
+
+    @Label("Body Size")
+    @Description("Size of the response body")
+    @DataAmount
+    long bodySize;
+
+    @Label("Props Time")
+    @Description("Time spent resolving lazy and asynchronous props")
+    @Timespan
+    long propsTime;
+
+    @Label("Serialization Time")
+    @Description("Time spent serializing the page object")
+    @Timespan
+    long serializationTime;
+
+    @Label("Template Time")
+    @Description("Time spent rendering the HTML template, excluding serialization")
+    @Timespan
+    long templateTime;
+
+    @Label("Failure")
+    @Description("Class of the exception that failed the render")
+    String failure;
+}
@@ -0,0 +1,60 @@
+package io.github.inertia4j.core;
+
+import java.util.List;
+
+/**
+ * Describes a render started by {@link InertiaRenderer}, as reported to
+ * {@link RenderObserver#start(RenderInfo)}.
+ */
+public final class RenderInfo {
+    private final String component;
+    private final String url;
+    private final RenderKind kind;
+    private final List<String> partialDataProps;
+
+    /**
+     * Constructs a RenderInfo.
+     * @param component The name of the rendered component, or {@code null} for redirects.
+     * @param url The URL of the page, or the redirect location.
+     * @param kind The kind of response.
+     * @param partialDataProps The props requested by a partial reload, or {@code null} for other responses.
+     */
+    public RenderInfo(String component, String url, RenderKind kind, List<String> partialDataProps) {
+        this.component = component;
+        this.url = url;
+        this.kind = kind;
+        this.partialDataProps = partialDataProps != null ? List.copyOf(partialDataProps) : null;
+    }
+
+    /**
+     * Gets the name of the rendered component.
+     * @return The component name, or {@code null} for redirects.
+     */
+    public String getComponent() {
+        return component;
+    }
+
+    /**
+     * Gets the URL of the page, or the location of a redirect.
+     * @return The URL.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the kind of response.
+     * @return The response kind.
+     */
+    public RenderKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the props requested by a partial reload.
+     * @return The unmodifiable list of prop names, or {@code null} if the response is not a partial reload.
+     */
+    public List<String> getPartialDataProps() {
+        return partialDataProps;
+    }
+}
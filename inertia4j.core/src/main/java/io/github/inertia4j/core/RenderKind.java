@@ -0,0 +1,31 @@
+package io.github.inertia4j.core;
+
+/**
+ * The kind of response produced by an {@link InertiaRenderer} call, as reported to {@link RenderObserver}s.
+ */
+public enum RenderKind {
+    /**
+     * A full HTML page, for initial page loads.
+     */
+    HTML,
+    /**
+     * A JSON page object, for Inertia requests.
+     */
+    JSON,
+    /**
+     * A JSON page object with a subset of the props, for partial reloads.
+     */
+    PARTIAL,
+    /**
+     * A 409 response asking the client for a full page reload, because its asset version is outdated.
+     */
+    VERSION_CONFLICT,
+    /**
+     * A redirect to another Inertia route.
+     */
+    REDIRECT,
+    /**
+     * A 409 response asking the client to visit an external or non-Inertia location.
+     */
+    LOCATION
+}
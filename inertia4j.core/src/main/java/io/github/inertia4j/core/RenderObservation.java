@@ -0,0 +1,59 @@
+package io.github.inertia4j.core;
+
+/**
+ * Observation of a single render, created by {@link RenderObserver#start(RenderInfo)}.
+ * All methods have empty default implementations, so implementations only override what they record.
+ * <p>
+ * Phases of a render may be started and ended on different threads, since lazy props can be evaluated
+ * concurrently, so implementations must be thread-safe.
+ */
+public interface RenderObservation {
+    /**
+     * An observation ignoring all notifications.
+     */
+    RenderObservation none = new RenderObservation() {
+    };
+
+    /**
+     * Called when a phase of the render starts.
+     * @param phase The phase.
+     * @param propName The name of the prop for {@link RenderPhase#PROP}, {@code null} otherwise.
+     * @return The observation of the phase, ended when the phase ends.
+     */
+    default PhaseObservation startPhase(RenderPhase phase, String propName) {
+        return PhaseObservation.none;
+    }
+
+    /**
+     * Called when the render starts, if the asset version of the client differs from the current one but the
+     * {@link VersionGracePolicy} tolerates it, so the page is rendered instead of answered with a version conflict.
+     * @param clientVersion The asset version of the client.
+     * @param version The current asset version.
+     */
+    default void versionConflictAvoided(String clientVersion, String version) {
+    }
+
+    /**
+     * Called as each top-level prop is serialized, when the serializer measures props.
+     * @param propName The name of the prop.
+     * @param bytes The size of the prop JSON, including its name, in bytes.
+     */
+    default void propSerialized(String propName, long bytes) {
+    }
+
+    /**
+     * Called once the page object is serialized.
+     * @param bytes The size of the page object JSON, in bytes.
+     */
+    default void serialized(long bytes) {
+    }
+
+    /**
+     * Called when the render ends, after the body is written for streamed responses.
+     * @param status The status code of the response, or {@code 0} if the render failed before producing one.
+     * @param bodyBytes The size of the response body in bytes, {@code 0} if there is none.
+     * @param failure The exception that failed the render, or {@code null} if it succeeded.
+     */
+    default void finished(int status, long bodyBytes, Throwable failure) {
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.inertia4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Observes the renders of an {@link InertiaRenderer}, for instance to record metrics or traces.
+ * Registered with {@link InertiaRenderer#withRenderObserver(RenderObserver)}.
+ * <p>
+ * {@link #start(RenderInfo)} is called on the calling thread when a render, redirect or location response starts;
+ * the returned {@link RenderObservation} is then notified as the render goes through its phases. When no observer
+ * is registered, the renderer skips observation entirely.
+ */
+@FunctionalInterface
+public interface RenderObserver {
+    /**
+     * An observer ignoring all renders.
+     */
+    RenderObserver none = render -> RenderObservation.none;
+
+    /**
+     * Called when a render starts.
+     * @param render The description of the render.
+     * @return The observation notified of the progress of this render, never {@code null}.
+     */
+    RenderObservation start(RenderInfo render);
+
+    /**
+     * Combines several observers into one notifying each of them, in order.
+     * @param observers The observers to combine.
+     * @return The combined observer, {@link #none} if there are none, or the only observer if there is one.
+     */
+    static RenderObserver of(List<? extends RenderObserver> observers) {
+        List<RenderObserver> registered = new ArrayList<>();
+        for (RenderObserver observer : observers) {
+            if (observer != null && observer != none) registered.add(observer);
+        }
+        if (registered.isEmpty()) return none;
+        if (registered.size() == 1) return registered.get(0);
+        return new CompositeRenderObserver(registered);
+    }
+}
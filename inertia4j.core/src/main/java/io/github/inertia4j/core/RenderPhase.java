@@ -0,0 +1,26 @@
+package io.github.inertia4j.core;
+
+/**
+ * A phase of an Inertia render, as reported to {@link RenderObservation#startPhase(RenderPhase, String)}.
+ */
+public enum RenderPhase {
+    /**
+     * Resolution of all the props included in the response, including the evaluation of lazy props and the wait
+     * for asynchronous ones.
+     */
+    PROPS,
+    /**
+     * Resolution of a single lazy or asynchronous prop, from the start of its evaluation until its value is
+     * available. Nested in {@link #PROPS}.
+     */
+    PROP,
+    /**
+     * Serialization of the page object to JSON.
+     */
+    SERIALIZATION,
+    /**
+     * Rendering of the HTML template around the page object. When the response is streamed, the phase ends where the
+     * template writes the page object, so it never overlaps {@link #SERIALIZATION}.
+     */
+    TEMPLATE
+}
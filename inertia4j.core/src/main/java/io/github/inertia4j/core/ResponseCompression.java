@@ -0,0 +1,130 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.PageObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Negotiates and applies the gzip compression of page responses.
+ * Used internally by {@link InertiaRenderer}.
+ */
+final class ResponseCompression {
+    /**
+     * Page objects smaller than this are sent uncompressed, as the gzip framing and the CPU time outweigh the savings.
+     */
+    static final int minBytes = 1024;
+    /**
+     * Page objects up to this size are compressed at the highest level, which costs little at that size.
+     */
+    static final int smallBytes = 16 * 1024;
+    /**
+     * Page objects over this size are compressed at the fastest level, since higher levels take much longer on large
+     * payloads for a few percent of savings.
+     */
+    static final int largeBytes = 256 * 1024;
+    /**
+     * Level used for streamed responses, whose size is not known up front. Streaming is meant for large pages.
+     */
+    static final int streamingLevel = Deflater.BEST_SPEED;
+
+    private ResponseCompression() {
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts gzip, honoring {@code q=0} exclusions and
+     * {@code *}.
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header, can be null.
+     * @return {@code true} if the response can be compressed with gzip.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    accepted = !isZero(parameter.substring(2).trim());
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) return accepted;
+            if (name.equals("*")) wildcard = accepted;
+        }
+        return wildcard != null && wildcard;
+    }
+
+    /**
+     * Picks the compression level of a page object from its size.
+     * @param bytes The size of the serialized page object, in bytes.
+     * @return The deflate compression level.
+     */
+    static int level(long bytes) {
+        if (bytes <= smallBytes) return Deflater.BEST_COMPRESSION;
+        if (bytes <= largeBytes) return Deflater.DEFAULT_COMPRESSION;
+        return Deflater.BEST_SPEED;
+    }
+
+    /**
+     * Compresses bytes with gzip.
+     * @param bytes The bytes to compress.
+     * @param level The deflate compression level.
+     * @return The gzip compressed bytes.
+     */
+    static byte[] gzip(byte[] bytes, int level) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try {
+            gzip(content -> content.write(bytes), output, level);
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Compresses the content produced by a writer with gzip, as it is written.
+     * @param content The writer producing the content.
+     * @param output The stream to write the gzip compressed content to, which is not closed.
+     * @param level The deflate compression level.
+     * @throws IOException if writing to the stream fails.
+     */
+    static void gzip(PageObjectWriter content, OutputStream output, int level) throws IOException {
+        GZIPOutputStream gzipOutput = new GZIPOutputStream(output) {
+            {
+                def.setLevel(level);
+            }
+
+            @Override
+            public void finish() throws IOException {
+                // The stream is not closed, so the deflater is released here
+                try {
+                    super.finish();
+                } finally {
+                    def.end();
+                }
+            }
+        };
+        content.writeTo(gzipOutput);
+        gzipOutput.finish();
+    }
+
+    /**
+     * Checks whether a quality value is zero, such as {@code 0}, {@code 0.0} or {@code 0.000}.
+     */
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.LazyProp;
+import io.github.inertia4j.spi.PageObject;
+import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.PropSizeListener;
+import io.github.inertia4j.spi.SerializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link PageObjectSerializer} implementation writing JSON without any JSON library, used by
+ * {@link DefaultPageObjectSerializer} when Jackson is not on the classpath.
+ * <p>
+ * The page object is encoded to UTF-8 straight into a byte buffer, which is kept per thread and reused by the next
+ * serialization. It supports the types props are usually made of: maps, iterables, arrays, strings, numbers,
+ * booleans, enums, {@code java.time} values, records and JavaBeans. Map entries are sorted by key, and the properties
+ * of records and JavaBeans follow the order of their fields, so simple page objects are written like
+ * {@link JacksonPageObjectSerializer} writes them. The getters of a class are looked up once and called through
+ * {@link java.lang.invoke.MethodHandle}s. Annotations of JSON libraries, such as Jackson's {@code @JsonProperty}, are
+ * ignored.
+ */
+public class SimplePageObjectSerializer implements PageObjectSerializer {
+    /**
+     * Size of the buffers kept per thread. Larger buffers grown for a page object are not kept, so each thread
+     * holds at most this much memory between serializations.
+     */
+    private static final int bufferSize = 16 * 1024;
+    private static final ThreadLocal<byte[]> buffers = new ThreadLocal<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@code partialDataProps} is provided, only the properties specified in the list
+     * will be included under the "props" key in the resulting JSON. Props left out are skipped
+     * before serialization, so their values are never visited.
+     */
+    @Override
+    public String serialize(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        return new String(serializeToBytes(pageObject, partialDataProps), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JSON is encoded to UTF-8 as it is written, without an intermediate String.
+     */
+    @Override
+    public byte[] serializeToBytes(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        return serializeToBytes(pageObject, partialDataProps, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Prop sizes are measured from the position of the writer before and after each prop, without extra copies.
+     */
+    @Override
+    public byte[] serializeToBytes(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws SerializationException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(acquireBuffer(), null);
+        try {
+            writePageObject(writer, pageObject, partialDataProps, propSizeListener);
+            return writer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        } finally {
+            releaseBuffer(writer.getBuffer());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JSON is written to the stream whenever the buffer of the thread is full, so memory use does not depend on
+     * the size of the page object.
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output
+    ) throws IOException, SerializationException {
+        serialize(pageObject, partialDataProps, output, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Prop sizes are measured from the bytes written to the stream and the bytes still buffered.
+     */
+    @Override
+    public void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output,
+        PropSizeListener propSizeListener
+    ) throws IOException, SerializationException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(acquireBuffer(), output);
+        try {
+            writePageObject(writer, pageObject, partialDataProps, propSizeListener);
+            writer.flush();
+        } finally {
+            releaseBuffer(writer.getBuffer());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is serialized once, and its UTF-8 encoding is copied verbatim into each page object it is part of.
+     */
+    @Override
+    public Object preEncode(Object value) throws SerializationException {
+        Utf8JsonWriter writer = new Utf8JsonWriter(new byte[256], null);
+        try {
+            writer.writeValue(value);
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+        return new PreEncodedValue(writer.toByteArray());
+    }
+
+    /**
+     * Writes the page object fields in the order defined by the Inertia protocol documentation.
+     * The {@code deferredProps} field is only written when the page has deferred props.
+     * @param writer The writer to write to.
+     * @param pageObject The page object to write.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @param propSizeListener Listener notified of the size of each prop, or {@code null} not to measure props.
+     * @throws IOException if writing fails.
+     */
+    private static void writePageObject(
+        Utf8JsonWriter writer,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws IOException {
+        writer.writeByte('{');
+        writer.writeFieldName("component");
+        writer.writeValue(pageObject.getComponent());
+        writer.writeByte(',');
+        writer.writeFieldName("props");
+        writeProps(writer, pageObject, partialDataProps, propSizeListener);
+        writer.writeByte(',');
+        writer.writeFieldName("url");
+        writer.writeValue(pageObject.getUrl());
+        writer.writeByte(',');
+        writer.writeFieldName("version");
+        writer.writeValue(pageObject.getVersion());
+        writer.writeByte(',');
+        writer.writeFieldName("encryptHistory");
+        writer.writeValue(pageObject.isEncryptHistory());
+        writer.writeByte(',');
+        writer.writeFieldName("clearHistory");
+        writer.writeValue(pageObject.isClearHistory());
+        if (pageObject.getDeferredProps() != null && !pageObject.getDeferredProps().isEmpty()) {
+            writer.writeByte(',');
+            writer.writeFieldName("deferredProps");
+            writer.writeValue(pageObject.getDeferredProps());
+        }
+        writer.writeByte('}');
+    }
+
+    /**
+     * Writes the props object, sorted by key, skipping any prop not listed in {@code partialDataProps}.
+     * {@link LazyProp} values that were not resolved by the renderer are evaluated here, only if they are written.
+     * Values returned by {@link #preEncode(Object)} are copied verbatim, and props selected in part by a partial
+     * reload are written with their selected properties only.
+     * @param writer The writer to write to.
+     * @param pageObject The page object, whose props can be null.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @param propSizeListener Listener notified of the size of each prop, or {@code null} not to measure props.
+     * @throws IOException if writing fails.
+     */
+    private static void writeProps(
+        Utf8JsonWriter writer,
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws IOException {
+        Map<String, Object> props = pageObject.getProps();
+        writer.writeByte('{');
+        if (props != null) {
+            boolean first = true;
+            for (String key : includedKeys(props, partialDataProps)) {
+                Object value = props.get(key);
+                if (value instanceof LazyProp) {
+                    value = ((LazyProp) value).resolve();
+                }
+                long start = propSizeListener != null ? writer.size() : 0;
+                if (!first) writer.writeByte(',');
+                first = false;
+                writer.writeFieldName(key);
+                if (value instanceof PreEncodedValue) {
+                    writer.writeRaw(((PreEncodedValue) value).json);
+                } else {
+                    writer.writeValue(value, pageObject.getPropSelection(key));
+                }
+                if (propSizeListener != null) propSizeListener.propSerialized(key, writer.size() - start);
+            }
+        }
+        writer.writeByte('}');
+    }
+
+    /**
+     * Selects the keys of the props that should be written, in sorted order.
+     * @param props The props map.
+     * @param partialDataProps Props to include, or {@code null} to include all of them.
+     * @return The sorted keys to write.
+     */
+    private static List<String> includedKeys(Map<String, Object> props, List<String> partialDataProps) {
+        List<String> keys;
+        if (partialDataProps == null) {
+            keys = new ArrayList<>(props.keySet());
+        } else {
+            Set<String> requested = new HashSet<>(partialDataProps);
+            keys = new ArrayList<>(Math.min(requested.size(), props.size()));
+            for (String key : props.keySet()) {
+                if (requested.contains(key)) keys.add(key);
+            }
+        }
+        Collections.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Takes the buffer of the current thread, so a serialization nested in another one, from a getter for instance,
+     * gets a buffer of its own.
+     * @return The buffer of the thread, or a new buffer if it is in use.
+     */
+    private static byte[] acquireBuffer() {
+        byte[] buffer = buffers.get();
+        if (buffer == null) return new byte[bufferSize];
+        buffers.set(null);
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the current thread, unless it grew beyond the size of the buffers kept.
+     * @param buffer The buffer, no longer in use.
+     */
+    private static void releaseBuffer(byte[] buffer) {
+        if (buffer.length == bufferSize) buffers.set(buffer);
+    }
+
+    /**
+     * Prop value serialized ahead of time by {@link #preEncode(Object)}.
+     */
+    private static final class PreEncodedValue {
+        private final byte[] json;
+
+        /**
+         * Constructs a pre-encoded value.
+         * @param json The UTF-8 encoded JSON of the value.
+         */
+        PreEncodedValue(byte[] json) {
+            this.json = json;
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package io.github.inertia4j.core;
 
+import io.github.inertia4j.spi.PageObjectWriter;
 import io.github.inertia4j.spi.TemplateRenderer;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A simple {@link TemplateRenderer} implementation used by default if no specific renderer is provided.
  * It loads a template file from the classpath and replaces a placeholder with the page object JSON.
+ * <p>
+ * The template is split once around the placeholder when the renderer is constructed, so rendering holds no
+ * mutable state and is safe to call from concurrent requests. The segments around the placeholder are compressed
+ * once as well, so gzip compressed renders only compress the page object.
  */
 public class SimpleTemplateRenderer implements TemplateRenderer {
-    private final Matcher templateMatcher;
+    private static final String placeholder = "@PageObject@";
+
+    private static final byte[] escapedDoubleQuote = "&quot;".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] escapedSingleQuote = "&apos;".getBytes(StandardCharsets.UTF_8);
+
+    private final String templatePrefix;
+    private final String templateSuffix;
+    private final byte[] templatePrefixBytes;
+    private final byte[] templateSuffixBytes;
+    private final PrecompressedTemplate precompressedTemplate;
 
     /**
      * Constructs a SimpleTemplateRenderer.
@@ -26,28 +40,160 @@ public class SimpleTemplateRenderer implements TemplateRenderer {
     ) throws TemplateRenderingException {
         String template = loadTemplate(templatePath);
 
-        this.templateMatcher = Pattern.compile("@PageObject@").matcher(template);
+        int placeholderIndex = template.indexOf(placeholder);
+        if (placeholderIndex < 0) {
+            this.templatePrefix = template;
+            this.templateSuffix = null;
+        } else {
+            this.templatePrefix = template.substring(0, placeholderIndex);
+            this.templateSuffix = template.substring(placeholderIndex + placeholder.length());
+        }
+        this.templatePrefixBytes = templatePrefix.getBytes(StandardCharsets.UTF_8);
+        this.templateSuffixBytes = templateSuffix != null ? templateSuffix.getBytes(StandardCharsets.UTF_8) : null;
+        this.precompressedTemplate = new PrecompressedTemplate(
+            templatePrefixBytes,
+            templateSuffixBytes != null ? templateSuffixBytes : new byte[0]
+        );
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This implementation replaces all occurrences of the <code>@PageObject@</code> placeholder
+     * This implementation replaces the first occurrence of the <code>@PageObject@</code> placeholder
      * in the loaded template with the provided {@code pageObjectJson}, escaping HTML characters.
      */
     @Override
     public String render(String pageObjectJson) {
-        String escapedPageObjectJson = pageObjectJson
-            .replace("\\", "\\\\")
-            .replace("$", "\\$")
-            .replace("\"", "&quot;")
-            .replace("'", "&apos;");
+        if (templateSuffix == null) return templatePrefix;
+
+        StringBuilder html = new StringBuilder(
+            templatePrefix.length() + escapedLengthEstimate(pageObjectJson.length()) + templateSuffix.length()
+        );
+        html.append(templatePrefix);
+        appendEscaped(html, pageObjectJson);
+        html.append(templateSuffix);
+        return html.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation copies the pre-encoded template segments and escapes the JSON bytes directly into an
+     * array of the exact output size. Quote characters never occur inside UTF-8 multibyte sequences, so the JSON
+     * is escaped without being decoded.
+     */
+    @Override
+    public byte[] renderToBytes(byte[] pageObjectJson) {
+        if (templateSuffixBytes == null) return templatePrefixBytes.clone();
 
-        return templateMatcher.replaceFirst(escapedPageObjectJson);
+        int quoteCount = 0;
+        for (byte b : pageObjectJson) {
+            if (b == '"' || b == '\'') quoteCount++;
+        }
+
+        // Both escape sequences have the same length, so every quote grows the output by the same amount
+        int escapedLength = pageObjectJson.length + quoteCount * (escapedDoubleQuote.length - 1);
+        byte[] html = new byte[templatePrefixBytes.length + escapedLength + templateSuffixBytes.length];
+        System.arraycopy(templatePrefixBytes, 0, html, 0, templatePrefixBytes.length);
+        int position = templatePrefixBytes.length;
+        int unescapedStart = 0;
+        for (int i = 0; i < pageObjectJson.length; i++) {
+            byte[] replacement;
+            switch (pageObjectJson[i]) {
+                case '"':
+                    replacement = escapedDoubleQuote;
+                    break;
+                case '\'':
+                    replacement = escapedSingleQuote;
+                    break;
+                default:
+                    continue;
+            }
+            System.arraycopy(pageObjectJson, unescapedStart, html, position, i - unescapedStart);
+            position += i - unescapedStart;
+            System.arraycopy(replacement, 0, html, position, replacement.length);
+            position += replacement.length;
+            unescapedStart = i + 1;
+        }
+        System.arraycopy(pageObjectJson, unescapedStart, html, position, pageObjectJson.length - unescapedStart);
+        position += pageObjectJson.length - unescapedStart;
+        System.arraycopy(templateSuffixBytes, 0, html, position, templateSuffixBytes.length);
+        return html;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation writes the pre-encoded template prefix, then lets the page object writer stream its JSON
+     * through an escaping stream, and finally writes the template suffix. Nothing is buffered beyond what the
+     * writer and the output stream buffer themselves.
+     */
+    @Override
+    public void render(PageObjectWriter pageObjectWriter, OutputStream output) throws IOException {
+        output.write(templatePrefixBytes);
+        if (templateSuffixBytes == null) return;
+
+        try (HtmlAttributeEscapingOutputStream escapedOutput = new HtmlAttributeEscapingOutputStream(output)) {
+            pageObjectWriter.writeTo(escapedOutput);
+        }
+        output.write(templateSuffixBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation writes the template segments compressed when the renderer was constructed, and only
+     * compresses the escaped page object JSON, at the given level.
+     */
+    @Override
+    public void renderGzip(PageObjectWriter pageObjectWriter, OutputStream output, int level) throws IOException {
+        precompressedTemplate.write(content -> {
+            if (templateSuffixBytes == null) return;
+
+            try (HtmlAttributeEscapingOutputStream escapedOutput = new HtmlAttributeEscapingOutputStream(content)) {
+                pageObjectWriter.writeTo(escapedOutput);
+            }
+        }, output, level);
+    }
+
+    /**
+     * Appends the page object JSON to the builder in a single pass, escaping the quote characters so the
+     * JSON can be used as the value of a quoted HTML attribute.
+     * @param html The builder to append to.
+     * @param pageObjectJson The JSON to escape.
+     */
+    private static void appendEscaped(StringBuilder html, String pageObjectJson) {
+        int unescapedStart = 0;
+        for (int i = 0; i < pageObjectJson.length(); i++) {
+            String replacement;
+            switch (pageObjectJson.charAt(i)) {
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                case '\'':
+                    replacement = "&apos;";
+                    break;
+                default:
+                    continue;
+            }
+            html.append(pageObjectJson, unescapedStart, i).append(replacement);
+            unescapedStart = i + 1;
+        }
+        html.append(pageObjectJson, unescapedStart, pageObjectJson.length());
+    }
+
+    /**
+     * Estimates the length of the escaped JSON. JSON is dense in double quotes, so a fixed
+     * fraction of extra space avoids most resizes without doubling the buffer.
+     * @param length The unescaped length.
+     * @return The estimated escaped length.
+     */
+    private static int escapedLengthEstimate(int length) {
+        return length + (length >> 1);
     }
 
     /**
-     * Loads the template content from the specified classpath resource path.
+     * Loads the UTF-8 encoded template content from the specified classpath resource path.
      * @param path The classpath path to the template file.
      * @return The content of the template file as a String.
      * @throws TemplateRenderingException if the template file cannot be found or read.
@@ -59,7 +205,7 @@ public class SimpleTemplateRenderer implements TemplateRenderer {
             if (inputStream == null) {
                 throw new TemplateRenderingException(path);
             }
-            return new String(inputStream.readAllBytes());
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new TemplateRenderingException(path, e);
         }
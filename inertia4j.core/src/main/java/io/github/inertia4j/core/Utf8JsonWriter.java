@@ -0,0 +1,511 @@
+package io.github.inertia4j.core;
+
+import io.github.inertia4j.spi.PropSelection;
+import io.github.inertia4j.spi.RawJson;
+import io.github.inertia4j.spi.SerializationException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.UUID;
+
+/**
+ * Writes JSON as UTF-8 straight into a byte buffer, without any JSON library. Used by
+ * {@link SimplePageObjectSerializer}.
+ * <p>
+ * When constructed with an output stream, the buffer is written to the stream whenever it is full, so memory use does
+ * not depend on the size of the document. Otherwise the buffer grows to hold the whole document.
+ * <p>
+ * {@link #writeValue(Object)} supports the types props are usually made of: maps, with entries sorted by key,
+ * iterables, arrays, strings, numbers, booleans, enums and {@link Optional}. {@link RawJson} values are copied
+ * verbatim. Dates are written as epoch milliseconds, and {@code java.time} values, UUIDs, URIs and locales as their
+ * string form. Other objects are written with their {@link BeanProperties}.
+ */
+final class Utf8JsonWriter {
+    /**
+     * The deepest nesting of objects and arrays written, beyond which the value is likely to be cyclic.
+     */
+    private static final int maxDepth = 1000;
+    /**
+     * The number of chars of a string encoded per capacity check, so long strings do not need a buffer of six
+     * times their length.
+     */
+    private static final int stringChunk = 1024;
+    private static final byte[] hexDigits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] nullLiteral = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] trueLiteral = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] falseLiteral = "false".getBytes(StandardCharsets.US_ASCII);
+    /**
+     * How each ASCII char is written in a string: {@code 0} as is, {@code -1} as a {@code \}{@code u00XX} escape,
+     * or as a backslash followed by the given char.
+     */
+    private static final int[] asciiEscapes = asciiEscapes();
+
+    private final OutputStream output;
+    private byte[] buffer;
+    private int position;
+    private long flushed;
+    private int depth;
+
+    /**
+     * Constructs a Utf8JsonWriter.
+     * @param buffer The initial buffer, not empty, which may be reused once the writer is done with it.
+     * @param output The stream to write the buffer to when it is full, or {@code null} to grow the buffer instead.
+     */
+    Utf8JsonWriter(byte[] buffer, OutputStream output) {
+        this.buffer = buffer;
+        this.output = output;
+    }
+
+    /**
+     * Gets the number of bytes written so far, including the bytes already written to the stream.
+     * @return The byte count.
+     */
+    long size() {
+        return flushed + position;
+    }
+
+    /**
+     * Gets the current buffer, which is a larger one than the initial buffer if it had to grow.
+     * @return The buffer.
+     */
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copies the bytes written so far, when not writing to a stream.
+     * @return The JSON document.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Writes the buffered bytes to the stream, which is not flushed itself.
+     * @throws IOException if writing to the stream fails.
+     */
+    void flush() throws IOException {
+        if (output != null && position > 0) {
+            output.write(buffer, 0, position);
+            flushed += position;
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes an ASCII char, such as a bracket or a separator.
+     * @param c The char.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeByte(char c) throws IOException {
+        if (position == buffer.length) ensureCapacity(1);
+        buffer[position++] = (byte) c;
+    }
+
+    /**
+     * Writes bytes that are already valid JSON, such as a pre-encoded value.
+     * @param bytes The UTF-8 encoded JSON.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeRaw(byte[] bytes) throws IOException {
+        if (output != null && bytes.length > buffer.length) {
+            flush();
+            output.write(bytes);
+            flushed += bytes.length;
+            return;
+        }
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes an object field name followed by its colon.
+     * @param name The field name.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeFieldName(String name) throws IOException {
+        writeString(name);
+        writeByte(':');
+    }
+
+    /**
+     * Writes a quoted, escaped string. Non-ASCII chars are encoded to UTF-8 rather than escaped, and unpaired
+     * surrogates are escaped.
+     * @param value The string.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeString(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        int index = 0;
+        while (index < length) {
+            int end = Math.min(length, index + stringChunk);
+            // Six bytes at most per char, and a surrogate pair may end one char past the chunk
+            ensureCapacity((end - index + 1) * 6);
+            byte[] buffer = this.buffer;
+            int position = this.position;
+            while (index < end) {
+                char c = value.charAt(index++);
+                if (c < 0x80) {
+                    int escape = asciiEscapes[c];
+                    if (escape == 0) {
+                        buffer[position++] = (byte) c;
+                    } else if (escape > 0) {
+                        buffer[position++] = '\\';
+                        buffer[position++] = (byte) escape;
+                    } else {
+                        position = writeUnicodeEscape(buffer, position, c);
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xc0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3f));
+                } else if (!Character.isSurrogate(c)) {
+                    buffer[position++] = (byte) (0xe0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3f));
+                } else if (
+                    Character.isHighSurrogate(c) && index < length && Character.isLowSurrogate(value.charAt(index))
+                ) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(index++));
+                    buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else {
+                    position = writeUnicodeEscape(buffer, position, c);
+                }
+            }
+            this.position = position;
+        }
+        writeByte('"');
+    }
+
+    /**
+     * Writes an integral number.
+     * @param value The number.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value; remaining >= 10; remaining /= 10) digits++;
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * Writes any value, dispatching on its type.
+     * @param value The value, can be null.
+     * @throws IOException if writing to the stream fails.
+     * @throws SerializationException if the value, or a value nested in it, cannot be written.
+     */
+    void writeValue(Object value) throws IOException {
+        writeValue(value, null);
+    }
+
+    /**
+     * Writes any value, dispatching on its type, with only the selected properties of maps, records and beans.
+     * The selection applies to each element of arrays and iterables.
+     * @param value The value, can be null.
+     * @param selection The properties written, or {@code null} to write the whole value.
+     * @throws IOException if writing to the stream fails.
+     * @throws SerializationException if the value, or a value nested in it, cannot be written.
+     */
+    void writeValue(Object value, PropSelection selection) throws IOException {
+        if (value == null) {
+            writeRaw(nullLiteral);
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (
+            value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+        ) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            writeRaw((Boolean) value ? trueLiteral : falseLiteral);
+        } else if (value instanceof RawJson) {
+            writeRaw(((RawJson) value).getBytes());
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value, selection);
+        } else if (value instanceof Collection) {
+            writeIterable((Collection<?>) value, selection);
+        } else if (value instanceof Double || value instanceof Float) {
+            writeFloatingPoint(((Number) value).doubleValue(), value.toString());
+        } else if (value instanceof Number) {
+            // BigDecimal, BigInteger and atomic numbers
+            writeAscii(value.toString());
+        } else if (value instanceof Enum) {
+            writeString(((Enum<?>) value).name());
+        } else if (value instanceof Object[]) {
+            writeIterable(Arrays.asList((Object[]) value), selection);
+        } else if (value.getClass().isArray()) {
+            writePrimitiveArray(value);
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            writeString(value.toString());
+        } else if (value instanceof Optional) {
+            writeValue(((Optional<?>) value).orElse(null), selection);
+        } else if (value instanceof Iterable) {
+            writeIterable((Iterable<?>) value, selection);
+        } else if (value instanceof Date) {
+            writeLong(((Date) value).getTime());
+        } else if (value instanceof Calendar) {
+            writeLong(((Calendar) value).getTimeInMillis());
+        } else if (
+            value instanceof TemporalAccessor
+                || value instanceof TemporalAmount
+                || value instanceof ZoneId
+                || value instanceof UUID
+                || value instanceof URI
+                || value instanceof URL
+                || value instanceof Locale
+                || value instanceof Currency
+        ) {
+            writeString(value.toString());
+        } else if (value instanceof Class) {
+            writeString(((Class<?>) value).getName());
+        } else if (value instanceof File) {
+            writeString(((File) value).getAbsolutePath());
+        } else if (value instanceof Path) {
+            writeString(((Path) value).toUri().toString());
+        } else {
+            BeanProperties.of(value.getClass()).write(this, value, selection);
+        }
+    }
+
+    /**
+     * Notes that an object or an array is being written.
+     * @throws SerializationException if the nesting is too deep.
+     */
+    void enter() {
+        if (++depth > maxDepth) {
+            throw new SerializationException("Nesting depth exceeds " + maxDepth + ", the value may be cyclic");
+        }
+    }
+
+    /**
+     * Notes that an object or an array has been written.
+     */
+    void exit() {
+        depth--;
+    }
+
+    /**
+     * Writes a map as an object, with entries sorted by key. Keys are sorted in their natural order if they have
+     * one, as strings otherwise.
+     */
+    private void writeMap(Map<?, ?> map, PropSelection selection) throws IOException {
+        enter();
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : sortedEntries(map)) {
+            String key = keyString(entry.getKey());
+            if (selection != null && !selection.includes(key)) continue;
+            if (!first) writeByte(',');
+            first = false;
+            writeFieldName(key);
+            writeValue(entry.getValue(), selection != null ? selection.get(key) : null);
+        }
+        writeByte('}');
+        exit();
+    }
+
+    /**
+     * Writes the elements of an iterable as an array.
+     */
+    private void writeIterable(Iterable<?> values, PropSelection selection) throws IOException {
+        enter();
+        writeByte('[');
+        boolean first = true;
+        for (Object value : values) {
+            if (!first) writeByte(',');
+            first = false;
+            writeValue(value, selection);
+        }
+        writeByte(']');
+        exit();
+    }
+
+    /**
+     * Writes a primitive array as an array of numbers or booleans. Byte arrays are written as a Base64 string, and
+     * char arrays as a string.
+     */
+    private void writePrimitiveArray(Object array) throws IOException {
+        if (array instanceof byte[]) {
+            writeString(Base64.getEncoder().encodeToString((byte[]) array));
+            return;
+        }
+        if (array instanceof char[]) {
+            writeString(new String((char[]) array));
+            return;
+        }
+        enter();
+        writeByte('[');
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeLong(values[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeLong(values[i]);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeLong(values[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeFloatingPoint(values[i], Double.toString(values[i]));
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeFloatingPoint(values[i], Float.toString(values[i]));
+            }
+        } else {
+            boolean[] values = (boolean[]) array;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writeByte(',');
+                writeRaw(values[i] ? trueLiteral : falseLiteral);
+            }
+        }
+        writeByte(']');
+        exit();
+    }
+
+    /**
+     * Writes a floating point number, or a string for {@code NaN} and infinities, which JSON cannot represent.
+     */
+    private void writeFloatingPoint(double value, String text) throws IOException {
+        if (Double.isFinite(value)) {
+            writeAscii(text);
+        } else {
+            writeString(text);
+        }
+    }
+
+    /**
+     * Writes a string known to be made of ASCII chars that need no escaping, such as a number.
+     */
+    private void writeAscii(String text) throws IOException {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) text.charAt(i);
+        }
+    }
+
+    /**
+     * Makes room for the given number of bytes, writing the buffer to the stream or growing it.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position >= length) return;
+
+        flush();
+        if (buffer.length - position < length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    /**
+     * Lists the entries of a map in the order they are written.
+     */
+    private static Iterable<? extends Map.Entry<?, ?>> sortedEntries(Map<?, ?> map) {
+        if (map.size() < 2 || (map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() == null)) {
+            return map.entrySet();
+        }
+        List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+        try {
+            entries.sort(naturalKeyOrder());
+        } catch (ClassCastException | NullPointerException e) {
+            // Keys of different types, or without a natural order
+            entries.sort(Comparator.comparing(entry -> keyString(entry.getKey())));
+        }
+        return entries;
+    }
+
+    /**
+     * Compares map entries by the natural order of their keys.
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<Map.Entry<?, ?>> naturalKeyOrder() {
+        return (left, right) -> ((Comparable<Object>) left.getKey()).compareTo(right.getKey());
+    }
+
+    /**
+     * Converts a map key to the name of its field.
+     * @throws SerializationException if the key is null.
+     */
+    private static String keyString(Object key) {
+        if (key == null) throw new SerializationException("Null map keys cannot be written as JSON");
+        return key instanceof Enum ? ((Enum<?>) key).name() : key.toString();
+    }
+
+    /**
+     * Writes a char as a {@code \}{@code u} escape.
+     * @return The position after the escape.
+     */
+    private static int writeUnicodeEscape(byte[] buffer, int position, char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = hexDigits[(c >> 12) & 0xf];
+        buffer[position++] = hexDigits[(c >> 8) & 0xf];
+        buffer[position++] = hexDigits[(c >> 4) & 0xf];
+        buffer[position++] = hexDigits[c & 0xf];
+        return position;
+    }
+
+    private static int[] asciiEscapes() {
+        int[] escapes = new int[0x80];
+        for (int c = 0; c < 0x20; c++) escapes[c] = -1;
+        escapes['"'] = '"';
+        escapes['\\'] = '\\';
+        escapes['\b'] = 'b';
+        escapes['\f'] = 'f';
+        escapes['\n'] = 'n';
+        escapes['\r'] = 'r';
+        escapes['\t'] = 't';
+        return escapes;
+    }
+}
@@ -0,0 +1,241 @@
+package io.github.inertia4j.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Policy deciding which asset versions other than the current one are still served rather than answered with a
+ * 409 version conflict, registered with {@link InertiaRenderer#withVersionGracePolicy(VersionGracePolicy)}.
+ * <p>
+ * During a rolling deploy, nodes serving the old and the new version answer the same clients. Without a grace
+ * policy, every visit reaching a node with another version than the one the client loaded forces a full page
+ * reload, and clients may bounce between versions until the deploy completes. A grace policy tolerates the versions
+ * of the deploy instead:
+ * <ul>
+ *     <li>{@link #withRecentVersions(int)} tolerates the versions among the most recent deployments.</li>
+ *     <li>{@link #withGracePeriod(Duration)} tolerates a version for a while after the next version was deployed.
+ *     Clients still on an outdated version after that are asked to reload as usual.</li>
+ *     <li>{@link #withAcceptedVersions(Collection)} tolerates the given versions, for instance the previous version
+ *     passed to each node by the deployment pipeline.</li>
+ * </ul>
+ * When both the recent versions and the grace period are set, a version must satisfy both. The deployed versions are
+ * read from a {@link VersionStore}, which must be shared by the nodes for them to know about each other's versions.
+ * The renderer publishes the current version to the store, and reads the versions of the other nodes, as it renders
+ * pages: every refresh interval, five seconds by default, and whenever the current version changes. Checking a
+ * version in between costs a volatile read and a scan of a short list.
+ */
+public final class VersionGracePolicy {
+    private static final System.Logger logger = System.getLogger(VersionGracePolicy.class.getName());
+    private static final Duration defaultRefreshInterval = Duration.ofSeconds(5);
+
+    /**
+     * A policy tolerating no version other than the current one, used by default.
+     */
+    public static final VersionGracePolicy strict =
+        new VersionGracePolicy(0, null, Set.of(), VersionStore.inMemory(), defaultRefreshInterval);
+
+    private final int recentVersions;
+    private final Duration gracePeriod;
+    private final Set<String> acceptedVersions;
+    private final VersionStore store;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Internal constructor used by the factory methods and the {@code with} methods.
+     */
+    private VersionGracePolicy(
+        int recentVersions,
+        Duration gracePeriod,
+        Set<String> acceptedVersions,
+        VersionStore store,
+        Duration refreshInterval
+    ) {
+        if (recentVersions < 0) throw new IllegalArgumentException("Recent versions must not be negative");
+        if (gracePeriod != null && (gracePeriod.isZero() || gracePeriod.isNegative())) {
+            throw new IllegalArgumentException("Grace period must be positive");
+        }
+        if (refreshInterval.isNegative()) throw new IllegalArgumentException("Refresh interval must not be negative");
+
+        this.recentVersions = recentVersions;
+        this.gracePeriod = gracePeriod;
+        this.acceptedVersions = acceptedVersions;
+        this.store = Objects.requireNonNull(store);
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.snapshot = new Snapshot(null, List.of(), 0);
+    }
+
+    /**
+     * Creates a policy tolerating the given number of most recently deployed versions, including the current one.
+     * @param recentVersions The number of versions tolerated, {@code 2} to tolerate the previous and the next
+     *                       version of a rolling deploy.
+     * @return The policy, keeping the deployed versions in memory.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public static VersionGracePolicy recentVersions(int recentVersions) {
+        return new VersionGracePolicy(recentVersions, null, Set.of(), VersionStore.inMemory(), defaultRefreshInterval);
+    }
+
+    /**
+     * Creates a policy tolerating a version for the given period after the next version was deployed.
+     * @param gracePeriod The period, typically the duration of a rolling deploy.
+     * @return The policy, keeping the deployed versions in memory.
+     * @throws IllegalArgumentException if the period is zero or negative.
+     */
+    public static VersionGracePolicy gracePeriod(Duration gracePeriod) {
+        return new VersionGracePolicy(
+            0,
+            Objects.requireNonNull(gracePeriod),
+            Set.of(),
+            VersionStore.inMemory(),
+            defaultRefreshInterval
+        );
+    }
+
+    /**
+     * Creates a copy of this policy tolerating the given number of most recently deployed versions.
+     * @param recentVersions The number of versions tolerated, including the current one, or {@code 0} to only
+     *                       rely on the grace period.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public VersionGracePolicy withRecentVersions(int recentVersions) {
+        return new VersionGracePolicy(recentVersions, gracePeriod, acceptedVersions, store, refreshInterval());
+    }
+
+    /**
+     * Creates a copy of this policy tolerating a version for the given period after the next version was deployed.
+     * @param gracePeriod The period, or {@code null} to only rely on the recent versions.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the period is zero or negative.
+     */
+    public VersionGracePolicy withGracePeriod(Duration gracePeriod) {
+        return new VersionGracePolicy(recentVersions, gracePeriod, acceptedVersions, store, refreshInterval());
+    }
+
+    /**
+     * Creates a copy of this policy always tolerating the given versions, whether they are in the store or not.
+     * @param acceptedVersions The versions tolerated, can be null.
+     * @return The new policy.
+     */
+    public VersionGracePolicy withAcceptedVersions(Collection<String> acceptedVersions) {
+        return new VersionGracePolicy(
+            recentVersions,
+            gracePeriod,
+            acceptedVersions != null ? Set.copyOf(acceptedVersions) : Set.of(),
+            store,
+            refreshInterval()
+        );
+    }
+
+    /**
+     * Creates a copy of this policy reading the deployed versions from the given store.
+     * @param store The store, shared by the nodes of the application.
+     * @return The new policy.
+     */
+    public VersionGracePolicy withStore(VersionStore store) {
+        return new VersionGracePolicy(recentVersions, gracePeriod, acceptedVersions, store, refreshInterval());
+    }
+
+    /**
+     * Creates a copy of this policy reading the deployed versions from its store at most once per the given interval,
+     * unless the current version changes.
+     * @param refreshInterval The minimum time between two reads, or {@link Duration#ZERO} to read on every check.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the interval is negative.
+     */
+    public VersionGracePolicy withRefreshInterval(Duration refreshInterval) {
+        return new VersionGracePolicy(recentVersions, gracePeriod, acceptedVersions, store, refreshInterval);
+    }
+
+    /**
+     * Checks whether a client with another asset version than the current one can be served, rather than asked to
+     * reload the page.
+     * @param version The current asset version.
+     * @param clientVersion The asset version of the client, from the {@code X-Inertia-Version} header.
+     * @return {@code true} if the client version is tolerated.
+     */
+    public boolean accepts(String version, String clientVersion) {
+        if (acceptedVersions.contains(clientVersion)) return true;
+        if (recentVersions == 0 && gracePeriod == null) return false;
+
+        List<DeployedVersion> versions = deployedVersions(version);
+        int clientIndex = -1;
+        for (int i = 0; i < versions.size(); i++) {
+            if (versions.get(i).getVersion().equals(clientVersion)) clientIndex = i;
+        }
+        if (clientIndex < 0) return false;
+
+        if (recentVersions > 0 && clientIndex < versions.size() - recentVersions) return false;
+        if (gracePeriod != null && clientIndex < versions.size() - 1) {
+            // The window starts when the client's version was replaced, not at the latest deploy, which would
+            // otherwise tolerate arbitrarily old versions again after every deploy.
+            Instant replacedAt = versions.get(clientIndex + 1).getDeployedAt();
+            return Instant.now().isBefore(replacedAt.plus(gracePeriod));
+        }
+        return true;
+    }
+
+    /**
+     * Publishes the current version to the store if the refresh interval has elapsed or the version changed, so that
+     * other nodes learn about it even if this node never sees a mismatched client version. Called by the renderer
+     * on every render.
+     * @param version The current asset version.
+     */
+    void publish(String version) {
+        if (recentVersions > 0 || gracePeriod != null) deployedVersions(version);
+    }
+
+    /**
+     * Gets the deployed versions, publishing the current version and reading the store again when the refresh
+     * interval has elapsed or the current version changed. One caller reads the store while the others get the
+     * versions read last.
+     * @param version The current asset version.
+     * @return The deployed versions, from the oldest to the most recent deployment.
+     */
+    private List<DeployedVersion> deployedVersions(String version) {
+        Snapshot current = snapshot;
+        boolean stale = !version.equals(current.version)
+            || System.nanoTime() - current.refreshedAt >= refreshIntervalNanos;
+        if (stale && refreshing.compareAndSet(false, true)) {
+            try {
+                try {
+                    current = new Snapshot(version, store.publish(version), System.nanoTime());
+                } catch (RuntimeException e) {
+                    logger.log(System.Logger.Level.WARNING, "Failed to publish the asset version to the store", e);
+                    // Keep the versions read last, and try again on the next refresh
+                    current = new Snapshot(version, current.versions, System.nanoTime());
+                }
+                snapshot = current;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current.versions;
+    }
+
+    private Duration refreshInterval() {
+        return Duration.ofNanos(refreshIntervalNanos);
+    }
+
+    /**
+     * Deployed versions as of a read of the store.
+     */
+    private static class Snapshot {
+        final String version;
+        final List<DeployedVersion> versions;
+        final long refreshedAt;
+
+        Snapshot(String version, List<DeployedVersion> versions, long refreshedAt) {
+            this.version = version;
+            this.versions = versions;
+            this.refreshedAt = refreshedAt;
+        }
+    }
+}
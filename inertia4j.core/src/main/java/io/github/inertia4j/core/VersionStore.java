@@ -0,0 +1,50 @@
+package io.github.inertia4j.core;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Store of the asset versions recently deployed, used by a {@link VersionGracePolicy} to tell the versions of a
+ * rolling deploy apart from outdated ones. Every node publishes the version it serves, and gets the versions the
+ * others published, so a store shared by all nodes lets them agree on the versions in use.
+ * <p>
+ * {@link #inMemory()} only knows the versions of the current process, and {@link #ofFile(Path)} those of the
+ * processes sharing a file. Other stores, backed by a database or a cache shared by the nodes, implement this
+ * interface.
+ */
+@FunctionalInterface
+public interface VersionStore {
+    /**
+     * Maximum number of versions kept by the built-in stores.
+     */
+    int maxVersions = 16;
+
+    /**
+     * Publishes the version served by this node, recording it with the current time if the store does not have it
+     * yet, and gets the versions deployed recently. Called periodically by the policy, never on every render.
+     * @param version The asset version served by this node.
+     * @return The versions deployed recently, from the oldest to the most recent deployment, including the published
+     *         version.
+     * @throws RuntimeException if the store cannot be reached. The policy then keeps the versions it got last.
+     */
+    List<DeployedVersion> publish(String version);
+
+    /**
+     * Creates a store keeping the versions published by the current process in memory.
+     * @return The store.
+     */
+    static VersionStore inMemory() {
+        return new InMemoryVersionStore();
+    }
+
+    /**
+     * Creates a store keeping the versions in a file, which can be shared by the processes of a host or the nodes
+     * mounting a shared volume. Updates are serialized with a file lock. A single store should be created per file
+     * in a process.
+     * @param file The path of the file, created if it does not exist.
+     * @return The store.
+     */
+    static VersionStore ofFile(Path file) {
+        return new FileVersionStore(file);
+    }
+}
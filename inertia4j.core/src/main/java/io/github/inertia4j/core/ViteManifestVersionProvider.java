@@ -0,0 +1,203 @@
+package io.github.inertia4j.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Asset version provider deriving the version from the digest of the Vite {@code manifest.json}, which changes
+ * whenever a build changes an asset.
+ * <p>
+ * The manifest is hashed once, and the digest is cached. Manifests on the filesystem, including classpath resources
+ * of an exploded application, are checked for changes at most once per check interval, one second by default, by
+ * comparing their modification time and size; they are hashed again only when these change. Manifests packaged in a
+ * jar cannot change, and are never checked again. Getting the version is otherwise a volatile read, so the provider
+ * can be called on every render.
+ * <p>
+ * While the manifest does not exist, for instance when assets are served by the Vite development server, the version
+ * is {@code null} and asset versioning is disabled.
+ */
+public class ViteManifestVersionProvider implements Supplier<String> {
+    private static final System.Logger logger = System.getLogger(ViteManifestVersionProvider.class.getName());
+    private static final Duration defaultCheckInterval = Duration.ofSeconds(1);
+    private static final int digestBytes = 16;
+    private static final char[] hexDigits = "0123456789abcdef".toCharArray();
+
+    private final Path file;
+    private final long checkIntervalNanos;
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Internal constructor used by the factory methods and {@link #withCheckInterval(Duration)}.
+     * @param file The manifest file to check for changes, or {@code null} if the manifest cannot change.
+     * @param checkInterval The minimum time between two checks of the manifest file.
+     * @param snapshot The version of a manifest that cannot change, or {@code null} to load the file.
+     */
+    private ViteManifestVersionProvider(Path file, Duration checkInterval, Snapshot snapshot) {
+        if (checkInterval.isNegative()) throw new IllegalArgumentException("Check interval must not be negative");
+
+        this.file = file;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.snapshot = snapshot != null ? snapshot : load(null);
+    }
+
+    /**
+     * Creates a provider hashing a manifest on the filesystem, such as {@code dist/.vite/manifest.json}.
+     * @param file The path of the manifest.
+     * @return The provider.
+     */
+    public static ViteManifestVersionProvider ofFile(Path file) {
+        return new ViteManifestVersionProvider(Objects.requireNonNull(file), defaultCheckInterval, null);
+    }
+
+    /**
+     * Creates a provider hashing a manifest on the classpath, such as {@code static/.vite/manifest.json}.
+     * @param resourcePath The classpath path of the manifest.
+     * @return The provider.
+     * @throws UncheckedIOException if the manifest is packaged in a jar and cannot be read.
+     */
+    public static ViteManifestVersionProvider ofClasspathResource(String resourcePath) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        URL resource = classLoader.getResource(resourcePath);
+        if (resource == null) {
+            logger.log(
+                System.Logger.Level.WARNING,
+                "Vite manifest not found at classpath resource path " + resourcePath + ", asset versioning is disabled"
+            );
+            return new ViteManifestVersionProvider(null, defaultCheckInterval, Snapshot.missing);
+        }
+
+        if (resource.getProtocol().equals("file")) {
+            try {
+                return ofFile(Path.of(resource.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Not a path the filesystem can watch, read it once below
+            }
+        }
+        try (InputStream inputStream = resource.openStream()) {
+            String version = digest(inputStream.readAllBytes());
+            return new ViteManifestVersionProvider(null, defaultCheckInterval, new Snapshot(version, null, -1, 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the Vite manifest at " + resource, e);
+        }
+    }
+
+    /**
+     * Creates a copy of this provider checking the manifest for changes at most once per the given interval.
+     * @param checkInterval The minimum time between two checks, or {@link Duration#ZERO} to check on every call.
+     * @return The new provider.
+     */
+    public ViteManifestVersionProvider withCheckInterval(Duration checkInterval) {
+        return new ViteManifestVersionProvider(file, checkInterval, file == null ? snapshot : null);
+    }
+
+    /**
+     * Gets the asset version: the hexadecimal digest of the manifest, or {@code null} if there is no manifest.
+     * When the check interval has elapsed, one caller checks the manifest for changes while the others get the
+     * cached version.
+     * @return The asset version.
+     */
+    @Override
+    public String get() {
+        Snapshot current = snapshot;
+        if (file != null
+            && System.nanoTime() - current.checkedAt >= checkIntervalNanos
+            && checking.compareAndSet(false, true)) {
+            try {
+                current = load(current);
+                snapshot = current;
+            } finally {
+                checking.set(false);
+            }
+        }
+        return current.version;
+    }
+
+    /**
+     * Loads the version of the manifest file, hashing it only if its modification time or size changed.
+     * @param previous The previous snapshot, or {@code null} on the first load.
+     * @return The new snapshot.
+     */
+    private Snapshot load(Snapshot previous) {
+        long now = System.nanoTime();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (previous != null
+                && attributes.lastModifiedTime().equals(previous.lastModified)
+                && attributes.size() == previous.size) {
+                return new Snapshot(previous.version, previous.lastModified, previous.size, now);
+            }
+            String version = digest(Files.readAllBytes(file));
+            return new Snapshot(version, attributes.lastModifiedTime(), attributes.size(), now);
+        } catch (NoSuchFileException e) {
+            if (previous == null || previous.version != null) {
+                logger.log(
+                    System.Logger.Level.WARNING,
+                    "Vite manifest not found at " + file + ", asset versioning is disabled until it exists"
+                );
+            }
+            return new Snapshot(null, null, -1, now);
+        } catch (IOException e) {
+            logger.log(System.Logger.Level.WARNING, "Failed to read the Vite manifest at " + file, e);
+            // Keep the last known version, and try again on the next check
+            return new Snapshot(previous != null ? previous.version : null, null, -1, now);
+        }
+    }
+
+    /**
+     * Computes the version of manifest contents.
+     * @param manifest The manifest contents.
+     * @return The hexadecimal digest of the contents.
+     */
+    private static String digest(byte[] manifest) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(manifest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation supports SHA-256
+            throw new IllegalStateException(e);
+        }
+        char[] version = new char[digestBytes * 2];
+        for (int i = 0; i < digestBytes; i++) {
+            version[i * 2] = hexDigits[(digest[i] >> 4) & 0xf];
+            version[i * 2 + 1] = hexDigits[digest[i] & 0xf];
+        }
+        return new String(version);
+    }
+
+    /**
+     * Version of the manifest as of a check, with the attributes of the file it was computed from.
+     */
+    private static class Snapshot {
+        /**
+         * Snapshot of a manifest that does not exist.
+         */
+        static final Snapshot missing = new Snapshot(null, null, -1, 0);
+
+        final String version;
+        final FileTime lastModified;
+        final long size;
+        final long checkedAt;
+
+        Snapshot(String version, FileTime lastModified, long size, long checkedAt) {
+            this.version = version;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
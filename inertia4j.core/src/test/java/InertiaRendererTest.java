@@ -1,13 +1,43 @@
 import io.github.inertia4j.core.*;
+import io.github.inertia4j.spi.DeferredProp;
+import io.github.inertia4j.spi.LazyProp;
 import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.RawJson;
+import io.github.inertia4j.spi.SerializationException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InertiaRendererTest {
     private final PageObjectSerializer pageObjectSerializer = new DefaultPageObjectSerializer();
@@ -136,6 +166,700 @@ public class InertiaRendererTest {
         assertEquals(expectedJson, response.getBody());
     }
 
+    @Test
+    void render_whenPartialInertiaRequest_doesNotSerializeExcludedProps() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Data", "user"
+        ));
+        Map<String, Object> props = Map.of("user", "test", "broken", new UnserializableProp());
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        assertEquals(200, response.getCode());
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void render_withLazyProps_evaluatesThemWhenIncluded() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of("user", LazyProp.of(() -> "test"), "status", 1);
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"status\":1,\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void render_whenPartialInertiaRequest_doesNotEvaluateExcludedLazyProps() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Data", "user"
+        ));
+        var evaluations = new AtomicInteger();
+        Map<String, Object> props = Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(evaluations::incrementAndGet)
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void render_whenPartialExceptRequest_doesNotEvaluateExcludedLazyProps() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Except", "stats"
+        ));
+        var evaluations = new AtomicInteger();
+        Map<String, Object> props = Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(evaluations::incrementAndGet)
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void render_whenPartialRequestWithNestedPaths_selectsBranchesOfMapProps() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Data", "user,stats.daily",
+            "X-Inertia-Partial-Except", "stats.daily.visits"
+        ));
+        Map<String, Object> stats = Map.of(
+            "daily", Map.of("visits", 10, "signups", 2),
+            "monthly", Map.of("visits", 300, "signups", 60)
+        );
+        Map<String, Object> props = Map.of(
+            "user", "test",
+            "stats", LazyProp.of(() -> stats),
+            "status", 1
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"stats\":{\"daily\":{\"signups\":2}},\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void render_whenPartialRequestWithNestedPaths_selectsPropertiesOfBeans() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Data", "users,settings.theme",
+            "X-Inertia-Partial-Except", "users.data.email,users.perPage"
+        ));
+        var users = new Paginator(List.of(new Member("Ana", "ana@example.com"), new Member("Bia", "bia@example.com")), 2);
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("users", users, "status", 1));
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"settings\":{\"theme\":\"dark\"},\"users\":{\"data\":[{\"name\":\"Ana\"},{\"name\":\"Bia\"}],\"total\":2}},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        for (PageObjectSerializer serializer : List.of(new JacksonPageObjectSerializer(), new SimplePageObjectSerializer())) {
+            HttpResponse response = new InertiaRenderer(serializer, versionProvider, "template.html")
+                .withSharedProps(Map.of("settings", new Settings("dark", "en")))
+                .render(httpRequest, options);
+
+            assertEquals(expectedJson, response.getBody());
+        }
+    }
+
+    @Test
+    void render_withDeferredProps_listsThemByGroupWithoutEvaluating() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        var evaluations = new AtomicInteger();
+        Map<String, Object> props = Map.of(
+            "user", "test",
+            "permissions", DeferredProp.of(evaluations::incrementAndGet),
+            "teams", DeferredProp.of("attributes", evaluations::incrementAndGet),
+            "users", DeferredProp.of("attributes", evaluations::incrementAndGet)
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false,\"deferredProps\":{\"attributes\":[\"teams\",\"users\"],\"default\":[\"permissions\"]}}";
+        assertEquals(expectedJson, response.getBody());
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void render_whenPartialRequestForDeferredGroup_evaluatesGroupConcurrently() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Component",
+            "X-Inertia-Partial-Data", "teams,users"
+        ));
+        var bothStarted = new CountDownLatch(2);
+        Supplier<Object> awaitOther = () -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Map<String, Object> props = Map.of(
+            "user", "test",
+            "teams", DeferredProp.of("attributes", awaitOther),
+            "users", DeferredProp.of("attributes", awaitOther)
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        HttpResponse response;
+        try {
+            response = renderer().withPropExecutor(executor).render(httpRequest, options);
+        } finally {
+            executor.shutdown();
+        }
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"teams\":true,\"users\":true},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void render_whenLazyPropTimesOut_throwsPropResolutionException() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        var release = new CountDownLatch(1);
+        Map<String, Object> props = Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            })
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            InertiaRenderer renderer = renderer()
+                .withPropExecutor(executor)
+                .withPropTimeout(Duration.ofMillis(50));
+
+            assertThrows(PropResolutionException.class, () -> renderer.render(httpRequest, options));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void render_withPropTimeoutAndOmitFailurePolicy_interruptsTimedOutProps() throws InterruptedException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, Object> props = Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(() -> {
+                try {
+                    return new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+            })
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HttpResponse response = renderer()
+                .withPropExecutor(executor)
+                .withPropTimeout(Duration.ofMillis(50))
+                .withPropFailurePolicy(PropFailurePolicy.OMIT)
+                .render(httpRequest, options);
+
+            var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+            assertEquals(expectedJson, response.getBody());
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void render_withOmitFailurePolicy_leavesFailingPropsOut() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(() -> {
+                throw new IllegalStateException("Stats are unavailable");
+            })
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = renderer()
+            .withPropExecutor(null)
+            .withPropFailurePolicy(PropFailurePolicy.OMIT)
+            .render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void renderAsync_withFutureProps_completesOnceFuturesComplete() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        var users = new CompletableFuture<Object>();
+        Map<String, Object> props = Map.of(
+            "users", users,
+            "stats", LazyProp.of(() -> CompletableFuture.completedFuture(3))
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        CompletableFuture<HttpResponse> response = renderer()
+            .withPropExecutor(null)
+            .renderAsync(httpRequest, options)
+            .toCompletableFuture();
+
+        assertFalse(response.isDone());
+        users.complete("test");
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"stats\":3,\"users\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.join().getBody());
+    }
+
+    @Test
+    void render_withFutureProps_waitsForThem() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of("user", CompletableFuture.supplyAsync(() -> "test"));
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+    }
+
+    @Test
+    void render_withSharedProps_serializesStaticSharedPropsOnce() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        var serializations = new AtomicInteger();
+        var sharedProps = Map.<String, Object>of(
+            "config", new CountingProp(serializations),
+            "user", LazyProp.of(() -> "test"),
+            "title", "Shared"
+        );
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("title", "Page"));
+        InertiaRenderer renderer = renderer().withPropExecutor(null).withSharedProps(sharedProps);
+
+        renderer.render(httpRequest, options);
+        HttpResponse response = renderer.render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"config\":{\"value\":\"config\"},\"title\":\"Page\",\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void render_whenPartialInertiaRequest_withSharedProps_leavesOutSharedPropsNotRequested() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Data", "flash"
+        ));
+        var evaluations = new AtomicInteger();
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("title", "Page"))
+            .withSharedProps(Map.of(
+                "flash", "Saved",
+                "user", LazyProp.of(evaluations::incrementAndGet)
+            ));
+
+        HttpResponse response = renderer().withSharedProps(Map.of("locale", "en")).render(httpRequest, options);
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"flash\":\"Saved\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedJson, response.getBody());
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void render_withETags_whenIfNoneMatchMatches_returns304WithoutBody() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"))
+            .withCacheControl("private, no-cache");
+        InertiaRenderer renderer = renderer().withETags(true);
+
+        HttpResponse response = renderer.render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options);
+        String eTag = response.getHeaders().get("ETag").get(0);
+        HttpResponse revalidated = renderer.render(
+            new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "If-None-Match", "W/" + eTag)),
+            options
+        );
+        HttpResponse fullPage = renderer.render(new FakeHttpRequest("GET", Map.of("If-None-Match", eTag)), options);
+
+        assertEquals(200, response.getCode());
+        assertEquals(List.of("X-Inertia, X-Inertia-Partial-Data, X-Inertia-Partial-Except, X-Inertia-Partial-Component"), response.getHeaders().get("Vary"));
+        assertEquals(List.of("private, no-cache"), response.getHeaders().get("Cache-Control"));
+        assertEquals(304, revalidated.getCode());
+        assertEquals(List.of(eTag), revalidated.getHeaders().get("ETag"));
+        assertFalse(revalidated.hasBody());
+        assertEquals(200, fullPage.getCode());
+    }
+
+    @Test
+    void render_withSuppliedETag_whenIfNoneMatchMatches_doesNotResolveProps() {
+        var evaluations = new AtomicInteger();
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(evaluations::incrementAndGet)
+        )).withETag("42");
+
+        HttpResponse response = renderer().render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options);
+        String eTag = response.getHeaders().get("ETag").get(0);
+        HttpResponse revalidated = renderer().render(
+            new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "If-None-Match", "\"other\", " + eTag)),
+            options
+        );
+
+        assertEquals(304, revalidated.getCode());
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void render_withRenderObserver_reportsPhasesAndSizes() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of("user", LazyProp.of(() -> "test"));
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        HttpResponse response = renderer()
+            .withPropExecutor(null)
+            .withRenderObserver(recordingObserver(events))
+            .render(httpRequest, options);
+
+        assertEquals(List.of(
+            "start Component JSON",
+            "start PROPS",
+            "start PROP user",
+            "end PROP",
+            "end PROPS",
+            "start SERIALIZATION",
+            "prop user " + "\"user\":\"test\"".length(),
+            "end SERIALIZATION",
+            "serialized " + response.getBodyBytes().length,
+            "finished 200 " + response.getBodyBytes().length
+        ), events);
+    }
+
+    @Test
+    void renderStreaming_withRenderObserver_reportsFinishedOnceBodyIsWritten() throws IOException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of());
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"));
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        HttpResponse response = renderer()
+            .withRenderObserver(recordingObserver(events))
+            .renderStreaming(httpRequest, options);
+        assertFalse(events.stream().anyMatch(event -> event.startsWith("finished")));
+        var output = new ByteArrayOutputStream();
+        response.writeBody(output);
+
+        assertEquals(List.of(
+            "start TEMPLATE",
+            "end TEMPLATE",
+            "start SERIALIZATION",
+            "prop user " + "\"user\":\"test\"".length(),
+            "end SERIALIZATION",
+            "serialized " + "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}".length(),
+            "finished 200 " + output.size()
+        ), events.subList(events.size() - 7, events.size()));
+    }
+
+    @Test
+    void render_withFailPayloadBudgetPolicy_whenPropIsOverBudget_throwsPayloadBudgetExceededException() {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of("user", "test", "records", "x".repeat(100));
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+        InertiaRenderer renderer = renderer()
+            .withPropPayloadBudget(50)
+            .withPayloadBudgetPolicy(PayloadBudgetPolicy.FAIL);
+
+        var exception = assertThrows(
+            PayloadBudgetExceededException.class,
+            () -> renderer.render(httpRequest, options)
+        );
+        assertTrue(exception.getMessage().contains("records"));
+    }
+
+    @Test
+    void renderStreaming_withFailPayloadBudgetPolicy_failsBeforeWritingBody() throws IOException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of());
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("records", "x".repeat(300)));
+        InertiaRenderer renderer = renderer()
+            .withPagePayloadBudget(200)
+            .withPayloadBudgetPolicy(PayloadBudgetPolicy.FAIL);
+
+        assertThrows(PayloadBudgetExceededException.class, () -> renderer.renderStreaming(httpRequest, options));
+
+        HttpResponse small = renderer.renderStreaming(
+            httpRequest,
+            new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"))
+        );
+        var output = new ByteArrayOutputStream();
+        small.writeBody(output);
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("&quot;user&quot;:&quot;test&quot;"));
+    }
+
+    @Test
+    void render_whenRecordingWithFlightRecorder_emitsRenderEvents() throws IOException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Data", "user"
+        ));
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"));
+        var conflictRequest = new FakeHttpRequest("GET", Map.of("X-Inertia-Version", "old"));
+        Path recordingFile = Files.createTempFile("inertia", ".jfr");
+
+        HttpResponse response;
+        try (var recording = new Recording()) {
+            recording.enable("io.github.inertia4j.Render");
+            recording.start();
+            response = render(httpRequest, options);
+            render(conflictRequest, options);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+
+        assertEquals(2, events.size());
+        RecordedEvent partialEvent = events.get(0);
+        assertEquals("Component", partialEvent.getString("component"));
+        assertEquals("PARTIAL", partialEvent.getString("kind"));
+        assertEquals("user", partialEvent.getString("partialData"));
+        assertEquals(200, partialEvent.getInt("status"));
+        assertEquals(response.getBodyBytes().length, partialEvent.getLong("pageObjectSize"));
+        assertFalse(partialEvent.getBoolean("versionConflict"));
+        RecordedEvent conflictEvent = events.get(1);
+        assertEquals("VERSION_CONFLICT", conflictEvent.getString("kind"));
+        assertEquals(409, conflictEvent.getInt("status"));
+        assertTrue(conflictEvent.getBoolean("versionConflict"));
+    }
+
+    @Test
+    void renderStreaming_whenInitialRequest_writesSameHtmlAsRender() throws IOException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of());
+        var options = new InertiaRenderingOptions(
+            false,
+            false,
+            "/page",
+            "Component",
+            Map.of("name", "\"An album\"", "genre", "Drum n' Bass")
+        );
+
+        HttpResponse response = renderer().renderStreaming(httpRequest, options);
+        var output = new ByteArrayOutputStream();
+        response.writeBody(output);
+
+        assertEquals(200, response.getCode());
+        assertEquals(Collections.singletonList("text/html"), response.getHeaders().get("Content-Type"));
+        assertEquals(render(httpRequest, options).getBody(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void renderStreaming_whenInertiaRequest_writesSameJsonAsRender() throws IOException {
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+        Map<String, Object> props = Map.of("user", "test", "status", 1);
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", props);
+
+        HttpResponse response = renderer().renderStreaming(httpRequest, options);
+        var output = new ByteArrayOutputStream();
+        response.writeBody(output);
+
+        assertEquals(200, response.getCode());
+        assertEquals(Collections.singletonList("application/json"), response.getHeaders().get("Content-Type"));
+        assertEquals(render(httpRequest, options).getBody(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void render_withCompression_whenGzipAccepted_compressesLargePages() throws IOException {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "description", "Drum n' Bass ".repeat(200)
+        ));
+        InertiaRenderer renderer = renderer().withCompression(true);
+        var httpRequest = new FakeHttpRequest("GET", Map.of("Accept-Encoding", "deflate, gzip;q=0.8"));
+
+        HttpResponse response = renderer.render(httpRequest, options);
+        HttpResponse streamed = renderer.renderStreaming(httpRequest, options);
+        var streamedOutput = new ByteArrayOutputStream();
+        streamed.writeBody(streamedOutput);
+
+        String html = render(new FakeHttpRequest("GET", Map.of()), options).getBody();
+        assertEquals(List.of("gzip"), response.getHeaders().get("Content-Encoding"));
+        assertEquals(
+            List.of("X-Inertia, X-Inertia-Partial-Data, X-Inertia-Partial-Except, X-Inertia-Partial-Component, Accept-Encoding"),
+            response.getHeaders().get("Vary")
+        );
+        assertEquals(html, gunzip(response.getBodyBytes()));
+        assertEquals(List.of("gzip"), streamed.getHeaders().get("Content-Encoding"));
+        assertEquals(html, gunzip(streamedOutput.toByteArray()));
+    }
+
+    @Test
+    void render_withCompression_sendsSmallOrUnacceptedPagesUncompressed() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "description", "Drum n' Bass ".repeat(200)
+        ));
+        InertiaRenderer renderer = renderer().withCompression(true);
+
+        HttpResponse small = renderer.render(
+            new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "Accept-Encoding", "gzip")),
+            new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"))
+        );
+        HttpResponse refused = renderer.render(
+            new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "Accept-Encoding", "*, gzip;q=0")),
+            options
+        );
+
+        var expectedJson = "{\"component\":\"Component\",\"props\":{\"user\":\"test\"},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertNull(small.getHeaders().get("Content-Encoding"));
+        assertEquals(expectedJson, small.getBody());
+        assertNull(refused.getHeaders().get("Content-Encoding"));
+        assertEquals(
+            render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options).getBody(),
+            refused.getBody()
+        );
+    }
+
+    @Test
+    void render_getsVersionOncePerRender() {
+        var versionCalls = new AtomicInteger();
+        versionProvider = () -> {
+            versionCalls.incrementAndGet();
+            return "1";
+        };
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"))
+            .withETag("42");
+
+        render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "X-Inertia-Version", "1")), options);
+
+        assertEquals(1, versionCalls.get());
+    }
+
+    @Test
+    void render_withoutVersion_doesNotReportVersionConflicts() {
+        versionProvider = () -> null;
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"));
+
+        HttpResponse response = render(
+            new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "X-Inertia-Version", "1")),
+            options
+        );
+
+        assertEquals(200, response.getCode());
+    }
+
+    @Test
+    void render_withRecentVersionsGracePolicy_servesRecentClientVersionsAndReportsAvoidedConflicts() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"));
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "X-Inertia-Version", "1"));
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        var version = new AtomicReference<>("1");
+        versionProvider = version::get;
+        InertiaRenderer renderer = renderer()
+            .withVersionGracePolicy(VersionGracePolicy.recentVersions(2).withRefreshInterval(Duration.ZERO))
+            .withRenderObserver(recordingObserver(events));
+
+        renderer.render(httpRequest, options);
+        version.set("2");
+        HttpResponse tolerated = renderer.render(httpRequest, options);
+        version.set("3");
+        HttpResponse outdated = renderer.render(httpRequest, options);
+
+        assertEquals(200, tolerated.getCode());
+        assertTrue(events.contains("version conflict avoided 1 2"));
+        assertEquals(409, outdated.getCode());
+        assertFalse(events.contains("version conflict avoided 1 3"));
+    }
+
+    @Test
+    void render_withGracePeriodPolicy_servesClientVersionsUntilGracePeriodAfterLaterDeployment() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of("user", "test"));
+        var oldClient = new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "X-Inertia-Version", "1"));
+        var newClient = new FakeHttpRequest("GET", Map.of("X-Inertia", "true", "X-Inertia-Version", "3"));
+        Instant now = Instant.now();
+        List<DeployedVersion> versions = List.of(
+            new DeployedVersion("1", now.minus(Duration.ofHours(2))),
+            new DeployedVersion("2", now.minus(Duration.ofHours(1))),
+            new DeployedVersion("3", now.minus(Duration.ofMinutes(1)))
+        );
+        versionProvider = () -> "2";
+        InertiaRenderer renderer = renderer().withVersionGracePolicy(
+            VersionGracePolicy.gracePeriod(Duration.ofMinutes(10)).withStore(version -> versions)
+        );
+
+        assertEquals(200, renderer.render(newClient, options).getCode());
+        assertEquals(409, renderer.render(oldClient, options).getCode());
+    }
+
+    @Test
+    void render_withRawJsonProps_writesThemVerbatim() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "cart", RawJson.of("{\"items\": [1, 2]}"),
+            "user", Map.of("settings", RawJson.of("{\"theme\":\"dark\"}".getBytes(StandardCharsets.UTF_8)))
+        ));
+
+        HttpResponse response = render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options);
+
+        var expectedBody = "{\"component\":\"Component\",\"props\":{\"cart\":{\"items\": [1, 2]},\"user\":{\"settings\":{\"theme\":\"dark\"}}},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}";
+        assertEquals(expectedBody, response.getBody());
+    }
+
+    @Test
+    void render_withRawJsonValidation_whenRawJsonIsMalformed_throwsSerializationException() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "valid", RawJson.of("[{\"a\": -1.5e3, \"b\": \"\\u00e9\"}, true, null]"),
+            "cart", List.of(RawJson.of("{\"items\": [1, 2,]}"))
+        ));
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+
+        var exception = assertThrows(
+            SerializationException.class,
+            () -> renderer().withRawJsonValidation(true).render(httpRequest, options)
+        );
+        var asyncException = assertThrows(
+            ExecutionException.class,
+            () -> renderer().withRawJsonValidation(true).renderAsync(httpRequest, options).toCompletableFuture().get()
+        );
+
+        assertEquals("Prop 'cart' has invalid raw JSON at offset 16", exception.getMessage());
+        assertTrue(asyncException.getCause() instanceof SerializationException);
+        assertEquals(200, render(httpRequest, options).getCode());
+    }
+
+    @Test
+    void render_withRawJsonValidation_whenRawJsonInBeanIsMalformed_throwsSerializationException() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "widget", Optional.of(new Widget(RawJson.of("{\"size\": }")))
+        ));
+        var httpRequest = new FakeHttpRequest("GET", Map.of("X-Inertia", "true"));
+
+        var exception = assertThrows(
+            SerializationException.class,
+            () -> renderer().withRawJsonValidation(true).render(httpRequest, options)
+        );
+
+        assertEquals("Prop 'widget' has invalid raw JSON at offset 9", exception.getMessage());
+    }
+
     @Test
     void render_withFullPageLoad_withNullProps_rendersEmptyObjectProps() {
         var httpRequest = new FakeHttpRequest("GET", Map.of());
@@ -174,11 +898,104 @@ public class InertiaRendererTest {
     }
 
     private HttpResponse render(HttpRequest request, InertiaRenderingOptions options) {
+        return renderer().render(request, options);
+    }
+
+    private InertiaRenderer renderer() {
         return new InertiaRenderer(
             pageObjectSerializer,
             versionProvider,
             "template.html"
-        ).render(request, options);
+        );
+    }
+
+    public static class CountingProp {
+        private final AtomicInteger serializations;
+
+        CountingProp(AtomicInteger serializations) {
+            this.serializations = serializations;
+        }
+
+        public String getValue() {
+            serializations.incrementAndGet();
+            return "config";
+        }
+    }
+
+    public static class UnserializableProp {
+        public String getValue() {
+            throw new IllegalStateException("Prop should not be serialized");
+        }
+    }
+
+    public static class Paginator {
+        private final List<Member> data;
+        private final int total;
+
+        Paginator(List<Member> data, int total) {
+            this.data = data;
+            this.total = total;
+        }
+
+        public List<Member> getData() {
+            return data;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getPerPage() {
+            return 15;
+        }
+    }
+
+    public static class Member {
+        private final String name;
+        private final String email;
+
+        Member(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    public static class Settings {
+        private final String theme;
+        private final String locale;
+
+        Settings(String theme, String locale) {
+            this.theme = theme;
+            this.locale = locale;
+        }
+
+        public String getTheme() {
+            return theme;
+        }
+
+        public String getLocale() {
+            return locale;
+        }
+    }
+
+    public static class Widget {
+        private final RawJson config;
+
+        Widget(RawJson config) {
+            this.config = config;
+        }
+
+        public RawJson getConfig() {
+            return config;
+        }
     }
 
     private static String normalizeHtml(String html) {
@@ -186,4 +1003,43 @@ public class InertiaRendererTest {
             .replaceAll(">\\s+<", "><")
             .trim();
     }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(decompressed.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static RenderObserver recordingObserver(List<String> events) {
+        return render -> {
+            events.add("start " + render.getComponent() + " " + render.getKind());
+            return new RenderObservation() {
+                @Override
+                public PhaseObservation startPhase(RenderPhase phase, String propName) {
+                    events.add("start " + phase + (propName != null ? " " + propName : ""));
+                    return failure -> events.add("end " + phase);
+                }
+
+                @Override
+                public void versionConflictAvoided(String clientVersion, String version) {
+                    events.add("version conflict avoided " + clientVersion + " " + version);
+                }
+
+                @Override
+                public void propSerialized(String propName, long bytes) {
+                    events.add("prop " + propName + " " + bytes);
+                }
+
+                @Override
+                public void serialized(long bytes) {
+                    events.add("serialized " + bytes);
+                }
+
+                @Override
+                public void finished(int status, long bodyBytes, Throwable failure) {
+                    events.add("finished " + status + " " + bodyBytes);
+                }
+            };
+        };
+    }
 }
@@ -0,0 +1,95 @@
+import io.github.inertia4j.core.DefaultPageObjectSerializer;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.core.InertiaRenderingOptions;
+import io.github.inertia4j.core.MicrometerRenderObserver;
+import io.github.inertia4j.spi.LazyProp;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MicrometerRenderObserverTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InertiaRenderer renderer = new InertiaRenderer(
+        new DefaultPageObjectSerializer(),
+        () -> "1",
+        "template.html"
+    ).withRenderObserver(new MicrometerRenderObserver(registry));
+
+    @Test
+    void render_recordsRenderPhaseAndPropTimers() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(() -> "test")
+        ));
+
+        renderer.render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options);
+
+        Timer render = registry.find("inertia.render")
+            .tags("component", "Component", "kind", "json", "status", "200", "exception", "none")
+            .timer();
+        assertNotNull(render);
+        assertEquals(1, render.count());
+        for (String phase : new String[] { "props", "serialization" }) {
+            Timer phaseTimer = registry.find("inertia.render.phase")
+                .tags("component", "Component", "kind", "json", "phase", phase)
+                .timer();
+            assertNotNull(phaseTimer, phase);
+            assertEquals(1, phaseTimer.count());
+        }
+        Timer prop = registry.find("inertia.render.prop")
+            .tags("component", "Component", "prop", "user", "exception", "none")
+            .timer();
+        assertNotNull(prop);
+        assertEquals(1, prop.count());
+    }
+
+    @Test
+    void render_whenPropFails_tagsRenderAndPropWithException() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(() -> {
+                throw new IllegalStateException("User is unavailable");
+            })
+        ));
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> renderer.render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options)
+        );
+
+        assertNotNull(registry.find("inertia.render")
+            .tags("component", "Component", "status", "none", "exception", "IllegalStateException")
+            .timer());
+        assertNotNull(registry.find("inertia.render.prop")
+            .tags("component", "Component", "prop", "user", "exception", "IllegalStateException")
+            .timer());
+    }
+
+    @Test
+    void render_neverTagsWithPartialComponentHeader() {
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(() -> "test")
+        ));
+        var headers = Map.of(
+            "X-Inertia", "true",
+            "X-Inertia-Partial-Component", "Injected",
+            "X-Inertia-Partial-Data", "user"
+        );
+
+        renderer.render(new FakeHttpRequest("GET", headers), options);
+
+        assertFalse(registry.getMeters().isEmpty());
+        for (Meter meter : registry.getMeters()) {
+            for (Tag tag : meter.getId().getTags()) {
+                assertFalse(tag.getValue().contains("Injected"), () -> meter.getId().toString());
+            }
+        }
+    }
+}
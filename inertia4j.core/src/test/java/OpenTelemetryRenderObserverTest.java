@@ -0,0 +1,116 @@
+import io.github.inertia4j.core.DefaultPageObjectSerializer;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.core.InertiaRenderingOptions;
+import io.github.inertia4j.core.OpenTelemetryRenderObserver;
+import io.github.inertia4j.spi.LazyProp;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OpenTelemetryRenderObserverTest {
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+        .build();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final InertiaRenderer renderer = new InertiaRenderer(
+        new DefaultPageObjectSerializer(),
+        () -> "1",
+        "template.html"
+    )
+        .withPropExecutor(executor)
+        .withRenderObserver(new OpenTelemetryRenderObserver(
+            OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build()
+        ));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        tracerProvider.close();
+    }
+
+    @Test
+    void render_withLazyProps_recordsPropSpansUnderPropsSpan() {
+        Map<String, SpanContext> currentSpans = new ConcurrentHashMap<>();
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(() -> currentSpans.put("user", Span.current().getSpanContext())),
+            "stats", LazyProp.of(() -> currentSpans.put("stats", Span.current().getSpanContext()))
+        ));
+
+        renderer.render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options);
+
+        SpanData render = span("render Component");
+        SpanData props = span("resolve props");
+        SpanData user = span("resolve prop user");
+        SpanData stats = span("resolve prop stats");
+        assertEquals(render.getSpanId(), props.getParentSpanId());
+        assertEquals(props.getSpanId(), user.getParentSpanId());
+        assertEquals(props.getSpanId(), stats.getParentSpanId());
+        assertEquals(render.getSpanId(), span("serialize page object").getParentSpanId());
+        assertEquals(user.getSpanContext(), currentSpans.get("user"));
+        assertEquals(stats.getSpanContext(), currentSpans.get("stats"));
+        assertEquals("Component", render.getAttributes().get(AttributeKey.stringKey("inertia.component")));
+        assertEquals(StatusCode.UNSET, render.getStatus().getStatusCode());
+    }
+
+    @Test
+    void render_whenPropFails_recordsErrorOnPropAndRenderSpans() {
+        var failure = new IllegalStateException("Stats are unavailable");
+        var options = new InertiaRenderingOptions(false, false, "/page", "Component", Map.of(
+            "user", LazyProp.of(() -> "test"),
+            "stats", LazyProp.of(() -> {
+                throw failure;
+            })
+        ));
+
+        var thrown = assertThrows(
+            IllegalStateException.class,
+            () -> renderer.render(new FakeHttpRequest("GET", Map.of("X-Inertia", "true")), options)
+        );
+
+        assertSame(failure, thrown);
+        SpanData stats = span("resolve prop stats");
+        assertEquals(StatusCode.ERROR, stats.getStatus().getStatusCode());
+        EventData exception = stats.getEvents().get(0);
+        assertEquals("exception", exception.getName());
+        assertEquals(
+            IllegalStateException.class.getName(),
+            exception.getAttributes().get(AttributeKey.stringKey("exception.type"))
+        );
+        assertEquals("Stats are unavailable", exception.getAttributes().get(AttributeKey.stringKey("exception.message")));
+        assertEquals(StatusCode.UNSET, span("resolve prop user").getStatus().getStatusCode());
+        assertEquals(StatusCode.ERROR, span("resolve props").getStatus().getStatusCode());
+        assertEquals(StatusCode.ERROR, span("render Component").getStatus().getStatusCode());
+    }
+
+    /**
+     * Gets the only finished span with the given name.
+     */
+    private SpanData span(String name) {
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getName().equals(name))
+            .collect(Collectors.toList());
+        assertEquals(1, spans.size(), () -> "Spans named " + name + " in " + spanExporter.getFinishedSpanItems());
+        return spans.get(0);
+    }
+}
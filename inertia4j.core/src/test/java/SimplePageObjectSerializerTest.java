@@ -0,0 +1,148 @@
+import io.github.inertia4j.core.JacksonPageObjectSerializer;
+import io.github.inertia4j.core.SimplePageObjectSerializer;
+import io.github.inertia4j.spi.LazyProp;
+import io.github.inertia4j.spi.PageObject;
+import io.github.inertia4j.spi.RawJson;
+import io.github.inertia4j.spi.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimplePageObjectSerializerTest {
+    private final SimplePageObjectSerializer serializer = new SimplePageObjectSerializer();
+    private final JacksonPageObjectSerializer jacksonSerializer = new JacksonPageObjectSerializer();
+
+    @Test
+    void serialize_matchesJacksonForCommonPropTypes() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("zeta", List.of(1, 2L, (short) 3));
+        nested.put("alpha", new int[] { -1, 0, Integer.MAX_VALUE });
+        nested.put("beta", null);
+        Map<String, Object> props = new HashMap<>();
+        props.put("text", "Quote \" backslash \\ tab \t newline \n bell \u0007 Caf\u00e9 \u2615 \uD83C\uDFB6");
+        props.put("numbers", List.of(Long.MIN_VALUE, 0.1, 1e21, 1.5f, new BigDecimal("12.50"), Double.NaN));
+        props.put("flags", new boolean[] { true, false });
+        props.put("names", new String[] { "a", "b" });
+        props.put("nested", nested);
+        props.put("sorted", Map.of(10, "ten", 2, "two"));
+        props.put("status", Status.ACTIVE);
+        props.put("date", new Date(1_700_000_000_000L));
+        props.put("user", new User("Ana", 30, true));
+        props.put("users", List.of(new User("Bia", 25, false)));
+        props.put("lazy", LazyProp.of(() -> "evaluated"));
+        var pageObject = new PageObject("Component", props, "/page", true, false, "1", Map.of("default", List.of("x")));
+
+        assertEquals(jacksonSerializer.serialize(pageObject, null), serializer.serialize(pageObject, null));
+        assertEquals(
+            jacksonSerializer.serialize(pageObject, List.of("user", "text")),
+            serializer.serialize(pageObject, List.of("user", "text"))
+        );
+    }
+
+    @Test
+    void serialize_toStream_matchesSerializeToBytesAndMeasuresProps() throws IOException {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", i);
+            record.put("title", "Registro n\u00famero " + i);
+            records.add(record);
+        }
+        var pageObject = new PageObject("Component", Map.of("records", records, "user", "test"), "/page", false, false, "1");
+        Map<String, Long> sizes = new HashMap<>();
+        Map<String, Long> jacksonSizes = new HashMap<>();
+        var output = new ByteArrayOutputStream();
+
+        serializer.serialize(pageObject, null, output, sizes::put);
+
+        byte[] bytes = serializer.serializeToBytes(pageObject, null);
+        byte[] jacksonBytes = jacksonSerializer.serializeToBytes(pageObject, null, jacksonSizes::put);
+        assertArrayEquals(bytes, output.toByteArray());
+        assertArrayEquals(jacksonBytes, bytes);
+        assertEquals(jacksonSizes, sizes);
+    }
+
+    @Test
+    void preEncode_writesValueVerbatim() {
+        Object config = serializer.preEncode(Map.of("locale", "pt-BR", "features", List.of("a", "b")));
+        var pageObject = new PageObject("Component", Map.of("config", config), "/page", false, false, "1");
+
+        assertEquals(
+            "{\"component\":\"Component\",\"props\":{\"config\":{\"features\":[\"a\",\"b\"],\"locale\":\"pt-BR\"}},\"url\":\"/page\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}",
+            serializer.serialize(pageObject, null)
+        );
+    }
+
+    @Test
+    void serialize_withRawJson_matchesJackson() {
+        Map<String, Object> props = Map.of(
+            "text", RawJson.of("{\"name\":\"Caf\u00e9\"}"),
+            "bytes", List.of(RawJson.of("[\"Caf\u00e9\"]".getBytes(StandardCharsets.UTF_8)), "plain"),
+            "large", RawJson.of(("\"" + "x".repeat(20_000) + "\"").getBytes(StandardCharsets.UTF_8))
+        );
+        var pageObject = new PageObject("Component", props, "/page", false, false, "1");
+
+        assertEquals(jacksonSerializer.serialize(pageObject, null), serializer.serialize(pageObject, null));
+        assertArrayEquals(
+            jacksonSerializer.serializeToBytes(pageObject, null),
+            serializer.serializeToBytes(pageObject, null)
+        );
+    }
+
+    @Test
+    void serialize_withoutProperties_throwsSerializationException() {
+        var pageObject = new PageObject("Component", Map.of("value", new Object()), "/page", false, false, "1");
+
+        assertThrows(SerializationException.class, () -> serializer.serialize(pageObject, null));
+    }
+
+    @Test
+    void serialize_withCyclicValue_throwsSerializationException() {
+        List<Object> cyclic = new ArrayList<>();
+        cyclic.add(cyclic);
+        var pageObject = new PageObject("Component", Map.of("value", cyclic), "/page", false, false, "1");
+
+        assertThrows(SerializationException.class, () -> serializer.serialize(pageObject, null));
+    }
+
+    public enum Status {
+        ACTIVE
+    }
+
+    public static class User {
+        private final String name;
+        private final int age;
+        private final boolean admin;
+
+        User(String name, int age, boolean admin) {
+            this.name = name;
+            this.age = age;
+            this.admin = admin;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isAdmin() {
+            return admin;
+        }
+    }
+}
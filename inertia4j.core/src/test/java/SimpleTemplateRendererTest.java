@@ -0,0 +1,80 @@
+import io.github.inertia4j.core.SimpleTemplateRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleTemplateRendererTest {
+    private final SimpleTemplateRenderer templateRenderer = new SimpleTemplateRenderer("template.html");
+
+    @Test
+    void render_escapesQuotesAndKeepsRegexSpecialCharacters() {
+        String html = templateRenderer.render("{\"price\":\"$10\",\"path\":\"C:\\\\dir\",\"name\":\"Drum n' Bass\"}");
+
+        var expectedBody = "<!doctype html>\n" +
+            "<html lang=\"en\">\n" +
+            "  <body>\n" +
+            "    <div id=\"app\" data-page=\"{&quot;price&quot;:&quot;$10&quot;,&quot;path&quot;:&quot;C:\\\\dir&quot;,&quot;name&quot;:&quot;Drum n&apos; Bass&quot;}\"></div>\n" +
+            "  </body>\n" +
+            "</html>";
+        assertEquals(expectedBody, html);
+    }
+
+    @Test
+    void renderToBytes_matchesStringRendering() {
+        String json = "{\"title\":\"Caf\u00e9 \u2615 l'\u00e9t\u00e9\",\"emoji\":\"\uD83C\uDFB6\"}";
+
+        byte[] html = templateRenderer.renderToBytes(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(templateRenderer.render(json), new String(html, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void renderGzip_decompressesToSameHtmlAsRenderToBytes() throws IOException {
+        String json = "{\"title\":\"Caf\u00e9 l'\u00e9t\u00e9\",\"items\":\"" + "abc".repeat(5000) + "\"}";
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+        for (int level : new int[] { Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION }) {
+            var output = new ByteArrayOutputStream();
+            templateRenderer.renderGzip(jsonOutput -> jsonOutput.write(jsonBytes), output, level);
+
+            try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+                assertEquals(
+                    new String(templateRenderer.renderToBytes(jsonBytes), StandardCharsets.UTF_8),
+                    new String(decompressed.readAllBytes(), StandardCharsets.UTF_8)
+                );
+            }
+        }
+    }
+
+    @Test
+    void render_whenCalledConcurrently_rendersEachPageObject() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String json = "{\"id\":" + i + "}";
+                results.add(executor.submit(() ->
+                    templateRenderer.render(json).contains("data-page=\"" + json.replace("\"", "&quot;") + "\"")
+                ));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import io.github.inertia4j.core.DeployedVersion;
+import io.github.inertia4j.core.VersionGracePolicy;
+import io.github.inertia4j.core.VersionStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VersionGracePolicyTest {
+    @Test
+    void publish_withFileStore_sharesVersionsBetweenStores() throws IOException {
+        Path file = Files.createTempFile("versions", ".tsv");
+        try {
+            VersionStore oldNode = VersionStore.ofFile(file);
+            VersionStore newNode = VersionStore.ofFile(file);
+
+            List<DeployedVersion> first = oldNode.publish("1");
+            List<DeployedVersion> second = newNode.publish("2");
+            List<DeployedVersion> republished = oldNode.publish("1");
+
+            assertEquals(List.of("1"), versions(first));
+            assertEquals(List.of("1", "2"), versions(second));
+            assertEquals(List.of("1", "2"), versions(republished));
+            assertEquals(second.get(1).getDeployedAt(), republished.get(1).getDeployedAt());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void publish_withFileStore_keepsMostRecentVersions() throws IOException {
+        Path file = Files.createTempFile("versions", ".tsv");
+        try {
+            VersionStore store = VersionStore.ofFile(file);
+
+            List<DeployedVersion> versions = null;
+            for (int i = 0; i < VersionStore.maxVersions + 2; i++) {
+                versions = store.publish(String.valueOf(i));
+            }
+
+            assertEquals(VersionStore.maxVersions, versions.size());
+            assertEquals("2", versions.get(0).getVersion());
+            assertEquals(versions(versions), versions(VersionStore.ofFile(file).publish("2")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void accepts_withAcceptedVersions_acceptsOnlyThoseVersions() {
+        VersionGracePolicy policy = VersionGracePolicy.strict.withAcceptedVersions(List.of("1"));
+
+        assertTrue(policy.accepts("2", "1"));
+        assertFalse(policy.accepts("2", "0"));
+    }
+
+    @Test
+    void accepts_withGracePeriod_startsWindowWhenClientVersionWasReplaced() {
+        Instant now = Instant.now();
+        List<DeployedVersion> deployed = List.of(
+            new DeployedVersion("1", now.minus(Duration.ofHours(2))),
+            new DeployedVersion("2", now.minus(Duration.ofHours(1))),
+            new DeployedVersion("3", now)
+        );
+        VersionGracePolicy policy = VersionGracePolicy.gracePeriod(Duration.ofMinutes(10))
+            .withStore(version -> deployed);
+
+        assertFalse(policy.accepts("3", "1"));
+        assertTrue(policy.accepts("3", "2"));
+        assertTrue(policy.accepts("2", "3"));
+    }
+
+    @Test
+    void accepts_whenStoreFails_keepsVersionsReadLast() {
+        boolean[] failing = {false};
+        Instant now = Instant.now();
+        VersionGracePolicy policy = VersionGracePolicy.recentVersions(2)
+            .withRefreshInterval(Duration.ZERO)
+            .withStore(version -> {
+                if (failing[0]) throw new IllegalStateException("Store unavailable");
+                return List.of(new DeployedVersion("1", now), new DeployedVersion("2", now));
+            });
+
+        assertTrue(policy.accepts("2", "1"));
+        failing[0] = true;
+
+        assertTrue(policy.accepts("2", "1"));
+    }
+
+    private static List<String> versions(List<DeployedVersion> versions) {
+        return versions.stream().map(DeployedVersion::getVersion).collect(Collectors.toList());
+    }
+}
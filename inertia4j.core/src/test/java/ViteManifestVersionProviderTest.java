@@ -0,0 +1,63 @@
+import io.github.inertia4j.core.ViteManifestVersionProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ViteManifestVersionProviderTest {
+    @Test
+    void get_whenManifestChanges_returnsNewVersion() throws IOException {
+        Path manifest = Files.createTempFile("manifest", ".json");
+        try {
+            Files.writeString(manifest, "{\"main.js\":{\"file\":\"assets/main-4f2a.js\"}}");
+            ViteManifestVersionProvider versionProvider = ViteManifestVersionProvider.ofFile(manifest)
+                .withCheckInterval(Duration.ZERO);
+
+            String version = versionProvider.get();
+            Files.writeString(manifest, "{\"main.js\":{\"file\":\"assets/main-9c1b0e.js\"}}");
+
+            assertNotNull(version);
+            assertNotEquals(version, versionProvider.get());
+            assertEquals(ViteManifestVersionProvider.ofFile(manifest).get(), versionProvider.get());
+        } finally {
+            Files.deleteIfExists(manifest);
+        }
+    }
+
+    @Test
+    void get_withCheckInterval_returnsCachedVersionUntilIntervalElapses() throws IOException {
+        Path manifest = Files.createTempFile("manifest", ".json");
+        try {
+            Files.writeString(manifest, "{\"main.js\":{\"file\":\"assets/main-4f2a.js\"}}");
+            ViteManifestVersionProvider versionProvider = ViteManifestVersionProvider.ofFile(manifest)
+                .withCheckInterval(Duration.ofHours(1));
+
+            String version = versionProvider.get();
+            Files.writeString(manifest, "{\"main.js\":{\"file\":\"assets/main-9c1b0e.js\"}}");
+
+            assertEquals(version, versionProvider.get());
+        } finally {
+            Files.deleteIfExists(manifest);
+        }
+    }
+
+    @Test
+    void get_whenManifestIsMissing_returnsNull() {
+        assertNull(ViteManifestVersionProvider.ofClasspathResource("missing/manifest.json").get());
+    }
+
+    @Test
+    void get_withClasspathResource_returnsSameVersionAsFile() throws Exception {
+        ViteManifestVersionProvider versionProvider = ViteManifestVersionProvider.ofClasspathResource("template.html");
+        Path template = Path.of(getClass().getClassLoader().getResource("template.html").toURI());
+
+        assertEquals(ViteManifestVersionProvider.ofFile(template).get(), versionProvider.get());
+    }
+}
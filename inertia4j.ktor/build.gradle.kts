@@ -1,5 +1,6 @@
 plugins {
     kotlin("jvm") version "2.1.20"
+    kotlin("plugin.serialization") version "2.1.20"
     `maven-publish`
     id("signing")
 }
@@ -9,16 +10,18 @@ repositories {
 }
 
 dependencies {
-    implementation(project(":inertia4j.core"))
+    api(project(":inertia4j.core"))
     api(project(":inertia4j.spi"))
 
     val ktorVersion = "3.0.0"
 
     compileOnly("io.ktor:ktor-server-core-jvm:$ktorVersion")
     compileOnly("io.ktor:ktor-server-netty-jvm:$ktorVersion")
+    compileOnly("org.jetbrains.kotlinx:kotlinx-serialization-json:1.7.3")
 
     testImplementation("com.fasterxml.jackson.core:jackson-databind:2.17.2")
     testImplementation("io.ktor:ktor-server-test-host:$ktorVersion")
+    testImplementation("org.jetbrains.kotlinx:kotlinx-serialization-json:1.7.3")
     testImplementation("org.jetbrains.kotlin:kotlin-test:2.1.20")
 }
 
@@ -1,9 +1,16 @@
 package io.github.inertia4j.ktor
 
 import io.github.inertia4j.core.DefaultPageObjectSerializer
+import io.github.inertia4j.core.InertiaRenderer
+import io.github.inertia4j.core.PayloadBudgetPolicy
+import io.github.inertia4j.core.PropFailurePolicy
+import io.github.inertia4j.core.RenderObserver
 import io.github.inertia4j.core.SimpleTemplateRenderer
+import io.github.inertia4j.core.VersionGracePolicy
 import io.github.inertia4j.spi.PageObjectSerializer
 import io.github.inertia4j.spi.TemplateRenderer
+import java.time.Duration
+import java.util.concurrent.Executor
 
 /**
  * Configuration class for the Inertia Ktor plugin.
@@ -12,14 +19,24 @@ import io.github.inertia4j.spi.TemplateRenderer
 class InertiaKtorConfiguration {
     /**
      * Provides the current asset version. Defaults to returning "1".
-     * This is used to compare against the `X-Inertia-Version` header in requests.
+     * This is used to compare against the `X-Inertia-Version` header in requests, and called once per render.
+     * A `null` version disables asset versioning. [io.github.inertia4j.core.ViteManifestVersionProvider] derives
+     * the version from the Vite manifest.
      */
-    var versionProvider: () -> String = { "1" }
+    var versionProvider: () -> String? = { "1" }
+    /**
+     * Decides which asset versions other than the current one are still served during rolling deploys, rather than
+     * answered with a version conflict forcing a full page reload. Defaults to [VersionGracePolicy.strict], which
+     * serves no other version. Use a [io.github.inertia4j.core.VersionStore] shared by the nodes, such as
+     * `VersionStore.ofFile`, for them to know about each other's versions.
+     */
+    var versionGracePolicy: VersionGracePolicy = VersionGracePolicy.strict
     /**
      * The serializer used to convert the [io.github.inertia4j.spi.PageObject] into a JSON string.
      * Defaults to `null`. If left `null`, [DefaultPageObjectSerializer] will be used,
-     * which requires Jackson Databind on the classpath.
-     * Provide a custom implementation if you don't want to use Jackson or need custom serialization logic.
+     * which uses Jackson Databind when it is on the classpath and a built-in JSON writer otherwise.
+     * Use [KotlinxPageObjectSerializer] to encode props with kotlinx.serialization, or provide a custom
+     * implementation if you need custom serialization logic.
      */
     var serializer: PageObjectSerializer? = null
     /**
@@ -41,6 +58,76 @@ class InertiaKtorConfiguration {
      */
     var encryptHistory: Boolean = false
 
+    /**
+     * The executor used to evaluate lazy props concurrently. Defaults to [InertiaRenderer.defaultPropExecutor],
+     * which uses virtual threads when running on JDK 21 or later. Set it to `null` to evaluate props one after
+     * another on the calling thread.
+     * @see io.github.inertia4j.spi.LazyProp
+     */
+    var propExecutor: Executor? = InertiaRenderer.defaultPropExecutor()
+
+    /**
+     * Maximum time a render waits for its lazy props. Defaults to `null`, which waits indefinitely.
+     * Only applies when [propExecutor] is set.
+     */
+    var propTimeout: Duration? = null
+
+    /**
+     * How lazy props that fail or time out are handled. Defaults to [PropFailurePolicy.FAIL].
+     */
+    var propFailurePolicy: PropFailurePolicy = PropFailurePolicy.FAIL
+
+    /**
+     * Maximum size in bytes of a serialized prop, including its name. Defaults to `null`, which sets no limit.
+     * Props are only measured by serializers supporting it, such as [DefaultPageObjectSerializer].
+     */
+    var propPayloadBudget: Long? = null
+
+    /**
+     * Maximum size in bytes of a serialized page object. Defaults to `null`, which sets no limit.
+     */
+    var pagePayloadBudget: Long? = null
+
+    /**
+     * How props and page objects over their budget are handled. Defaults to [PayloadBudgetPolicy.LOG].
+     */
+    var payloadBudgetPolicy: PayloadBudgetPolicy = PayloadBudgetPolicy.LOG
+
+    /**
+     * Whether page responses get an `ETag` computed from their body, so that unchanged pages are answered with
+     * 304 Not Modified. Defaults to `false`. Streamed responses only get the tags passed to
+     * [InertiaKtorRenderer.Renderer.stream].
+     */
+    var eTags: Boolean = false
+
+    /**
+     * Whether page responses are compressed with gzip when the call accepts it. Defaults to `false`. The template
+     * around the page object is compressed only once, and the level depends on the size of the page object, so it is
+     * cheaper than compressing whole pages with Ktor's `Compression` plugin, which leaves these responses alone.
+     */
+    var compression: Boolean = false
+
+    /**
+     * Whether the syntax of [io.github.inertia4j.spi.RawJson] props is checked before serialization, failing the
+     * render with the name of a malformed prop. Defaults to `null`, which validates them in Ktor's development mode
+     * only, since validation reads every raw JSON document in full.
+     */
+    var validateRawJson: Boolean? = null
+
+    /**
+     * Props added to every page, such as feature flags, application settings or translations. Defaults to an empty
+     * map. Plain values are serialized once, when the plugin is installed, and must not change afterwards;
+     * [io.github.inertia4j.spi.LazyProp] values are computed by each render including them. Props depending on the
+     * call are shared with [InertiaKtorRenderer.Renderer.share].
+     */
+    var sharedProps: Map<String, Any?> = emptyMap()
+
+    /**
+     * Observers notified of every render, for instance a [io.github.inertia4j.core.MicrometerRenderObserver]
+     * recording metrics. Defaults to an empty list, which disables observation.
+     */
+    var renderObservers: List<RenderObserver> = emptyList()
+
     internal val templateRendererOrDefault: TemplateRenderer get() {
         return templateRenderer ?: SimpleTemplateRenderer(templatePath)
     }
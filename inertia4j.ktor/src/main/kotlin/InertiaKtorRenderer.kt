@@ -7,6 +7,13 @@ import io.ktor.http.*
 import io.ktor.server.response.*
 import io.ktor.server.routing.*
 import io.ktor.util.*
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.asExecutor
+import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.supervisorScope
+import kotlinx.coroutines.withContext
 
 /**
  * Ktor-specific renderer that integrates with the core [InertiaRenderer].
@@ -32,27 +39,111 @@ class InertiaKtorRenderer internal constructor(
         /**
          * Renders an Inertia response, either as a full HTML page or a JSON response depending on the request headers.
          *
+         * Props created with [lazyProp] or [deferredProp] are computed concurrently in the scope of the call, and
+         * only if they are included in the response. The page object is serialized on [Dispatchers.Default], so
+         * large payloads don't hold up the threads serving calls.
+         *
          * @param name The name of the client-side component to render.
          * @param props Key-value pairs representing the properties (data) to pass to the component.
          * @param url The URL to be included in the page object (defaults to the current request URI).
          * @param encryptHistory Whether to encrypt the browser history state for this response (defaults to configuration setting).
          * @param clearHistory Whether to clear the browser history state for this response (defaults to false).
+         * @param eTag Tag identifying the state of the page, such as a revision number. GET requests whose
+         * `If-None-Match` header matches it get a 304 response before any prop is resolved (defaults to none).
+         * @param cacheControl The `Cache-Control` header of the response, such as `no-cache` (defaults to none).
          */
         suspend fun render(
             name: String,
             vararg props: Pair<String, Any?>,
             url: String = request.url,
             encryptHistory: Boolean = configuration.encryptHistory,
-            clearHistory: Boolean = false
+            clearHistory: Boolean = false,
+            eTag: String? = null,
+            cacheControl: String? = null
         ) {
-            val options = InertiaRenderingOptions(
-                encryptHistory,
-                clearHistory,
-                url,
-                name,
-                mapOf(*props)
-            )
-            respond(coreRenderer.render(request, options))
+            val coreResponse = supervisorScope {
+                val options = InertiaRenderingOptions(
+                    encryptHistory,
+                    clearHistory,
+                    url,
+                    name,
+                    resolveIn(this, props)
+                )
+                    .withSharedProps(sharedPropsIn(this))
+                    .withETag(eTag)
+                    .withCacheControl(cacheControl)
+                try {
+                    coreRenderer.renderAsync(request, options, Dispatchers.Default.asExecutor()).await()
+                } finally {
+                    // Props that timed out or were left out by a failure are not awaited any longer
+                    coroutineContext.cancelChildren()
+                }
+            }
+            respond(coreResponse)
+        }
+
+        /**
+         * Renders an Inertia response like [render], but streams the page object directly to the response channel
+         * instead of building the whole body in memory first. Prefer it for large pages, where it reduces memory use
+         * and time to first byte.
+         *
+         * @param name The name of the client-side component to render.
+         * @param props Key-value pairs representing the properties (data) to pass to the component.
+         * @param url The URL to be included in the page object (defaults to the current request URI).
+         * @param encryptHistory Whether to encrypt the browser history state for this response (defaults to configuration setting).
+         * @param clearHistory Whether to clear the browser history state for this response (defaults to false).
+         * @param eTag Tag identifying the state of the page, such as a revision number. GET requests whose
+         * `If-None-Match` header matches it get a 304 response before any prop is resolved (defaults to none).
+         * @param cacheControl The `Cache-Control` header of the response, such as `no-cache` (defaults to none).
+         */
+        suspend fun stream(
+            name: String,
+            vararg props: Pair<String, Any?>,
+            url: String = request.url,
+            encryptHistory: Boolean = configuration.encryptHistory,
+            clearHistory: Boolean = false,
+            eTag: String? = null,
+            cacheControl: String? = null
+        ) {
+            val coreResponse = supervisorScope {
+                val options = InertiaRenderingOptions(
+                    encryptHistory,
+                    clearHistory,
+                    url,
+                    name,
+                    resolveIn(this, props)
+                )
+                    .withSharedProps(sharedPropsIn(this))
+                    .withETag(eTag)
+                    .withCacheControl(cacheControl)
+                try {
+                    // Resolving the props blocks until suspending props complete, so it must not run on the call thread
+                    withContext(Dispatchers.IO) { coreRenderer.renderStreaming(request, options) }
+                } finally {
+                    coroutineContext.cancelChildren()
+                }
+            }
+            if (!coreResponse.hasBody()) return respond(coreResponse)
+
+            coreResponse.headers.forEach { (name: String, values: List<String>) ->
+                values.forEach { call.response.header(name, it) }
+            }
+            call.respondOutputStream(coreResponse.contentType, HttpStatusCode.fromValue(coreResponse.code)) {
+                coreResponse.writeBody(this)
+            }
+        }
+
+        /**
+         * Shares a prop with every page rendered for the current call, such as the authenticated user or flash
+         * messages. Props of the page take precedence over shared props of the same name, and partial reloads leave
+         * shared props out unless they request them. Values can be created with [lazyProp] to be computed only when
+         * included.
+         *
+         * @param name The name of the prop.
+         * @param value The value of the prop.
+         */
+        fun share(name: String, value: Any?) {
+            call.attributes.computeIfAbsent(sharedPropsKey) { mutableMapOf() }[name] = value
         }
 
         /**
@@ -78,8 +169,34 @@ class InertiaKtorRenderer internal constructor(
             coreResponse.headers.forEach { (name: String, values: List<String>) ->
                 values.forEach { call.response.header(name, it) }
             }
-            call.respond(HttpStatusCode.fromValue(coreResponse.code), coreResponse.body ?: "")
+            val status = HttpStatusCode.fromValue(coreResponse.code)
+            val body = coreResponse.bodyBytes
+            if (body == null) {
+                call.respond(status, "")
+            } else {
+                call.respondBytes(body, coreResponse.contentType, status)
+            }
         }
+
+        /**
+         * Builds the props map, converting [SuspendProp] values to lazy props computed in [scope].
+         */
+        private fun resolveIn(scope: CoroutineScope, props: Array<out Pair<String, Any?>>): Map<String, Any?> =
+            props.associate { (key, value) ->
+                key to if (value is SuspendProp) value.toLazyProp(scope) else value
+            }
+
+        /**
+         * Gets the props shared with the current call, converting [SuspendProp] values to lazy props computed in
+         * [scope].
+         */
+        private fun sharedPropsIn(scope: CoroutineScope): Map<String, Any?>? =
+            call.attributes.getOrNull(sharedPropsKey)?.mapValues { (_, value) ->
+                if (value is SuspendProp) value.toLazyProp(scope) else value
+            }
+
+        private val HttpResponse.contentType: ContentType?
+            get() = headers[HttpHeaders.ContentType]?.firstOrNull()?.let(ContentType::parse)
     }
 
     companion object {
@@ -87,5 +204,10 @@ class InertiaKtorRenderer internal constructor(
          * The attribute key used to store and retrieve the [InertiaKtorRenderer] instance within Ktor attributes.
          */
         val key = AttributeKey<InertiaKtorRenderer>("inertiaKtor")
+
+        /**
+         * The call attribute key holding the props shared with the call.
+         */
+        private val sharedPropsKey = AttributeKey<MutableMap<String, Any?>>("inertiaSharedProps")
     }
 }
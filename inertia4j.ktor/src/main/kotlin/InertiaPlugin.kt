@@ -1,6 +1,7 @@
 package io.github.inertia4j.ktor
 
 import io.github.inertia4j.core.InertiaRenderer
+import io.github.inertia4j.core.RenderObserver
 import io.ktor.server.application.*
 
 /**
@@ -17,6 +18,18 @@ val Inertia = createApplicationPlugin(
         pluginConfig.versionProvider,
         pluginConfig.templateRendererOrDefault
     )
+        .withPropExecutor(pluginConfig.propExecutor)
+        .withPropTimeout(pluginConfig.propTimeout)
+        .withPropFailurePolicy(pluginConfig.propFailurePolicy)
+        .withPropPayloadBudget(pluginConfig.propPayloadBudget ?: 0)
+        .withPagePayloadBudget(pluginConfig.pagePayloadBudget ?: 0)
+        .withPayloadBudgetPolicy(pluginConfig.payloadBudgetPolicy)
+        .withETags(pluginConfig.eTags)
+        .withCompression(pluginConfig.compression)
+        .withRawJsonValidation(pluginConfig.validateRawJson ?: application.developmentMode)
+        .withVersionGracePolicy(pluginConfig.versionGracePolicy)
+        .withRenderObserver(RenderObserver.of(pluginConfig.renderObservers))
+        .withSharedProps(pluginConfig.sharedProps)
     application.attributes.put(
         InertiaKtorRenderer.key,
         InertiaKtorRenderer(coreRenderer, pluginConfig)
@@ -0,0 +1,297 @@
+package io.github.inertia4j.ktor
+
+import io.github.inertia4j.spi.LazyProp
+import io.github.inertia4j.spi.PageObject
+import io.github.inertia4j.spi.PageObjectSerializer
+import io.github.inertia4j.spi.PropSelection
+import io.github.inertia4j.spi.PropSizeListener
+import io.github.inertia4j.spi.RawJson
+import io.github.inertia4j.spi.SerializationException
+import kotlinx.serialization.KSerializer
+import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.JsonArray
+import kotlinx.serialization.json.JsonElement
+import kotlinx.serialization.json.JsonObject
+import kotlinx.serialization.serializer
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.OutputStream
+import java.util.SortedMap
+import java.util.concurrent.ConcurrentHashMap
+import kotlinx.serialization.SerializationException as KotlinxSerializationException
+
+/**
+ * [PageObjectSerializer] using kotlinx.serialization, for applications encoding their data with it rather than
+ * Jackson.
+ *
+ * Props of `@Serializable` classes are encoded with the serializers generated by the kotlinx.serialization compiler
+ * plugin, looked up once per class. Classes with type parameters cannot be looked up from their instances, so register
+ * them as contextual serializers in the [Json.serializersModule]. Maps, collections, strings, numbers and booleans are
+ * written directly, without building a [JsonElement] tree, [RawJson] values are copied verbatim, and the props left out
+ * by a partial reload are skipped before they are encoded. Each prop is encoded on its own, so memory use depends on
+ * the size of the largest prop rather than the whole page object.
+ *
+ * Props are written sorted by name, and so are the entries of the maps among them, at any depth, like the other
+ * serializers do. Maps inside `@Serializable` classes are left to their serializers. To encode pages like API
+ * responses, pass the [Json] instance given to Ktor's `ContentNegotiation` plugin:
+ *
+ * ```
+ * val json = Json { explicitNulls = false }
+ *
+ * install(ContentNegotiation) { json(json) }
+ * install(Inertia) { serializer = KotlinxPageObjectSerializer(json) }
+ * ```
+ *
+ * @param json The JSON format used to encode prop values, [Json.Default] by default.
+ */
+class KotlinxPageObjectSerializer(private val json: Json = Json) : PageObjectSerializer {
+    private val serializers = ConcurrentHashMap<Class<*>, KSerializer<Any>>()
+
+    /**
+     * Serializes the page object as a String. Props not listed in [partialDataProps] are skipped.
+     */
+    override fun serialize(pageObject: PageObject, partialDataProps: List<String>?): String =
+        String(serializeToBytes(pageObject, partialDataProps, null), Charsets.UTF_8)
+
+    /**
+     * Serializes the page object as UTF-8 encoded JSON. Props not listed in [partialDataProps] are skipped.
+     */
+    override fun serializeToBytes(pageObject: PageObject, partialDataProps: List<String>?): ByteArray =
+        serializeToBytes(pageObject, partialDataProps, null)
+
+    /**
+     * Serializes the page object as UTF-8 encoded JSON, reporting the size of each prop to [propSizeListener].
+     */
+    override fun serializeToBytes(
+        pageObject: PageObject,
+        partialDataProps: List<String>?,
+        propSizeListener: PropSizeListener?
+    ): ByteArray {
+        val output = ByteArrayOutputStream()
+        writePageObject(output, pageObject, partialDataProps, propSizeListener)
+        return output.toByteArray()
+    }
+
+    /**
+     * Writes the page object to [output] prop by prop.
+     */
+    @Throws(IOException::class)
+    override fun serialize(pageObject: PageObject, partialDataProps: List<String>?, output: OutputStream) {
+        writePageObject(output, pageObject, partialDataProps, null)
+    }
+
+    /**
+     * Writes the page object to [output] prop by prop, reporting the size of each prop to [propSizeListener].
+     */
+    @Throws(IOException::class)
+    override fun serialize(
+        pageObject: PageObject,
+        partialDataProps: List<String>?,
+        output: OutputStream,
+        propSizeListener: PropSizeListener?
+    ) {
+        writePageObject(output, pageObject, partialDataProps, propSizeListener)
+    }
+
+    /**
+     * Encodes [value] once, so its JSON is copied verbatim into each page object it is part of.
+     */
+    override fun preEncode(value: Any?): Any =
+        PreEncodedValue(wrapFailures { StringBuilder().appendValue(value).toString() })
+
+    /**
+     * Writes the page object fields in the order defined by the Inertia protocol documentation. The bytes of each
+     * prop are written, and measured, separately.
+     */
+    private fun writePageObject(
+        output: OutputStream,
+        pageObject: PageObject,
+        partialDataProps: List<String>?,
+        propSizeListener: PropSizeListener?
+    ) = wrapFailures {
+        val buffer = StringBuilder()
+        buffer.append("{\"component\":").appendValue(pageObject.component).append(",\"props\":{")
+        output.write(buffer.toString().toByteArray(Charsets.UTF_8))
+
+        val props = pageObject.props ?: emptyMap()
+        var first = true
+        for (key in includedKeys(props, partialDataProps)) {
+            var value = props[key]
+            if (value is LazyProp) value = value.resolve()
+            buffer.setLength(0)
+            if (!first) buffer.append(',')
+            first = false
+            buffer.appendString(key).append(':').appendValue(value, pageObject.getPropSelection(key))
+            val bytes = buffer.toString().toByteArray(Charsets.UTF_8)
+            output.write(bytes)
+            propSizeListener?.propSerialized(key, bytes.size.toLong())
+        }
+
+        buffer.setLength(0)
+        buffer.append("},\"url\":").appendValue(pageObject.url)
+            .append(",\"version\":").appendValue(pageObject.version)
+            .append(",\"encryptHistory\":").append(pageObject.isEncryptHistory)
+            .append(",\"clearHistory\":").append(pageObject.isClearHistory)
+        if (!pageObject.deferredProps.isNullOrEmpty()) {
+            buffer.append(",\"deferredProps\":").appendValue(pageObject.deferredProps)
+        }
+        buffer.append('}')
+        output.write(buffer.toString().toByteArray(Charsets.UTF_8))
+    }
+
+    /**
+     * Appends the JSON of any value, encoding the values of other types than the JSON ones with their
+     * kotlinx.serialization serializer. Only the properties of maps and objects included by [selection] are written,
+     * and the selection applies to each element of arrays and collections.
+     */
+    private fun StringBuilder.appendValue(value: Any?, selection: PropSelection? = null): StringBuilder {
+        when (value) {
+            null -> append("null")
+            is PreEncodedValue -> append(value.json)
+            is RawJson -> append(value.json)
+            is String -> appendString(value)
+            is Boolean, is Int, is Long, is Short, is Byte -> append(value)
+            is Double -> if (value.isFinite()) append(value) else appendEncoded(value)
+            is Float -> if (value.isFinite()) append(value) else appendEncoded(value)
+            is JsonElement -> append(json.encodeToString(JsonElement.serializer(), value.select(selection)))
+            is Map<*, *> -> {
+                append('{')
+                var first = true
+                for ((key, entryValue) in sortedEntries(value)) {
+                    val name = keyName(key)
+                    if (selection != null && !selection.includes(name)) continue
+                    if (!first) append(',')
+                    first = false
+                    appendString(name).append(':').appendValue(entryValue, selection?.get(name))
+                }
+                append('}')
+            }
+            is Iterable<*> -> appendArray(value, selection)
+            is Array<*> -> appendArray(value.asIterable(), selection)
+            else -> appendEncoded(value, selection)
+        }
+        return this
+    }
+
+    /**
+     * Appends the elements of an iterable as an array.
+     */
+    private fun StringBuilder.appendArray(values: Iterable<*>, selection: PropSelection?) {
+        append('[')
+        var first = true
+        for (value in values) {
+            if (!first) append(',')
+            first = false
+            appendValue(value, selection)
+        }
+        append(']')
+    }
+
+    /**
+     * Appends a value encoded by the serializer of its class. Values selected in part are encoded to a
+     * [JsonElement] first, so the properties left out can be removed.
+     */
+    private fun StringBuilder.appendEncoded(value: Any, selection: PropSelection? = null) {
+        val serializer = serializers.getOrPut(value.javaClass) { json.serializersModule.serializer(value.javaClass) }
+        if (selection == null) {
+            append(json.encodeToString(serializer, value))
+        } else {
+            val element = json.encodeToJsonElement(serializer, value).select(selection)
+            append(json.encodeToString(JsonElement.serializer(), element))
+        }
+    }
+
+    /**
+     * Keeps the properties of objects included by [selection], at any depth.
+     */
+    private fun JsonElement.select(selection: PropSelection?): JsonElement = when {
+        selection == null -> this
+        this is JsonObject -> JsonObject(
+            filterKeys { selection.includes(it) }.mapValues { (key, value) -> value.select(selection.get(key)) }
+        )
+        this is JsonArray -> JsonArray(map { it.select(selection) })
+        else -> this
+    }
+
+    /**
+     * Appends a quoted string, escaped like kotlinx.serialization does.
+     */
+    private fun StringBuilder.appendString(value: String): StringBuilder {
+        append('"')
+        var start = 0
+        for (i in value.indices) {
+            val c = value[i]
+            if (c >= ' ' && c != '"' && c != '\\') continue
+
+            append(value, start, i)
+            when (c) {
+                '"' -> append("\\\"")
+                '\\' -> append("\\\\")
+                '\n' -> append("\\n")
+                '\r' -> append("\\r")
+                '\t' -> append("\\t")
+                '\b' -> append("\\b")
+                '\u000c' -> append("\\f")
+                else -> append("\\u00").append(hexDigits[c.code shr 4]).append(hexDigits[c.code and 0xf])
+            }
+            start = i + 1
+        }
+        append(value, start, value.length)
+        return append('"')
+    }
+
+    /**
+     * Runs [block], reporting kotlinx.serialization failures as [SerializationException]s.
+     */
+    private inline fun <T> wrapFailures(block: () -> T): T =
+        try {
+            block()
+        } catch (e: KotlinxSerializationException) {
+            throw SerializationException(e)
+        }
+
+    /**
+     * Selects the keys of the props that should be written, in sorted order.
+     */
+    private fun includedKeys(props: Map<String, Any?>, partialDataProps: List<String>?): List<String> {
+        if (partialDataProps == null) return props.keys.sorted()
+        val requested = partialDataProps.toHashSet()
+        return props.keys.filter { it in requested }.sorted()
+    }
+
+    /**
+     * Lists the entries of a map in the order they are written: by the natural order of the keys, or by their names
+     * when the keys are not mutually comparable.
+     */
+    private fun sortedEntries(map: Map<*, *>): Iterable<Map.Entry<*, *>> {
+        if (map.size < 2 || (map is SortedMap<*, *> && map.comparator() == null)) return map.entries
+        val entries = map.entries.toMutableList()
+        try {
+            @Suppress("UNCHECKED_CAST")
+            entries.sortWith { left, right -> (left.key as Comparable<Any?>).compareTo(right.key) }
+        } catch (e: ClassCastException) {
+            entries.sortBy { keyName(it.key) }
+        } catch (e: NullPointerException) {
+            entries.sortBy { keyName(it.key) }
+        }
+        return entries
+    }
+
+    /**
+     * Converts a map key to the name of its field.
+     */
+    private fun keyName(key: Any?): String = when (key) {
+        null -> throw KotlinxSerializationException("Null map keys cannot be written as JSON")
+        is Enum<*> -> key.name
+        else -> key.toString()
+    }
+
+    /**
+     * Prop value serialized ahead of time by [preEncode].
+     */
+    private class PreEncodedValue(val json: String)
+
+    private companion object {
+        const val hexDigits = "0123456789abcdef"
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.inertia4j.ktor
+
+import io.github.inertia4j.spi.DeferredProp
+import io.github.inertia4j.spi.LazyProp
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.future.future
+
+/**
+ * A prop whose value is computed by a suspending function, created with [lazyProp] or [deferredProp].
+ * The function is only called when the prop is included in the response, in the coroutine scope of the call,
+ * concurrently with the other suspending props of the response.
+ */
+class SuspendProp internal constructor(
+    private val group: String?,
+    private val block: suspend () -> Any?
+) {
+    /**
+     * Converts this prop to a core [LazyProp] launching [block] in [scope] when the prop is resolved.
+     */
+    internal fun toLazyProp(scope: CoroutineScope): LazyProp {
+        val launch = { scope.future { block() } }
+        return if (group != null) DeferredProp.of(group, launch) else LazyProp.of(launch)
+    }
+}
+
+/**
+ * Creates a prop computed by a suspending function, only called when the prop is included in the response.
+ * Suspending props of the same response are computed concurrently.
+ *
+ * ```
+ * inertia.render("users/Index", "users" to lazyProp { userRepository.findAll() })
+ * ```
+ *
+ * @param block The function computing the prop value.
+ */
+fun lazyProp(block: suspend () -> Any?): SuspendProp = SuspendProp(null, block)
+
+/**
+ * Creates a deferred prop computed by a suspending function. The prop is left out of the initial page load and
+ * fetched by the client with a follow-up partial reload, together with the other deferred props of its group.
+ *
+ * @param group The name of the group the prop is fetched with.
+ * @param block The function computing the prop value.
+ * @see DeferredProp
+ */
+fun deferredProp(group: String = DeferredProp.defaultGroup, block: suspend () -> Any?): SuspendProp =
+    SuspendProp(group, block)
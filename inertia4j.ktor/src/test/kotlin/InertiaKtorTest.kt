@@ -6,8 +6,12 @@ import io.ktor.http.*
 import io.ktor.server.application.*
 import io.ktor.server.routing.*
 import io.ktor.server.testing.*
+import kotlinx.coroutines.delay
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.json.Json
 import org.junit.jupiter.api.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertFalse
 
 class InertiaKtorTest {
     private fun testApp(block: suspend ApplicationTestBuilder.() -> Unit) = testApplication {
@@ -63,6 +67,153 @@ class InertiaKtorTest {
         assertEquals(expectedBody, response.bodyAsText())
     }
 
+    @Test
+    fun `render partial reload with suspending props`() = testApp {
+        var statsComputed = false
+        routing {
+            get("/") {
+                inertia.render(
+                    "SampleComponent",
+                    "user" to lazyProp {
+                        delay(10)
+                        "test"
+                    },
+                    "stats" to lazyProp { statsComputed = true },
+                    "teams" to deferredProp { listOf("core") }
+                )
+            }
+        }
+
+        val response = client.get("/") {
+            header("X-Inertia", "true")
+            header("X-Inertia-Partial-Component", "SampleComponent")
+            header("X-Inertia-Partial-Data", "user,teams")
+        }
+        assertEquals(HttpStatusCode.OK, response.status)
+
+        val expectedBody = """{"component":"SampleComponent","props":{"teams":["core"],"user":"test"},"url":"/","version":"1","encryptHistory":true,"clearHistory":false}"""
+        assertEquals(expectedBody, response.bodyAsText())
+        assertFalse(statsComputed)
+    }
+
+    @Test
+    fun `render with props shared by the call`() = testApp {
+        routing {
+            get("/") {
+                inertia.share("flash", "Saved")
+                inertia.share("user", lazyProp { "test" })
+                inertia.render("SampleComponent", "id" to 1, "flash" to "Created")
+            }
+        }
+
+        val response = client.get("/") {
+            header("X-Inertia", "true")
+        }
+        assertEquals(HttpStatusCode.OK, response.status)
+
+        val expectedBody = """{"component":"SampleComponent","props":{"flash":"Created","id":1,"user":"test"},"url":"/","version":"1","encryptHistory":true,"clearHistory":false}"""
+        assertEquals(expectedBody, response.bodyAsText())
+    }
+
+    @Test
+    fun `render partial reload with nested paths and kotlinx serializer`() = testApplication {
+        application {
+            install(Inertia) {
+                versionProvider = { "1" }
+                serializer = KotlinxPageObjectSerializer(Json { explicitNulls = false })
+            }
+        }
+        routing {
+            get("/") {
+                inertia.render(
+                    "SampleComponent",
+                    "user" to SampleUser("Ana", "ana@example.com"),
+                    "teams" to listOf(mapOf("name" to "core", "size" to 4)),
+                    "stats" to lazyProp { error("Not requested") }
+                )
+            }
+        }
+
+        val response = client.get("/") {
+            header("X-Inertia", "true")
+            header("X-Inertia-Partial-Component", "SampleComponent")
+            header("X-Inertia-Partial-Data", "user.name,teams.name")
+        }
+        assertEquals(HttpStatusCode.OK, response.status)
+
+        val expectedBody = """{"component":"SampleComponent","props":{"teams":[{"name":"core"}],"user":{"name":"Ana"}},"url":"/","version":"1","encryptHistory":false,"clearHistory":false}"""
+        assertEquals(expectedBody, response.bodyAsText())
+    }
+
+    @Test
+    fun `render nested maps sorted by key with kotlinx serializer`() = testApplication {
+        application {
+            install(Inertia) {
+                versionProvider = { "1" }
+                serializer = KotlinxPageObjectSerializer()
+            }
+        }
+        routing {
+            get("/") {
+                inertia.render(
+                    "SampleComponent",
+                    "settings" to linkedMapOf("theme" to "dark", "locale" to linkedMapOf("region" to "BR", "language" to "pt"))
+                )
+            }
+        }
+
+        val response = client.get("/") {
+            header("X-Inertia", "true")
+        }
+        assertEquals(HttpStatusCode.OK, response.status)
+
+        val expectedBody = """{"component":"SampleComponent","props":{"settings":{"locale":{"language":"pt","region":"BR"},"theme":"dark"}},"url":"/","version":"1","encryptHistory":false,"clearHistory":false}"""
+        assertEquals(expectedBody, response.bodyAsText())
+    }
+
+    @Test
+    fun `stream full page`() = testApp {
+        routing {
+            get("/") {
+                inertia.stream("SampleComponent", "id" to 1, clearHistory = true)
+            }
+        }
+
+        val response = client.get("/")
+        assertEquals(HttpStatusCode.OK, response.status)
+        assertEquals(ContentType.Text.Html, response.contentType())
+        assert("X-Inertia" !in response.headers)
+
+        val expectedBody = """
+            <!doctype html>
+            <html lang="en">
+            <body>
+                <div id="app" data-page='{&quot;component&quot;:&quot;SampleComponent&quot;,&quot;props&quot;:{&quot;id&quot;:1},&quot;url&quot;:&quot;/&quot;,&quot;version&quot;:&quot;1&quot;,&quot;encryptHistory&quot;:true,&quot;clearHistory&quot;:true}'></div>
+            </body>
+            </html>
+        """.trimIndent()
+        assertEquals(normalizeHtml(expectedBody), normalizeHtml(response.bodyAsText()))
+    }
+
+    @Test
+    fun `stream partial with X-Inertia header`() = testApp {
+        routing {
+            get("/") {
+                inertia.stream("SampleComponent", "id" to 1)
+            }
+        }
+
+        val response = client.get("/") {
+            header("X-Inertia", "true")
+        }
+        assertEquals(HttpStatusCode.OK, response.status)
+        assertEquals(ContentType.Application.Json, response.contentType())
+        assertEquals("true", response.headers["X-Inertia"])
+
+        val expectedBody = """{"component":"SampleComponent","props":{"id":1},"url":"/","version":"1","encryptHistory":true,"clearHistory":false}"""
+        assertEquals(expectedBody, response.bodyAsText())
+    }
+
     @Test
     fun `render partial with matching X-Inertia and X-Inertia-Version headers`() = testApp {
          routing {
@@ -160,3 +311,6 @@ class InertiaKtorTest {
             .trim { it < ' ' }
     }
 }
+
+@Serializable
+data class SampleUser(val name: String, val email: String?)
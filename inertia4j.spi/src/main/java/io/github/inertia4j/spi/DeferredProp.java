@@ -0,0 +1,61 @@
+package io.github.inertia4j.spi;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A prop left out of the initial page load and fetched by the client with a follow-up partial reload.
+ * Deferred props are listed by group in the page object's {@code deferredProps} field, and the client requests
+ * each group separately, so the first paint of a page is not delayed by its slowest props.
+ *
+ * @see <a href="https://inertiajs.com/deferred-props">Inertia deferred props</a>
+ */
+public class DeferredProp extends LazyProp {
+    /**
+     * Name of the group used when none is given.
+     */
+    public static final String defaultGroup = "default";
+
+    private final String group;
+
+    /**
+     * Constructs a new deferred prop.
+     *
+     * @param group    name of the group the prop is fetched with
+     * @param supplier supplier computing the prop value
+     */
+    protected DeferredProp(String group, Supplier<?> supplier) {
+        super(supplier);
+        this.group = Objects.requireNonNull(group, "group");
+    }
+
+    /**
+     * Creates a deferred prop in the default group.
+     *
+     * @param supplier supplier computing the prop value
+     * @return a new deferred prop
+     */
+    public static DeferredProp of(Supplier<?> supplier) {
+        return new DeferredProp(defaultGroup, supplier);
+    }
+
+    /**
+     * Creates a deferred prop in the given group. Props of the same group are fetched together in one request.
+     *
+     * @param group    name of the group the prop is fetched with
+     * @param supplier supplier computing the prop value
+     * @return a new deferred prop
+     */
+    public static DeferredProp of(String group, Supplier<?> supplier) {
+        return new DeferredProp(group, supplier);
+    }
+
+    /**
+     * Gets the name of the group the prop is fetched with.
+     *
+     * @return group name
+     */
+    public String getGroup() {
+        return group;
+    }
+}
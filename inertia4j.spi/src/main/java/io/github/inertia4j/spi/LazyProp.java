@@ -0,0 +1,42 @@
+package io.github.inertia4j.spi;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A prop whose value is computed only if the prop is included in the response.
+ * Props left out by a partial reload are never evaluated, so the work needed to compute them is skipped.
+ *
+ * @see <a href="https://inertiajs.com/partial-reloads#lazy-data-evaluation">Inertia lazy data evaluation</a>
+ */
+public class LazyProp {
+    private final Supplier<?> supplier;
+
+    /**
+     * Constructs a new lazy prop.
+     *
+     * @param supplier supplier computing the prop value
+     */
+    protected LazyProp(Supplier<?> supplier) {
+        this.supplier = Objects.requireNonNull(supplier, "supplier");
+    }
+
+    /**
+     * Creates a prop whose value is computed by the given supplier when the prop is included in the response.
+     *
+     * @param supplier supplier computing the prop value
+     * @return a new lazy prop
+     */
+    public static LazyProp of(Supplier<?> supplier) {
+        return new LazyProp(supplier);
+    }
+
+    /**
+     * Computes the value of the prop. Each call invokes the supplier again.
+     *
+     * @return the prop value
+     */
+    public Object resolve() {
+        return supplier.get();
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.inertia4j.spi;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,9 +15,11 @@ public class PageObject {
     private final Object version;
     private final boolean encryptHistory;
     private final boolean clearHistory;
+    private final Map<String, List<String>> deferredProps;
+    private final Map<String, PropSelection> propSelections;
 
     /**
-     * Constructs a new PageObject.
+     * Constructs a new PageObject with the props of a partial reload selected in part.
      *
      * @param component      component to be rendered by the client
      * @param props          data to be served to client
@@ -24,6 +27,8 @@ public class PageObject {
      * @param encryptHistory flag set to encrypt previous browsing activity
      * @param clearHistory   flag set to clear previous browsing activity
      * @param version        asset version to be compared with current client asset version
+     * @param deferredProps  names of the props to be fetched after the initial load, by group, can be null
+     * @param propSelections selections of the props written in part, by name, can be null
      */
     public PageObject(
         String component,
@@ -31,7 +36,9 @@ public class PageObject {
         String url,
         boolean encryptHistory,
         boolean clearHistory,
-        Object version
+        Object version,
+        Map<String, List<String>> deferredProps,
+        Map<String, PropSelection> propSelections
     ) {
         this.component = component;
         this.props = props;
@@ -39,6 +46,52 @@ public class PageObject {
         this.encryptHistory = encryptHistory;
         this.clearHistory = clearHistory;
         this.version = version;
+        this.deferredProps = deferredProps;
+        this.propSelections = propSelections;
+    }
+
+    /**
+     * Constructs a new PageObject.
+     *
+     * @param component      component to be rendered by the client
+     * @param props          data to be served to client
+     * @param url            value of the URL field in response
+     * @param encryptHistory flag set to encrypt previous browsing activity
+     * @param clearHistory   flag set to clear previous browsing activity
+     * @param version        asset version to be compared with current client asset version
+     * @param deferredProps  names of the props to be fetched after the initial load, by group, can be null
+     */
+    public PageObject(
+        String component,
+        Map<String, Object> props,
+        String url,
+        boolean encryptHistory,
+        boolean clearHistory,
+        Object version,
+        Map<String, List<String>> deferredProps
+    ) {
+        this(component, props, url, encryptHistory, clearHistory, version, deferredProps, null);
+    }
+
+    /**
+     * Constructs a new PageObject without deferred props.
+     *
+     * @param component      component to be rendered by the client
+     * @param props          data to be served to client
+     * @param url            value of the URL field in response
+     * @param encryptHistory flag set to encrypt previous browsing activity
+     * @param clearHistory   flag set to clear previous browsing activity
+     * @param version        asset version to be compared with current client asset version
+     */
+    public PageObject(
+        String component,
+        Map<String, Object> props,
+        String url,
+        boolean encryptHistory,
+        boolean clearHistory,
+        Object version
+    ) {
+        this(component, props, url, encryptHistory, clearHistory, version, null);
     }
 
     /**
@@ -96,4 +149,26 @@ public class PageObject {
     public boolean isClearHistory() {
         return clearHistory;
     }
+
+    /**
+     * Gets the names of the props left out of this response, to be fetched by the client with follow-up
+     * partial reloads, grouped by the name of the request that fetches them.
+     *
+     * @return deferred prop names by group, or {@code null} if there are none
+     * @see <a href="https://inertiajs.com/deferred-props">Inertia deferred props</a>
+     */
+    public Map<String, List<String>> getDeferredProps() {
+        return deferredProps;
+    }
+
+    /**
+     * Gets the selection of the properties of a prop written in part, requested by a partial reload with nested
+     * paths. Serializers write the whole value of props without a selection.
+     *
+     * @param key name of the prop
+     * @return selection of the properties of the prop, or {@code null} if the prop is written whole
+     */
+    public PropSelection getPropSelection(String key) {
+        return propSelections != null ? propSelections.get(key) : null;
+    }
 }
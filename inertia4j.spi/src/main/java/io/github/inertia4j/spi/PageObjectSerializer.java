@@ -1,5 +1,8 @@
 package io.github.inertia4j.spi;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -16,4 +19,91 @@ public interface PageObjectSerializer {
      * @throws SerializationException if any errors occur during serialization
      */
     String serialize(PageObject pageObject, List<String> partialDataProps) throws SerializationException;
+
+    /**
+     * Serializes the provided {@link PageObject} as UTF-8 encoded JSON.
+     * The default implementation encodes the result of {@link #serialize(PageObject, List)}. Implementations able to
+     * write UTF-8 directly should override it to avoid the intermediate String.
+     *
+     * @param pageObject       {@code PageObject} to serialize
+     * @param partialDataProps list of props to be serialized, used for partial data requests, can be null
+     * @return {@code PageObject} serialized as UTF-8 bytes
+     * @throws SerializationException if any errors occur during serialization
+     */
+    default byte[] serializeToBytes(PageObject pageObject, List<String> partialDataProps) throws SerializationException {
+        return serialize(pageObject, partialDataProps).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serializes the provided {@link PageObject} as UTF-8 encoded JSON, writing it to the given stream.
+     * The default implementation writes the result of {@link #serializeToBytes(PageObject, List)}. Implementations
+     * able to write incrementally should override it, so memory use does not grow with the size of the page object.
+     *
+     * @param pageObject       {@code PageObject} to serialize
+     * @param partialDataProps list of props to be serialized, used for partial data requests, can be null
+     * @param output           stream to write the JSON to, which is not closed
+     * @throws IOException if writing to the stream fails
+     * @throws SerializationException if any errors occur during serialization
+     */
+    default void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output
+    ) throws IOException, SerializationException {
+        output.write(serializeToBytes(pageObject, partialDataProps));
+    }
+
+    /**
+     * Serializes the provided {@link PageObject} like {@link #serializeToBytes(PageObject, List)}, reporting the size
+     * of each top-level prop to the given listener. The default implementation does not measure props and never
+     * calls the listener.
+     *
+     * @param pageObject       {@code PageObject} to serialize
+     * @param partialDataProps list of props to be serialized, used for partial data requests, can be null
+     * @param propSizeListener listener notified of the size of each prop
+     * @return {@code PageObject} serialized as UTF-8 bytes
+     * @throws SerializationException if any errors occur during serialization
+     */
+    default byte[] serializeToBytes(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        PropSizeListener propSizeListener
+    ) throws SerializationException {
+        return serializeToBytes(pageObject, partialDataProps);
+    }
+
+    /**
+     * Serializes the provided {@link PageObject} like {@link #serialize(PageObject, List, OutputStream)}, reporting
+     * the size of each top-level prop to the given listener. The default implementation does not measure props and
+     * never calls the listener.
+     *
+     * @param pageObject       {@code PageObject} to serialize
+     * @param partialDataProps list of props to be serialized, used for partial data requests, can be null
+     * @param output           stream to write the JSON to, which is not closed
+     * @param propSizeListener listener notified of the size of each prop
+     * @throws IOException if writing to the stream fails
+     * @throws SerializationException if any errors occur during serialization
+     */
+    default void serialize(
+        PageObject pageObject,
+        List<String> partialDataProps,
+        OutputStream output,
+        PropSizeListener propSizeListener
+    ) throws IOException, SerializationException {
+        serialize(pageObject, partialDataProps, output);
+    }
+
+    /**
+     * Serializes ahead of time a prop value sent unchanged in many page objects, such as configuration or
+     * translations shared by every page. The returned object replaces the value in the props, and is written by this
+     * serializer without serializing the value again. The default implementation returns the value unchanged, so it
+     * is serialized with each page object.
+     *
+     * @param value prop value to serialize, which must not change afterwards
+     * @return a pre-encoded form of the value understood by this serializer, or the value itself
+     * @throws SerializationException if any errors occur during serialization
+     */
+    default Object preEncode(Object value) throws SerializationException {
+        return value;
+    }
 }
@@ -0,0 +1,20 @@
+package io.github.inertia4j.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the UTF-8 encoded JSON of a {@link PageObject} to an output stream.
+ * Used by {@link TemplateRenderer} implementations to stream the page object into the rendered template.
+ */
+@FunctionalInterface
+public interface PageObjectWriter {
+    /**
+     * Writes the page object JSON to the given stream. The stream is not closed.
+     *
+     * @param output stream to write the JSON to
+     * @throws IOException if writing to the stream fails
+     * @throws SerializationException if the page object cannot be serialized
+     */
+    void writeTo(OutputStream output) throws IOException;
+}
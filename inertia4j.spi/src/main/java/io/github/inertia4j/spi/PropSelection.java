@@ -0,0 +1,71 @@
+package io.github.inertia4j.spi;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The properties of a prop value selected by a partial reload with nested paths, such as {@code users.data} in the
+ * {@code X-Inertia-Partial-Data} header or {@code users.meta} in {@code X-Inertia-Partial-Except}.
+ * <p>
+ * Serializers write only the {@link #includes(String) included} properties of the value, whether it is a map, a
+ * record or a bean, and apply the {@link #get(String) nested selection} of each property to its value. Selections
+ * apply to each element of arrays and collections. Scalars, pre-encoded values and {@link RawJson} values are
+ * written whole.
+ *
+ * @see PageObject#getPropSelection(String)
+ * @see <a href="https://inertiajs.com/partial-reloads">Inertia partial reloads</a>
+ */
+public final class PropSelection {
+    private final Set<String> only;
+    private final Set<String> except;
+    private final Map<String, PropSelection> nested;
+
+    /**
+     * Constructs a new selection.
+     *
+     * @param only   names of the properties included, or {@code null} to include all of them
+     * @param except names of the properties left out
+     * @param nested selections applying to the values of the properties written in part, by name
+     */
+    private PropSelection(Set<String> only, Set<String> except, Map<String, PropSelection> nested) {
+        this.only = only;
+        this.except = except;
+        this.nested = nested;
+    }
+
+    /**
+     * Creates a selection.
+     *
+     * @param only   names of the properties included, or {@code null} to include all of them
+     * @param except names of the properties left out, which take precedence over {@code only}
+     * @param nested selections applying to the values of the properties written in part, by name
+     * @return a new selection
+     */
+    public static PropSelection of(Set<String> only, Set<String> except, Map<String, PropSelection> nested) {
+        return new PropSelection(
+            only != null ? Set.copyOf(only) : null,
+            Set.copyOf(except),
+            Map.copyOf(nested)
+        );
+    }
+
+    /**
+     * Checks whether a property of the value is written.
+     *
+     * @param name name of the property, or key of the map entry
+     * @return {@code true} if the property is written, whole or in part
+     */
+    public boolean includes(String name) {
+        return (only == null || only.contains(name)) && !except.contains(name);
+    }
+
+    /**
+     * Gets the selection applying to the value of a property.
+     *
+     * @param name name of the property, or key of the map entry
+     * @return the nested selection, or {@code null} if the property is written whole
+     */
+    public PropSelection get(String name) {
+        return nested.get(name);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.inertia4j.spi;
+
+/**
+ * Receives the size of each top-level prop as a {@link PageObjectSerializer} writes it, so renderers can account
+ * for the payload of each prop.
+ */
+@FunctionalInterface
+public interface PropSizeListener {
+    /**
+     * Called once a top-level prop is written.
+     *
+     * @param propName name of the prop
+     * @param bytes    number of UTF-8 encoded bytes written for the prop, including its name
+     */
+    void propSerialized(String propName, long bytes);
+}
@@ -0,0 +1,77 @@
+package io.github.inertia4j.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A prop value that is already JSON, such as a document read from a cache or a {@code jsonb} column. Serializers copy
+ * it verbatim into the page object instead of parsing and serializing it again, wherever it appears in the props.
+ * <p>
+ * The JSON is not checked when it is written, so malformed JSON produces a malformed page object. Renderers can
+ * validate raw JSON props before serialization, which is meant for development only.
+ */
+public final class RawJson {
+    private final String json;
+    private final byte[] bytes;
+
+    /**
+     * Constructs a raw JSON value from either of its forms.
+     *
+     * @param json  the JSON text, or {@code null} if given as bytes
+     * @param bytes the UTF-8 encoded JSON, or {@code null} if given as text
+     */
+    private RawJson(String json, byte[] bytes) {
+        this.json = json;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a raw JSON value from JSON text.
+     *
+     * @param json the JSON text
+     * @return a new raw JSON value
+     */
+    public static RawJson of(String json) {
+        return new RawJson(Objects.requireNonNull(json, "json"), null);
+    }
+
+    /**
+     * Creates a raw JSON value from UTF-8 encoded JSON. The array is not copied, so it must not be modified
+     * afterwards.
+     *
+     * @param utf8 the UTF-8 encoded JSON
+     * @return a new raw JSON value
+     */
+    public static RawJson of(byte[] utf8) {
+        return new RawJson(null, Objects.requireNonNull(utf8, "utf8"));
+    }
+
+    /**
+     * Gets the JSON text, decoding it if the value was created from bytes.
+     *
+     * @return the JSON text
+     */
+    public String getJson() {
+        return json != null ? json : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the UTF-8 encoded JSON, encoding it if the value was created from text. The array returned must not be
+     * modified.
+     *
+     * @return the UTF-8 encoded JSON
+     */
+    public byte[] getBytes() {
+        return bytes != null ? bytes : json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the JSON text.
+     *
+     * @return the JSON text
+     */
+    @Override
+    public String toString() {
+        return getJson();
+    }
+}
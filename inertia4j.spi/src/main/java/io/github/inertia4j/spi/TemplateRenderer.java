@@ -1,5 +1,11 @@
 package io.github.inertia4j.spi;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Interface for template renderers used by Inertia4j.
  */
@@ -12,4 +18,62 @@ public interface TemplateRenderer {
      * @return A string containing the HTML template with the {@code PageObject} data injected.
      */
     String render(String pageObjectJson);
+
+    /**
+     * Renders the template with the UTF-8 encoded JSON of the page object, producing UTF-8 encoded HTML.
+     * The default implementation decodes the JSON and delegates to {@link #render(String)}. Implementations able to
+     * work on bytes directly should override it to avoid the extra transcoding.
+     *
+     * @param pageObjectJson UTF-8 encoded JSON representation of the {@link PageObject}.
+     * @return The UTF-8 encoded HTML template with the {@code PageObject} data injected.
+     */
+    default byte[] renderToBytes(byte[] pageObjectJson) {
+        return render(new String(pageObjectJson, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders the template as UTF-8 encoded HTML to the given stream, with the page object JSON produced by
+     * {@code pageObjectWriter} injected in place of the placeholder.
+     * The default implementation buffers the JSON and writes the result of {@link #renderToBytes(byte[])}.
+     * Implementations should override it to write the template around the JSON as it is produced.
+     *
+     * @param pageObjectWriter writer producing the UTF-8 encoded JSON representation of the {@link PageObject}.
+     * @param output stream to write the HTML to, which is not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    default void render(PageObjectWriter pageObjectWriter, OutputStream output) throws IOException {
+        ByteArrayOutputStream pageObjectJson = new ByteArrayOutputStream();
+        pageObjectWriter.writeTo(pageObjectJson);
+        output.write(renderToBytes(pageObjectJson.toByteArray()));
+    }
+
+    /**
+     * Renders the template like {@link #render(PageObjectWriter, OutputStream)}, compressed with gzip.
+     * The default implementation compresses the whole page as it is rendered. Implementations whose template is
+     * mostly static should override it to compress the static parts once, and only the page object per render.
+     *
+     * @param pageObjectWriter writer producing the UTF-8 encoded JSON representation of the {@link PageObject}.
+     * @param output stream to write the gzip compressed HTML to, which is not closed.
+     * @param level the {@link java.util.zip.Deflater} compression level to use for the page object.
+     * @throws IOException if writing to the stream fails.
+     */
+    default void renderGzip(PageObjectWriter pageObjectWriter, OutputStream output, int level) throws IOException {
+        GZIPOutputStream gzipOutput = new GZIPOutputStream(output) {
+            {
+                def.setLevel(level);
+            }
+
+            @Override
+            public void finish() throws IOException {
+                // The stream is not closed, so the deflater is released here
+                try {
+                    super.finish();
+                } finally {
+                    def.end();
+                }
+            }
+        };
+        render(pageObjectWriter, gzipOutput);
+        gzipOutput.finish();
+    }
 }
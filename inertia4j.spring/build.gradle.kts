@@ -20,15 +20,23 @@ repositories {
 }
 
 dependencies {
-    implementation(project(":inertia4j.core"))
+    api(project(":inertia4j.core"))
     api(project(":inertia4j.spi"))
 
     compileOnly("jakarta.servlet:jakarta.servlet-api")
     compileOnly("org.springframework.boot:spring-boot-autoconfigure")
     compileOnly("org.springframework:spring-web")
+    compileOnly("org.springframework:spring-webflux")
+    compileOnly("io.projectreactor:reactor-core")
+    compileOnly("io.micrometer:micrometer-core")
+    compileOnly("io.opentelemetry:opentelemetry-api")
+    compileOnly("org.springframework.boot:spring-boot-actuator-autoconfigure")
 
     testImplementation("org.springframework.boot:spring-boot-starter-web")
+    testImplementation("org.springframework.boot:spring-boot-starter-webflux")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.springframework.boot:spring-boot-starter-actuator")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
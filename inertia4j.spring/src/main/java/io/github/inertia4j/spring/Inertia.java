@@ -3,6 +3,8 @@ package io.github.inertia4j.spring;
 import io.github.inertia4j.spi.PageObjectSerializer;
 import io.github.inertia4j.spi.TemplateRenderer;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.web.context.request.RequestAttributes;
@@ -10,7 +12,10 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -25,6 +30,18 @@ public class Inertia {
     private final InertiaSpringRenderer renderer;
     private static final InertiaSpringRendererOptions defaultOptions = new InertiaSpringRendererOptions();
     private final Supplier<HttpServletRequest> requestSupplier;
+    /**
+     * Name of the request attribute holding the props shared by the request.
+     */
+    private static final String sharedPropsAttribute = Inertia.class.getName() + ".sharedProps";
+
+    /**
+     * Internal constructor used by the autoconfiguration and in tests.
+     */
+    Inertia(InertiaSpringRenderer renderer, Supplier<HttpServletRequest> requestSupplier) {
+        this.renderer = renderer;
+        this.requestSupplier = requestSupplier;
+    }
 
     /**
      * Internal constructor used in tests.
@@ -35,8 +52,14 @@ public class Inertia {
         TemplateRenderer templateRenderer,
         Supplier<HttpServletRequest> requestSupplier
     ) {
-        this.renderer = new InertiaSpringRenderer(pageObjectSerializer, versionProvider, templateRenderer);
-        this.requestSupplier = requestSupplier;
+        this(new InertiaSpringRenderer(pageObjectSerializer, versionProvider, templateRenderer), requestSupplier);
+    }
+
+    /**
+     * Internal constructor used by the autoconfiguration.
+     */
+    Inertia(InertiaSpringRenderer renderer) {
+        this(renderer, Inertia::getCurrentRequest);
     }
 
     /**
@@ -167,7 +190,193 @@ public class Inertia {
     ) {
         return renderer.render(
             new InertiaHttpServletRequest(request),
-            options.toCoreRenderingOptions(url, component, props)
+            options.toCoreRenderingOptions(url, component, props).withSharedProps(sharedProps(request))
+        );
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, as a response entity carrying the UTF-8 encoded body.
+     * Uses the current request URI as the page object URL and default rendering options.
+     * <p>
+     * Unlike {@code render}, the body is handed to Spring as produced by the serializer, without decoding it to a
+     * string and encoding it again. The response is compressed with gzip when {@code inertia.compression} is set
+     * and the request accepts it. The controller method should return {@code ResponseEntity<byte[]>}.
+     *
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @return A Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public ResponseEntity<byte[]> renderBytes(String component, Map<String, Object> props) {
+        HttpServletRequest request = requestSupplier.get();
+        return renderBytes(request, component, props, request.getRequestURI(), defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options, as a response entity
+     * carrying the UTF-8 encoded body. Uses the current request URI as the page object URL.
+     *
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @return A Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public ResponseEntity<byte[]> renderBytes(
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) {
+        HttpServletRequest request = requestSupplier.get();
+        return renderBytes(request, component, props, request.getRequestURI(), options);
+    }
+
+    /**
+     * Renders an Inertia component using an explicit {@link HttpServletRequest}, as a response entity carrying the
+     * UTF-8 encoded body.
+     *
+     * @param request   The current HttpServletRequest.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param url       The URL to be included in the page object.
+     * @param options   Specific rendering options.
+     * @return A Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public ResponseEntity<byte[]> renderBytes(
+        HttpServletRequest request,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderer.renderBytes(
+            new InertiaHttpServletRequest(request),
+            options.toCoreRenderingOptions(url, component, props).withSharedProps(sharedProps(request))
+        );
+    }
+
+    /**
+     * Renders an Inertia component with the given properties without blocking on
+     * {@link java.util.concurrent.CompletionStage} props.
+     * Uses the current request URI as the page object URL and default rendering options.
+     * <p>
+     * Spring MVC releases the servlet thread while the returned future is pending, so slow props don't hold on to
+     * request threads. The controller method should return {@code CompletableFuture<ResponseEntity<String>>}.
+     *
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @return A future completed with the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public CompletableFuture<ResponseEntity<String>> renderAsync(String component, Map<String, Object> props) {
+        HttpServletRequest request = requestSupplier.get();
+        return renderAsync(request, component, props, request.getRequestURI(), defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options without blocking on
+     * {@link java.util.concurrent.CompletionStage} props.
+     * Uses the current request URI as the page object URL.
+     *
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @return A future completed with the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public CompletableFuture<ResponseEntity<String>> renderAsync(
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) {
+        HttpServletRequest request = requestSupplier.get();
+        return renderAsync(request, component, props, request.getRequestURI(), options);
+    }
+
+    /**
+     * Renders an Inertia component using an explicit {@link HttpServletRequest}, without blocking on
+     * {@link java.util.concurrent.CompletionStage} props. The request headers are read before this method returns.
+     *
+     * @param request   The current HttpServletRequest.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param url       The URL to be included in the page object.
+     * @param options   Specific rendering options.
+     * @return A future completed with the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public CompletableFuture<ResponseEntity<String>> renderAsync(
+        HttpServletRequest request,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderer.renderAsync(
+            new InertiaHttpServletRequest(request),
+            options.toCoreRenderingOptions(url, component, props).withSharedProps(sharedProps(request))
+        );
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, writing the response directly to the servlet response.
+     * Uses the current request URI as the page object URL and default rendering options.
+     * <p>
+     * Unlike {@code render}, the page object is never held in memory as a whole, which keeps memory use low and
+     * sends the first bytes sooner for large pages. The response is compressed with gzip when
+     * {@code inertia.compression} is set and the request accepts it. The controller method should return
+     * {@code void}.
+     *
+     * @param response  The current HttpServletResponse.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @throws IOException if writing to the response fails.
+     */
+    public void stream(HttpServletResponse response, String component, Map<String, Object> props) throws IOException {
+        HttpServletRequest request = requestSupplier.get();
+        stream(request, response, component, props, request.getRequestURI(), defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options,
+     * writing the response directly to the servlet response.
+     * Uses the current request URI as the page object URL.
+     *
+     * @param response  The current HttpServletResponse.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @throws IOException if writing to the response fails.
+     */
+    public void stream(
+        HttpServletResponse response,
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) throws IOException {
+        HttpServletRequest request = requestSupplier.get();
+        stream(request, response, component, props, request.getRequestURI(), options);
+    }
+
+    /**
+     * Renders an Inertia component using an explicit {@link HttpServletRequest},
+     * writing the response directly to the given {@link HttpServletResponse}.
+     *
+     * @param request   The current HttpServletRequest.
+     * @param response  The current HttpServletResponse.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param url       The URL to be included in the page object.
+     * @param options   Specific rendering options.
+     * @throws IOException if writing to the response fails.
+     */
+    public void stream(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) throws IOException {
+        renderer.stream(
+            new InertiaHttpServletRequest(request),
+            options.toCoreRenderingOptions(url, component, props).withSharedProps(sharedProps(request)),
+            response
         );
     }
 
@@ -193,6 +402,46 @@ public class Inertia {
         return renderer.location(url);
     }
 
+    /**
+     * Shares a prop with every page rendered for the current request, such as the authenticated user or flash
+     * messages. Typically called from a {@code HandlerInterceptor} or a {@code @ModelAttribute} method. Props of the
+     * page take precedence over shared props of the same name, and partial reloads leave shared props out unless they
+     * request them. Values that are expensive to compute should be {@link io.github.inertia4j.spi.LazyProp lazy}.
+     *
+     * @param name  The name of the prop.
+     * @param value The value of the prop.
+     */
+    public void share(String name, Object value) {
+        share(requestSupplier.get(), name, value);
+    }
+
+    /**
+     * Shares a prop with every page rendered for the given request, see {@link #share(String, Object)}.
+     *
+     * @param request The current HttpServletRequest.
+     * @param name    The name of the prop.
+     * @param value   The value of the prop.
+     */
+    @SuppressWarnings("unchecked")
+    public void share(HttpServletRequest request, String name, Object value) {
+        Map<String, Object> sharedProps = (Map<String, Object>) request.getAttribute(sharedPropsAttribute);
+        if (sharedProps == null) {
+            sharedProps = new HashMap<>();
+            request.setAttribute(sharedPropsAttribute, sharedProps);
+        }
+        sharedProps.put(name, value);
+    }
+
+    /**
+     * Gets the props shared with the pages rendered for a request.
+     * @param request The request.
+     * @return The shared props, or {@code null} if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> sharedProps(HttpServletRequest request) {
+        return (Map<String, Object>) request.getAttribute(sharedPropsAttribute);
+    }
+
     /**
      * Retrieves the current {@link HttpServletRequest} from the {@link RequestContextHolder}.
      * 
@@ -242,5 +491,25 @@ public class Inertia {
         public static InertiaSpringRendererOptions encryptHistory(boolean encryptHistory) {
             return new InertiaSpringRendererOptions(encryptHistory, InertiaSpringRendererOptions.defaultClearHistory);
         }
+
+        /**
+         * Creates default options with a tag identifying the state of the page.
+         * @param eTag The tag of the page, such as a revision number.
+         * @return New options instance.
+         * @see InertiaSpringRendererOptions#eTag(String)
+         */
+        public static InertiaSpringRendererOptions eTag(String eTag) {
+            return new InertiaSpringRendererOptions().eTag(eTag);
+        }
+
+        /**
+         * Creates default options with the `Cache-Control` header sent with the page.
+         * @param cacheControl The cache policy of the page.
+         * @return New options instance.
+         * @see InertiaSpringRendererOptions#cacheControl(CacheControl)
+         */
+        public static InertiaSpringRendererOptions cacheControl(CacheControl cacheControl) {
+            return new InertiaSpringRendererOptions().cacheControl(cacheControl);
+        }
     }
 }
@@ -1,18 +1,39 @@
 package io.github.inertia4j.spring;
 
+import io.github.inertia4j.core.PayloadBudgetPolicy;
+import io.github.inertia4j.core.PropFailurePolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Configuration properties for Inertia4j integration with Spring Boot.
- * Allows setting the template path and default history encryption behavior via application properties.
+ * Allows setting the template path, default history encryption behavior, the asset version and its grace policy,
+ * prop evaluation, payload budgets, response tags, compression and raw JSON validation via application properties.
  * Properties are prefixed with `inertia`.
  * <p>
  * Example `application.properties`:
  * <pre>
  * inertia.template-path=templates/my-app.html
  * inertia.encrypt-history=true
+ * inertia.vite-manifest=classpath:static/.vite/manifest.json
+ * inertia.version-grace-period=10m
+ * inertia.version-grace-versions=2
+ * inertia.version-store=/shared/inertia-versions.tsv
+ * inertia.parallel-props=true
+ * inertia.prop-timeout=2s
+ * inertia.prop-failure-policy=omit
+ * inertia.prop-payload-budget=256KB
+ * inertia.page-payload-budget=1MB
+ * inertia.payload-budget-policy=fail
+ * inertia.etags=true
+ * inertia.compression=true
+ * inertia.validate-raw-json=true
  * </pre>
  */
 @Configuration
@@ -20,6 +41,7 @@ import org.springframework.context.annotation.Configuration;
 public class InertiaConfigurationProperties {
     private static final String defaultTemplatePath = "templates/app.html";
     private static final boolean defaultEncryptHistory = false;
+    private static final boolean defaultParallelProps = true;
 
     /**
      * The classpath path to the main HTML template file used by the default {@link io.github.inertia4j.core.SimpleTemplateRenderer}.
@@ -32,16 +54,182 @@ public class InertiaConfigurationProperties {
      * @see <a href="https://inertiajs.com/history-encryption">Inertia History Encryption</a>
      */
     final boolean encryptHistory;
+    /**
+     * Whether lazy props are evaluated concurrently, on virtual threads when running on JDK 21 or later, unless an
+     * {@link java.util.concurrent.Executor} bean named {@value InertiaSpringAutoconfiguration#propExecutorBeanName}
+     * is declared. When {@code false}, props are evaluated on the request thread.
+     * Corresponds to the `inertia.parallel-props` property.
+     */
+    final boolean parallelProps;
+    /**
+     * Maximum time a render waits for its lazy props, or {@code null} to wait indefinitely.
+     * Corresponds to the `inertia.prop-timeout` property.
+     */
+    final Duration propTimeout;
+    /**
+     * How lazy props that fail or time out are handled, {@link PropFailurePolicy#FAIL} by default.
+     * Corresponds to the `inertia.prop-failure-policy` property.
+     */
+    final PropFailurePolicy propFailurePolicy;
+    /**
+     * Maximum size of a serialized prop, or {@code null} for no limit.
+     * Corresponds to the `inertia.prop-payload-budget` property.
+     */
+    final DataSize propPayloadBudget;
+    /**
+     * Maximum size of a serialized page object, or {@code null} for no limit.
+     * Corresponds to the `inertia.page-payload-budget` property.
+     */
+    final DataSize pagePayloadBudget;
+    /**
+     * How props and page objects over their budget are handled, {@link PayloadBudgetPolicy#LOG} by default.
+     * Corresponds to the `inertia.payload-budget-policy` property.
+     */
+    final PayloadBudgetPolicy payloadBudgetPolicy;
+    /**
+     * Whether page responses get an `ETag` computed from their body, so that unchanged pages are answered with
+     * 304 Not Modified. Corresponds to the `inertia.etags` property.
+     */
+    final boolean etags;
+    /**
+     * Whether streamed page responses are compressed with gzip when the request accepts it, compressing the
+     * template only once. Corresponds to the `inertia.compression` property.
+     */
+    final boolean compression;
+    /**
+     * Location of the Vite manifest the asset version is derived from, either a filesystem path or a classpath
+     * resource prefixed with `classpath:`. Used when the application defines no {@link VersionProvider}.
+     * Corresponds to the `inertia.vite-manifest` property.
+     */
+    final String viteManifest;
+    /**
+     * How long an asset version is still served after the next version was deployed, or {@code null} for no grace
+     * period. Corresponds to the `inertia.version-grace-period` property.
+     * @see io.github.inertia4j.core.VersionGracePolicy#withGracePeriod(Duration)
+     */
+    final Duration versionGracePeriod;
+    /**
+     * Number of most recently deployed asset versions served, or {@code 0} to only rely on the grace period.
+     * Corresponds to the `inertia.version-grace-versions` property.
+     * @see io.github.inertia4j.core.VersionGracePolicy#withRecentVersions(int)
+     */
+    final int versionGraceVersions;
+    /**
+     * Asset versions always served besides the current one, such as the previous version of a deploy, or
+     * {@code null}. Corresponds to the `inertia.accepted-versions` property.
+     */
+    final List<String> acceptedVersions;
+    /**
+     * Path of the file the deployed asset versions are shared in, used when the application defines no
+     * {@link io.github.inertia4j.core.VersionStore} bean. Versions are kept in memory if it is not set.
+     * Corresponds to the `inertia.version-store` property.
+     */
+    final String versionStore;
+    /**
+     * Whether the syntax of {@link io.github.inertia4j.spi.RawJson} props is checked before serialization, which is
+     * meant for development profiles. Corresponds to the `inertia.validate-raw-json` property.
+     */
+    final boolean validateRawJson;
 
     /**
      * Constructor used by Spring Boot for property binding.
      * @param templatePath Value of `inertia.template-path`.
      * @param encryptHistory Value of `inertia.encrypt-history`.
+     * @param parallelProps Value of `inertia.parallel-props`.
+     * @param propTimeout Value of `inertia.prop-timeout`.
+     * @param propFailurePolicy Value of `inertia.prop-failure-policy`.
+     * @param propPayloadBudget Value of `inertia.prop-payload-budget`.
+     * @param pagePayloadBudget Value of `inertia.page-payload-budget`.
+     * @param payloadBudgetPolicy Value of `inertia.payload-budget-policy`.
+     * @param etags Value of `inertia.etags`.
+     * @param compression Value of `inertia.compression`.
+     * @param viteManifest Value of `inertia.vite-manifest`.
+     * @param versionGracePeriod Value of `inertia.version-grace-period`.
+     * @param versionGraceVersions Value of `inertia.version-grace-versions`.
+     * @param acceptedVersions Value of `inertia.accepted-versions`.
+     * @param versionStore Value of `inertia.version-store`.
+     * @param validateRawJson Value of `inertia.validate-raw-json`.
      */
     @ConstructorBinding
-    public InertiaConfigurationProperties(String templatePath, boolean encryptHistory) {
+    public InertiaConfigurationProperties(
+        String templatePath,
+        boolean encryptHistory,
+        @DefaultValue("true") boolean parallelProps,
+        Duration propTimeout,
+        @DefaultValue("fail") PropFailurePolicy propFailurePolicy,
+        DataSize propPayloadBudget,
+        DataSize pagePayloadBudget,
+        @DefaultValue("log") PayloadBudgetPolicy payloadBudgetPolicy,
+        boolean etags,
+        boolean compression,
+        String viteManifest,
+        Duration versionGracePeriod,
+        int versionGraceVersions,
+        List<String> acceptedVersions,
+        String versionStore,
+        boolean validateRawJson
+    ) {
         this.templatePath = templatePath;
         this.encryptHistory = encryptHistory;
+        this.parallelProps = parallelProps;
+        this.propTimeout = propTimeout;
+        this.propFailurePolicy = propFailurePolicy;
+        this.propPayloadBudget = propPayloadBudget;
+        this.pagePayloadBudget = pagePayloadBudget;
+        this.payloadBudgetPolicy = payloadBudgetPolicy;
+        this.etags = etags;
+        this.compression = compression;
+        this.viteManifest = viteManifest;
+        this.versionGracePeriod = versionGracePeriod;
+        this.versionGraceVersions = versionGraceVersions;
+        this.acceptedVersions = acceptedVersions;
+        this.versionStore = versionStore;
+        this.validateRawJson = validateRawJson;
+    }
+
+    /**
+     * Constructor using no payload budgets, no computed tags, no compression and a constant asset version, without
+     * a grace policy or raw JSON validation.
+     * @param templatePath The template path.
+     * @param encryptHistory The encryptHistory flag value.
+     * @param parallelProps Whether lazy props are evaluated concurrently.
+     * @param propTimeout Maximum time a render waits for its lazy props, or {@code null}.
+     * @param propFailurePolicy How lazy props that fail or time out are handled.
+     */
+    public InertiaConfigurationProperties(
+        String templatePath,
+        boolean encryptHistory,
+        boolean parallelProps,
+        Duration propTimeout,
+        PropFailurePolicy propFailurePolicy
+    ) {
+        this(
+            templatePath,
+            encryptHistory,
+            parallelProps,
+            propTimeout,
+            propFailurePolicy,
+            null,
+            null,
+            PayloadBudgetPolicy.LOG,
+            false,
+            false,
+            null,
+            null,
+            0,
+            null,
+            null,
+            false
+        );
+    }
+
+    /**
+     * Constructor using default prop evaluation settings.
+     * @param templatePath The template path.
+     * @param encryptHistory The encryptHistory flag value.
+     */
+    public InertiaConfigurationProperties(String templatePath, boolean encryptHistory) {
+        this(templatePath, encryptHistory, defaultParallelProps, null, PropFailurePolicy.FAIL);
     }
 
     /**
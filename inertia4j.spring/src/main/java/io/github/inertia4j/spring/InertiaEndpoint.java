@@ -0,0 +1,335 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.spring.InertiaRenderStatistics.ComponentStatistics;
+import io.github.inertia4j.spring.InertiaRenderStatistics.PropStatistics;
+import io.github.inertia4j.spring.InertiaRenderStatistics.SampleWindow;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint ({@code /actuator/inertia}) reporting the current asset version, the version conflicts answered
+ * and avoided, and the render statistics recorded by {@link InertiaRenderStatistics}: for each component, the render
+ * count, render time and payload size percentiles, the share of partial reloads, and the slowest and largest props.
+ * Components are listed from the slowest to the fastest at the 99th percentile.
+ */
+@Endpoint(id = "inertia")
+public class InertiaEndpoint {
+    /**
+     * Number of props listed for each component.
+     */
+    static final int topProps = 5;
+
+    private final InertiaRenderStatistics statistics;
+    private final VersionProvider versionProvider;
+
+    /**
+     * Constructs an InertiaEndpoint.
+     *
+     * @param statistics      The statistics to report.
+     * @param versionProvider The provider of the current asset version.
+     */
+    public InertiaEndpoint(InertiaRenderStatistics statistics, VersionProvider versionProvider) {
+        this.statistics = statistics;
+        this.versionProvider = versionProvider;
+    }
+
+    /**
+     * Reports the current asset version and the render statistics.
+     *
+     * @return The descriptor of the Inertia renders.
+     */
+    @ReadOperation
+    public InertiaDescriptor inertia() {
+        List<ComponentDescriptor> components = new ArrayList<>();
+        for (Map.Entry<String, ComponentStatistics> component : statistics.getComponents().entrySet()) {
+            components.add(new ComponentDescriptor(component.getKey(), component.getValue()));
+        }
+        components.sort(Comparator.comparingDouble(ComponentDescriptor::getP99RenderMillis).reversed());
+        return new InertiaDescriptor(
+            versionProvider.get(),
+            statistics.getRenders(),
+            statistics.getVersionConflicts(),
+            statistics.getAvoidedVersionConflicts(),
+            components
+        );
+    }
+
+    /**
+     * Converts a duration from nanoseconds to milliseconds.
+     */
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Description of the Inertia renders of the application.
+     */
+    public static final class InertiaDescriptor implements OperationResponseBody {
+        private final String version;
+        private final long renders;
+        private final long versionConflicts;
+        private final long avoidedVersionConflicts;
+        private final List<ComponentDescriptor> components;
+
+        private InertiaDescriptor(
+            String version,
+            long renders,
+            long versionConflicts,
+            long avoidedVersionConflicts,
+            List<ComponentDescriptor> components
+        ) {
+            this.version = version;
+            this.renders = renders;
+            this.versionConflicts = versionConflicts;
+            this.avoidedVersionConflicts = avoidedVersionConflicts;
+            this.components = components;
+        }
+
+        /**
+         * Gets the current asset version, as returned by the {@link VersionProvider}.
+         * @return The asset version.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the number of renders since the application started, including version conflicts.
+         * @return The render count.
+         */
+        public long getRenders() {
+            return renders;
+        }
+
+        /**
+         * Gets the number of renders answered with a 409 version conflict.
+         * @return The version conflict count.
+         */
+        public long getVersionConflicts() {
+            return versionConflicts;
+        }
+
+        /**
+         * Gets the number of renders served to clients with another asset version, tolerated by the
+         * {@link io.github.inertia4j.core.VersionGracePolicy} rather than answered with a 409 version conflict.
+         * @return The avoided version conflict count.
+         */
+        public long getAvoidedVersionConflicts() {
+            return avoidedVersionConflicts;
+        }
+
+        /**
+         * Gets the share of renders answered with a 409 version conflict.
+         * @return The version conflict rate, between 0 and 1.
+         */
+        public double getVersionConflictRate() {
+            return renders > 0 ? (double) versionConflicts / renders : 0;
+        }
+
+        /**
+         * Gets the statistics of each component, from the slowest to the fastest.
+         * @return The component descriptors.
+         */
+        public List<ComponentDescriptor> getComponents() {
+            return components;
+        }
+    }
+
+    /**
+     * Description of the recent renders of a component.
+     */
+    public static final class ComponentDescriptor {
+        private final String component;
+        private final long renders;
+        private final long failures;
+        private final double partialReloadRatio;
+        private final double p50RenderMillis;
+        private final double p99RenderMillis;
+        private final long p99PayloadBytes;
+        private final List<PropDescriptor> slowestProps;
+        private final List<PropDescriptor> largestProps;
+
+        private ComponentDescriptor(String component, ComponentStatistics statistics) {
+            long[] renderTimes = statistics.renderTimes.sortedSnapshot();
+            long[] payloadSizes = statistics.payloadSizes.sortedSnapshot();
+            this.component = component;
+            this.renders = statistics.renders.sum();
+            this.failures = statistics.failures.sum();
+            this.partialReloadRatio = renders > 0 ? (double) statistics.partialReloads.sum() / renders : 0;
+            this.p50RenderMillis = millis(SampleWindow.percentile(renderTimes, 0.5));
+            this.p99RenderMillis = millis(SampleWindow.percentile(renderTimes, 0.99));
+            this.p99PayloadBytes = SampleWindow.percentile(payloadSizes, 0.99);
+            List<PropDescriptor> props = statistics.props.entrySet().stream()
+                .map(prop -> new PropDescriptor(prop.getKey(), prop.getValue()))
+                .collect(Collectors.toList());
+            this.slowestProps = props.stream()
+                .filter(prop -> prop.getResolutions() > 0)
+                .sorted(Comparator.comparingDouble(PropDescriptor::getMeanMillis).reversed())
+                .limit(topProps)
+                .collect(Collectors.toList());
+            this.largestProps = props.stream()
+                .filter(prop -> prop.getSerializations() > 0)
+                .sorted(Comparator.comparingLong(PropDescriptor::getMaxBytes).reversed())
+                .limit(topProps)
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * Gets the name of the component.
+         * @return The component name.
+         */
+        public String getComponent() {
+            return component;
+        }
+
+        /**
+         * Gets the number of renders of the component.
+         * @return The render count.
+         */
+        public long getRenders() {
+            return renders;
+        }
+
+        /**
+         * Gets the number of renders of the component that failed.
+         * @return The failure count.
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * Gets the share of renders of the component that were partial reloads.
+         * @return The partial reload ratio, between 0 and 1.
+         */
+        public double getPartialReloadRatio() {
+            return partialReloadRatio;
+        }
+
+        /**
+         * Gets the median time of the recent renders of the component.
+         * @return The median render time, in milliseconds.
+         */
+        public double getP50RenderMillis() {
+            return p50RenderMillis;
+        }
+
+        /**
+         * Gets the 99th percentile time of the recent renders of the component.
+         * @return The 99th percentile render time, in milliseconds.
+         */
+        public double getP99RenderMillis() {
+            return p99RenderMillis;
+        }
+
+        /**
+         * Gets the 99th percentile size of the page objects of the recent renders of the component.
+         * @return The 99th percentile payload size, in bytes.
+         */
+        public long getP99PayloadBytes() {
+            return p99PayloadBytes;
+        }
+
+        /**
+         * Gets the lazy and asynchronous props of the component taking the longest to resolve on average.
+         * @return The prop descriptors, from the slowest.
+         */
+        public List<PropDescriptor> getSlowestProps() {
+            return slowestProps;
+        }
+
+        /**
+         * Gets the props of the component with the largest serialized size, when the serializer measures props.
+         * @return The prop descriptors, from the largest.
+         */
+        public List<PropDescriptor> getLargestProps() {
+            return largestProps;
+        }
+    }
+
+    /**
+     * Description of the resolutions and serializations of a prop.
+     */
+    public static final class PropDescriptor {
+        private final String name;
+        private final long resolutions;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final long serializations;
+        private final long meanBytes;
+        private final long maxBytes;
+
+        private PropDescriptor(String name, PropStatistics statistics) {
+            this.name = name;
+            this.resolutions = statistics.resolutions.sum();
+            this.meanMillis = resolutions > 0 ? millis(statistics.totalTime.sum()) / resolutions : 0;
+            this.maxMillis = millis(statistics.maxTime.get());
+            this.serializations = statistics.serializations.sum();
+            this.meanBytes = serializations > 0 ? statistics.totalBytes.sum() / serializations : 0;
+            this.maxBytes = statistics.maxBytes.get();
+        }
+
+        /**
+         * Gets the name of the prop.
+         * @return The prop name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of times the prop was resolved.
+         * @return The resolution count.
+         */
+        public long getResolutions() {
+            return resolutions;
+        }
+
+        /**
+         * Gets the mean time taken to resolve the prop.
+         * @return The mean resolution time, in milliseconds.
+         */
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        /**
+         * Gets the longest time taken to resolve the prop.
+         * @return The maximum resolution time, in milliseconds.
+         */
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        /**
+         * Gets the number of times the prop was serialized.
+         * @return The serialization count.
+         */
+        public long getSerializations() {
+            return serializations;
+        }
+
+        /**
+         * Gets the mean size of the prop once serialized, including its name.
+         * @return The mean size, in bytes.
+         */
+        public long getMeanBytes() {
+            return meanBytes;
+        }
+
+        /**
+         * Gets the largest size of the prop once serialized, including its name.
+         * @return The maximum size, in bytes.
+         */
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.PhaseObservation;
+import io.github.inertia4j.core.RenderInfo;
+import io.github.inertia4j.core.RenderKind;
+import io.github.inertia4j.core.RenderObservation;
+import io.github.inertia4j.core.RenderObserver;
+import io.github.inertia4j.core.RenderPhase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RenderObserver} keeping rolling statistics of the renders of each component, reported by the
+ * {@link InertiaEndpoint}.
+ * <p>
+ * Memory use is bounded: render times and payload sizes are kept for the most recent {@link #windowSize} renders of
+ * each component only, and at most {@link #maxComponents} components and {@link #maxPropsPerComponent} props per
+ * component are tracked. Recording a render costs a few counter increments and array stores.
+ */
+public class InertiaRenderStatistics implements RenderObserver {
+    /**
+     * Number of recent renders whose times and payload sizes are kept for each component.
+     */
+    static final int windowSize = 1024;
+    /**
+     * Maximum number of components tracked. Renders of other components are only counted in the totals.
+     */
+    static final int maxComponents = 1000;
+    /**
+     * Maximum number of props tracked for each component.
+     */
+    static final int maxPropsPerComponent = 100;
+
+    private final Map<String, ComponentStatistics> components = new ConcurrentHashMap<>();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder versionConflicts = new LongAdder();
+    private final LongAdder avoidedVersionConflicts = new LongAdder();
+    /**
+     * Observation of the renders of untracked components, only counted in the totals.
+     */
+    private final RenderObservation untrackedObservation = new RenderObservation() {
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            avoidedVersionConflicts.increment();
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Redirects and location responses are not recorded.
+     */
+    @Override
+    public RenderObservation start(RenderInfo render) {
+        if (render.getComponent() == null) return RenderObservation.none;
+
+        renders.increment();
+        if (render.getKind() == RenderKind.VERSION_CONFLICT) {
+            versionConflicts.increment();
+            return RenderObservation.none;
+        }
+
+        ComponentStatistics statistics = components.get(render.getComponent());
+        if (statistics == null) {
+            if (components.size() >= maxComponents) return untrackedObservation;
+            statistics = components.computeIfAbsent(render.getComponent(), component -> new ComponentStatistics());
+        }
+        return new StatisticsObservation(statistics, render.getKind() == RenderKind.PARTIAL);
+    }
+
+    /**
+     * Gets the number of renders recorded, including version conflicts.
+     * @return The render count.
+     */
+    long getRenders() {
+        return renders.sum();
+    }
+
+    /**
+     * Gets the number of renders answered with a version conflict.
+     * @return The version conflict count.
+     */
+    long getVersionConflicts() {
+        return versionConflicts.sum();
+    }
+
+    /**
+     * Gets the number of renders served to clients with another asset version, tolerated by the
+     * {@link io.github.inertia4j.core.VersionGracePolicy} rather than answered with a version conflict.
+     * @return The avoided version conflict count.
+     */
+    long getAvoidedVersionConflicts() {
+        return avoidedVersionConflicts.sum();
+    }
+
+    /**
+     * Gets the statistics of each tracked component.
+     * @return An unmodifiable view of the statistics, by component name.
+     */
+    Map<String, ComponentStatistics> getComponents() {
+        return Collections.unmodifiableMap(components);
+    }
+
+    /**
+     * Rolling statistics of the renders of a single component.
+     */
+    static class ComponentStatistics {
+        final LongAdder renders = new LongAdder();
+        final LongAdder partialReloads = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final SampleWindow renderTimes = new SampleWindow(windowSize);
+        final SampleWindow payloadSizes = new SampleWindow(windowSize);
+        final Map<String, PropStatistics> props = new ConcurrentHashMap<>();
+
+        /**
+         * Gets the statistics of a prop, creating them unless too many props are tracked already.
+         * @param name The name of the prop.
+         * @return The statistics of the prop, or {@code null} if it is not tracked.
+         */
+        PropStatistics prop(String name) {
+            PropStatistics statistics = props.get(name);
+            if (statistics == null && props.size() < maxPropsPerComponent) {
+                statistics = props.computeIfAbsent(name, key -> new PropStatistics());
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Statistics of the resolution and serialization of a single prop.
+     */
+    static class PropStatistics {
+        final LongAdder resolutions = new LongAdder();
+        final LongAdder totalTime = new LongAdder();
+        final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+        final LongAdder serializations = new LongAdder();
+        final LongAdder totalBytes = new LongAdder();
+        final LongAccumulator maxBytes = new LongAccumulator(Long::max, 0);
+
+        /**
+         * Records a resolution of the prop.
+         * @param nanos The time the resolution took, in nanoseconds.
+         */
+        void record(long nanos) {
+            resolutions.increment();
+            totalTime.add(nanos);
+            maxTime.accumulate(nanos);
+        }
+
+        /**
+         * Records a serialization of the prop.
+         * @param bytes The size of the serialized prop, in bytes.
+         */
+        void recordSize(long bytes) {
+            serializations.increment();
+            totalBytes.add(bytes);
+            maxBytes.accumulate(bytes);
+        }
+    }
+
+    /**
+     * Fixed-size ring buffer of the most recent samples of a value.
+     */
+    static class SampleWindow {
+        private final long[] samples;
+        private long count;
+
+        /**
+         * Constructs an empty window.
+         * @param size The number of samples kept.
+         */
+        SampleWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        /**
+         * Records a sample, replacing the oldest one when the window is full.
+         * @param value The sample.
+         */
+        synchronized void record(long value) {
+            samples[(int) (count++ % samples.length)] = value;
+        }
+
+        /**
+         * Gets the samples in the window, sorted.
+         * @return A sorted copy of the samples.
+         */
+        long[] sortedSnapshot() {
+            long[] snapshot;
+            synchronized (this) {
+                snapshot = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            }
+            Arrays.sort(snapshot);
+            return snapshot;
+        }
+
+        /**
+         * Gets a percentile of sorted samples, using the nearest-rank method.
+         * @param sorted The sorted samples.
+         * @param percentile The percentile, between 0 and 1.
+         * @return The sample at the percentile, or {@code 0} if there are no samples.
+         */
+        static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+    }
+
+    /**
+     * Observation recording a single render in the statistics of its component.
+     */
+    private class StatisticsObservation implements RenderObservation {
+        private final ComponentStatistics statistics;
+        private final boolean partialReload;
+        private final long start = System.nanoTime();
+
+        /**
+         * Constructs an observation for a render of the component with the given statistics.
+         * @param statistics The statistics of the component.
+         * @param partialReload Whether the render is a partial reload.
+         */
+        StatisticsObservation(ComponentStatistics statistics, boolean partialReload) {
+            this.statistics = statistics;
+            this.partialReload = partialReload;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PhaseObservation startPhase(RenderPhase phase, String propName) {
+            if (phase != RenderPhase.PROP) return PhaseObservation.none;
+
+            PropStatistics prop = statistics.prop(propName);
+            if (prop == null) return PhaseObservation.none;
+            long propStart = System.nanoTime();
+            return failure -> prop.record(System.nanoTime() - propStart);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void versionConflictAvoided(String clientVersion, String version) {
+            avoidedVersionConflicts.increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void propSerialized(String propName, long bytes) {
+            PropStatistics prop = statistics.prop(propName);
+            if (prop != null) prop.recordSize(bytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialized(long bytes) {
+            statistics.payloadSizes.record(bytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void finished(int status, long bodyBytes, Throwable failure) {
+            statistics.renders.increment();
+            if (partialReload) statistics.partialReloads.increment();
+            if (failure != null) statistics.failures.increment();
+            statistics.renderTimes.record(System.nanoTime() - start);
+        }
+    }
+}
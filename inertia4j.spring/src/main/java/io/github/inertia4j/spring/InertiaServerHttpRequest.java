@@ -0,0 +1,35 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.HttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Adapter between the reactive Spring request object and the core Inertia4j request.
+ */
+class InertiaServerHttpRequest implements HttpRequest {
+    private final ServerHttpRequest request;
+
+    /**
+     * Constructs a new adapter instance.
+     * @param request The underlying {@link ServerHttpRequest}.
+     */
+    public InertiaServerHttpRequest(ServerHttpRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getHeader(String name) {
+        return request.getHeaders().getFirst(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMethod() {
+        return request.getMethod().name();
+    }
+}
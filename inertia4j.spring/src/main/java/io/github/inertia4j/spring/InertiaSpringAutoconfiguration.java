@@ -1,58 +1,111 @@
 package io.github.inertia4j.spring;
 
 import io.github.inertia4j.core.DefaultPageObjectSerializer;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.core.MicrometerRenderObserver;
+import io.github.inertia4j.core.OpenTelemetryRenderObserver;
+import io.github.inertia4j.core.RenderObserver;
 import io.github.inertia4j.core.SimpleTemplateRenderer;
 import io.github.inertia4j.core.TemplateRenderingException;
+import io.github.inertia4j.core.VersionGracePolicy;
+import io.github.inertia4j.core.VersionStore;
+import io.github.inertia4j.core.ViteManifestVersionProvider;
 import io.github.inertia4j.spi.PageObjectSerializer;
 import io.github.inertia4j.spi.TemplateRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Configuration
+@AutoConfigureAfter(name = {
+    "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+    "org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration",
+    "io.opentelemetry.instrumentation.spring.autoconfigure.OpenTelemetryAutoConfiguration"
+})
 /**
  * Spring Boot auto-configuration for Inertia4j.
- * Sets up default beans for {@link Inertia}, {@link VersionProvider},
- * {@link PageObjectSerializer}, and {@link TemplateRenderer} if they are not
- * already present in the application context.
+ * Sets up default beans for {@link Inertia} (servlet applications), {@link ReactiveInertia} (WebFlux applications),
+ * {@link VersionProvider}, {@link VersionGracePolicy}, {@link PageObjectSerializer}, and {@link TemplateRenderer} if
+ * they are not already present in the application context. Every page includes the props of the
+ * {@link SharedPropsProvider} beans. Renders are reported to every {@link RenderObserver} bean, including a
+ * {@link MicrometerRenderObserver} when a Micrometer {@code MeterRegistry} is available, and an
+ * {@link OpenTelemetryRenderObserver} when an {@code OpenTelemetry} bean is. With Spring Boot Actuator, render
+ * statistics are exposed by the {@link InertiaEndpoint}.
  */
 public class InertiaSpringAutoconfiguration {
+    /**
+     * Name of the optional {@link Executor} bean used to evaluate lazy props concurrently,
+     * replacing the default virtual thread executor.
+     */
+    public static final String propExecutorBeanName = "inertiaPropExecutor";
+
+    private static final String classpathPrefix = "classpath:";
+
     @Autowired
     InertiaConfigurationProperties properties;
 
     /**
-     * Creates the main {@link Inertia} bean if one doesn't already exist.
+     * Creates a default {@link VersionProvider} bean if one doesn't already exist. It returns the digest of the Vite
+     * manifest set with `inertia.vite-manifest`, as computed by {@link ViteManifestVersionProvider}, and "1" if no
+     * manifest is set.
      * 
-     * @param versionProvider      The configured or default VersionProvider.
-     * @param pageObjectSerializer The configured or default PageObjectSerializer.
-     * @param templateRenderer     The configured or default TemplateRenderer.
-     * @return The Inertia bean instance.
+     * @return A default VersionProvider bean.
      */
     @Bean
     @ConditionalOnMissingBean
-    public Inertia inertia(
-        VersionProvider versionProvider,
-        PageObjectSerializer pageObjectSerializer,
-        TemplateRenderer templateRenderer
-    ) {
-        return new Inertia(versionProvider, pageObjectSerializer, templateRenderer);
+    public VersionProvider versionProvider() {
+        String location = properties.viteManifest;
+        if (location == null) return () -> "1";
+
+        ViteManifestVersionProvider viteManifest = location.startsWith(classpathPrefix)
+            ? ViteManifestVersionProvider.ofClasspathResource(location.substring(classpathPrefix.length()))
+            : ViteManifestVersionProvider.ofFile(Path.of(location));
+        return viteManifest::get;
     }
 
     /**
-     * Creates a default {@link VersionProvider} bean that returns "1" if one doesn't already exist.
-     * 
-     * @return A default VersionProvider bean.
+     * Creates a default {@link VersionGracePolicy} bean if one doesn't already exist, configured with the
+     * `inertia.version-grace-period`, `inertia.version-grace-versions` and `inertia.accepted-versions` properties.
+     * Deployed versions are shared through the {@link VersionStore} bean if there is one, in the file set with
+     * `inertia.version-store` otherwise, and kept in memory if neither is set.
+     *
+     * @param versionStore The optional store shared by the nodes of the application.
+     * @return A default VersionGracePolicy bean.
      */
     @Bean
     @ConditionalOnMissingBean
-    public VersionProvider versionProvider() {
-        return () -> "1";
+    public VersionGracePolicy versionGracePolicy(ObjectProvider<VersionStore> versionStore) {
+        VersionStore store = versionStore.getIfAvailable(() -> properties.versionStore != null
+            ? VersionStore.ofFile(Path.of(properties.versionStore))
+            : VersionStore.inMemory()
+        );
+        return VersionGracePolicy.strict
+            .withStore(store)
+            .withRecentVersions(properties.versionGraceVersions)
+            .withGracePeriod(properties.versionGracePeriod)
+            .withAcceptedVersions(properties.acceptedVersions);
     }
 
     /**
      * Creates a default {@link PageObjectSerializer} bean using {@link DefaultPageObjectSerializer}
-     * (which requires Jackson) if one doesn't already exist.
+     * (which uses Jackson when it is on the classpath) if one doesn't already exist.
      * 
      * @return A default PageObjectSerializer bean.
      */
@@ -74,4 +127,219 @@ public class InertiaSpringAutoconfiguration {
     public TemplateRenderer templateRenderer() throws TemplateRenderingException {
         return new SimpleTemplateRenderer(properties.templatePath);
     }
+
+    /**
+     * Creates the core renderer shared by the servlet and reactive beans.
+     *
+     * @param versionProvider      The configured or default VersionProvider.
+     * @param versionGracePolicy   The configured or default VersionGracePolicy.
+     * @param pageObjectSerializer The configured or default PageObjectSerializer.
+     * @param templateRenderer     The configured or default TemplateRenderer.
+     * @param propExecutor         The optional executor used to evaluate props concurrently.
+     * @param renderObservers      The observers notified of renders.
+     * @param sharedProps          The providers of the props shared by every page.
+     * @param properties           The Inertia configuration properties.
+     * @return The configured core renderer.
+     * @see InertiaConfigurationProperties#parallelProps
+     */
+    static InertiaRenderer coreRenderer(
+        VersionProvider versionProvider,
+        VersionGracePolicy versionGracePolicy,
+        PageObjectSerializer pageObjectSerializer,
+        TemplateRenderer templateRenderer,
+        ObjectProvider<Executor> propExecutor,
+        ObjectProvider<RenderObserver> renderObservers,
+        ObjectProvider<SharedPropsProvider> sharedProps,
+        InertiaConfigurationProperties properties
+    ) {
+        Map<String, Object> mergedSharedProps = new HashMap<>();
+        sharedProps.orderedStream().forEach(provider -> mergedSharedProps.putAll(provider.get()));
+        Executor executor = properties.parallelProps
+            ? propExecutor.getIfAvailable(InertiaRenderer::defaultPropExecutor)
+            : null;
+        return new InertiaRenderer(pageObjectSerializer, versionProvider::get, templateRenderer)
+            .withPropExecutor(executor)
+            .withPropTimeout(properties.propTimeout)
+            .withPropFailurePolicy(properties.propFailurePolicy)
+            .withPropPayloadBudget(properties.propPayloadBudget != null ? properties.propPayloadBudget.toBytes() : 0)
+            .withPagePayloadBudget(properties.pagePayloadBudget != null ? properties.pagePayloadBudget.toBytes() : 0)
+            .withPayloadBudgetPolicy(properties.payloadBudgetPolicy)
+            .withETags(properties.etags)
+            .withCompression(properties.compression)
+            .withRawJsonValidation(properties.validateRawJson)
+            .withVersionGracePolicy(versionGracePolicy)
+            .withRenderObserver(RenderObserver.of(renderObservers.orderedStream().collect(Collectors.toList())))
+            .withSharedProps(mergedSharedProps);
+    }
+
+    /**
+     * Configuration for servlet-based applications, active when the Servlet API is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "jakarta.servlet.http.HttpServletRequest")
+    static class ServletConfiguration {
+        /**
+         * Creates the main {@link Inertia} bean if one doesn't already exist.
+         *
+         * @param versionProvider      The configured or default VersionProvider.
+         * @param versionGracePolicy   The configured or default VersionGracePolicy.
+         * @param pageObjectSerializer The configured or default PageObjectSerializer.
+         * @param templateRenderer     The configured or default TemplateRenderer.
+         * @param propExecutor         The optional executor used to evaluate props concurrently.
+         * @param renderObservers      The observers notified of renders.
+         * @param sharedProps          The providers of the props shared by every page.
+         * @param properties           The Inertia configuration properties.
+         * @return The Inertia bean instance.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public Inertia inertia(
+            VersionProvider versionProvider,
+            VersionGracePolicy versionGracePolicy,
+            PageObjectSerializer pageObjectSerializer,
+            TemplateRenderer templateRenderer,
+            @Qualifier(propExecutorBeanName) ObjectProvider<Executor> propExecutor,
+            ObjectProvider<RenderObserver> renderObservers,
+            ObjectProvider<SharedPropsProvider> sharedProps,
+            InertiaConfigurationProperties properties
+        ) {
+            InertiaRenderer coreRenderer = coreRenderer(
+                versionProvider,
+                versionGracePolicy,
+                pageObjectSerializer,
+                templateRenderer,
+                propExecutor,
+                renderObservers,
+                sharedProps,
+                properties
+            );
+            return new Inertia(new InertiaSpringRenderer(coreRenderer));
+        }
+    }
+
+    /**
+     * Configuration for Spring WebFlux applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveConfiguration {
+        /**
+         * Creates the {@link ReactiveInertia} bean if one doesn't already exist.
+         *
+         * @param versionProvider      The configured or default VersionProvider.
+         * @param versionGracePolicy   The configured or default VersionGracePolicy.
+         * @param pageObjectSerializer The configured or default PageObjectSerializer.
+         * @param templateRenderer     The configured or default TemplateRenderer.
+         * @param propExecutor         The optional executor used to evaluate props concurrently, which renders also
+         *                             run on instead of the bounded elastic scheduler.
+         * @param renderObservers      The observers notified of renders.
+         * @param sharedProps          The providers of the props shared by every page.
+         * @param properties           The Inertia configuration properties.
+         * @return The ReactiveInertia bean instance.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveInertia reactiveInertia(
+            VersionProvider versionProvider,
+            VersionGracePolicy versionGracePolicy,
+            PageObjectSerializer pageObjectSerializer,
+            TemplateRenderer templateRenderer,
+            @Qualifier(propExecutorBeanName) ObjectProvider<Executor> propExecutor,
+            ObjectProvider<RenderObserver> renderObservers,
+            ObjectProvider<SharedPropsProvider> sharedProps,
+            InertiaConfigurationProperties properties
+        ) {
+            InertiaRenderer coreRenderer = coreRenderer(
+                versionProvider,
+                versionGracePolicy,
+                pageObjectSerializer,
+                templateRenderer,
+                propExecutor,
+                renderObservers,
+                sharedProps,
+                properties
+            );
+            Executor executor = propExecutor.getIfAvailable();
+            return new ReactiveInertia(
+                coreRenderer,
+                executor != null ? Schedulers.fromExecutor(executor) : Schedulers.boundedElastic()
+            );
+        }
+    }
+
+    /**
+     * Configuration recording render metrics, active when Micrometer is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MetricsConfiguration {
+        /**
+         * Creates a {@link MicrometerRenderObserver} bean recording render metrics in the application's
+         * {@code MeterRegistry}, if one doesn't already exist.
+         *
+         * @param meterRegistry The application's meter registry.
+         * @return The MicrometerRenderObserver bean instance.
+         */
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean
+        public MicrometerRenderObserver micrometerRenderObserver(MeterRegistry meterRegistry) {
+            return new MicrometerRenderObserver(meterRegistry);
+        }
+    }
+
+    /**
+     * Configuration recording render spans, active when the OpenTelemetry API is available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.opentelemetry.api.OpenTelemetry")
+    static class TracingConfiguration {
+        /**
+         * Creates an {@link OpenTelemetryRenderObserver} bean recording render spans with the application's
+         * {@code OpenTelemetry} instance, if one doesn't already exist.
+         *
+         * @param openTelemetry The application's OpenTelemetry instance.
+         * @return The OpenTelemetryRenderObserver bean instance.
+         */
+        @Bean
+        @ConditionalOnBean(OpenTelemetry.class)
+        @ConditionalOnMissingBean
+        public OpenTelemetryRenderObserver openTelemetryRenderObserver(OpenTelemetry openTelemetry) {
+            return new OpenTelemetryRenderObserver(openTelemetry);
+        }
+    }
+
+    /**
+     * Configuration of the {@link InertiaEndpoint}, active when Spring Boot Actuator is available and the endpoint
+     * is enabled and exposed.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint")
+    @ConditionalOnAvailableEndpoint(endpoint = InertiaEndpoint.class)
+    static class EndpointConfiguration {
+        /**
+         * Creates the {@link InertiaRenderStatistics} bean recording the statistics reported by the endpoint, if one
+         * doesn't already exist.
+         *
+         * @return The InertiaRenderStatistics bean instance.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public InertiaRenderStatistics inertiaRenderStatistics() {
+            return new InertiaRenderStatistics();
+        }
+
+        /**
+         * Creates the {@link InertiaEndpoint} bean if one doesn't already exist.
+         *
+         * @param statistics      The render statistics.
+         * @param versionProvider The configured or default VersionProvider.
+         * @return The InertiaEndpoint bean instance.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public InertiaEndpoint inertiaEndpoint(InertiaRenderStatistics statistics, VersionProvider versionProvider) {
+            return new InertiaEndpoint(statistics, versionProvider);
+        }
+    }
 }
@@ -6,10 +6,14 @@ import io.github.inertia4j.core.InertiaRenderer;
 import io.github.inertia4j.core.InertiaRenderingOptions;
 import io.github.inertia4j.spi.PageObjectSerializer;
 import io.github.inertia4j.spi.TemplateRenderer;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Spring-specific renderer that wraps the core {@link InertiaRenderer}.
  * It takes results from the core renderer (which produces a generic {@link HttpResponse})
@@ -17,6 +21,19 @@ import org.springframework.util.CollectionUtils;
  */
 class InertiaSpringRenderer {
     private final InertiaRenderer coreRenderer;
+    private final InertiaRenderer compressingRenderer;
+
+    /**
+     * Constructs an InertiaSpringRenderer wrapping an already configured core renderer.
+     * Response entities with a string body are never compressed, while streamed responses and response entities
+     * with a byte array body are, when the core renderer compresses responses.
+     *
+     * @param coreRenderer the core renderer producing the Inertia responses.
+     */
+    InertiaSpringRenderer(InertiaRenderer coreRenderer) {
+        this.coreRenderer = coreRenderer.withCompression(false);
+        this.compressingRenderer = coreRenderer;
+    }
 
     /**
      * Constructs an InertiaSpringRenderer with explicit dependencies.
@@ -30,7 +47,7 @@ class InertiaSpringRenderer {
         VersionProvider versionProvider,
         TemplateRenderer templateRenderer
     ) {
-        this.coreRenderer = new InertiaRenderer(serializer, versionProvider::get, templateRenderer);
+        this(new InertiaRenderer(serializer, versionProvider::get, templateRenderer));
     }
 
     /**
@@ -46,7 +63,7 @@ class InertiaSpringRenderer {
         VersionProvider versionProvider,
         String templatePath
     ) {
-        this.coreRenderer = new InertiaRenderer(serializer, versionProvider::get, templatePath);
+        this(new InertiaRenderer(serializer, versionProvider::get, templatePath));
     }
 
     /**
@@ -64,6 +81,64 @@ class InertiaSpringRenderer {
         return convertToResponseEntity(coreRenderer.render(request, options));
     }
 
+    /**
+     * Renders the response according to the Inertia protocol and converts it to a {@link ResponseEntity} carrying
+     * the UTF-8 encoded body produced by the core renderer, without decoding it to a string.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options Inertia flags and other Page Object data
+     * @return A Spring {@link ResponseEntity} containing the Inertia response, compressed if the request accepts it
+     *         and the core renderer compresses responses.
+     */
+    public ResponseEntity<byte[]> renderBytes(
+        HttpRequest request,
+        InertiaRenderingOptions options
+    ) {
+        return convertToBytesResponseEntity(compressingRenderer.render(request, options));
+    }
+
+    /**
+     * Renders the response according to the Inertia protocol without blocking on
+     * {@link java.util.concurrent.CompletionStage} props, and converts it to a {@link ResponseEntity}.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options Inertia flags and other Page Object data
+     * @return A future completed with the Spring {@link ResponseEntity} once all props are resolved.
+     */
+    public CompletableFuture<ResponseEntity<String>> renderAsync(
+        HttpRequest request,
+        InertiaRenderingOptions options
+    ) {
+        return coreRenderer.renderAsync(request, options)
+            .thenApply(this::convertToResponseEntity)
+            .toCompletableFuture();
+    }
+
+    /**
+     * Renders the response according to the Inertia protocol, writing it directly to the servlet response.
+     * The status and headers are set first, then the page object is streamed into the response output stream.
+     *
+     * @param request The incoming HTTP request wrapper.
+     * @param options Inertia flags and other Page Object data
+     * @param servletResponse The servlet response to write to.
+     * @throws IOException if writing to the response fails.
+     */
+    public void stream(
+        HttpRequest request,
+        InertiaRenderingOptions options,
+        HttpServletResponse servletResponse
+    ) throws IOException {
+        HttpResponse response = compressingRenderer.renderStreaming(request, options);
+
+        servletResponse.setStatus(response.getCode());
+        response.getHeaders().forEach((name, values) ->
+            values.forEach(value -> servletResponse.addHeader(name, value))
+        );
+        if (response.hasBody()) {
+            response.writeBody(servletResponse.getOutputStream());
+        }
+    }
+
     /**
      * Creates an appropriate Inertia redirect response and converts it to a {@link ResponseEntity}.
      * Uses a 303 See Other redirect for PUT/PATCH/DELETE requests and a 302 Found for others.
@@ -93,4 +168,11 @@ class InertiaSpringRenderer {
         );
         return new ResponseEntity<>(response.getBody(), responseHeaders, response.getCode());
     }
+
+    private ResponseEntity<byte[]> convertToBytesResponseEntity(HttpResponse response) {
+        HttpHeaders responseHeaders = new HttpHeaders(
+            CollectionUtils.toMultiValueMap(response.getHeaders())
+        );
+        return new ResponseEntity<>(response.getBodyBytes(), responseHeaders, response.getCode());
+    }
 }
@@ -1,12 +1,13 @@
 package io.github.inertia4j.spring;
 
 import io.github.inertia4j.core.InertiaRenderingOptions;
+import org.springframework.http.CacheControl;
 
 import java.util.Map;
 
 /**
- * Represents rendering options specific to the Spring integration, primarily focusing on
- * history state flags (`encryptHistory`, `clearHistory`).
+ * Represents rendering options specific to the Spring integration: the history state flags (`encryptHistory`,
+ * `clearHistory`), and the tag and cache policy of the response.
  * <p>
  * This class exists separately from {@link Inertia.Options} to avoid conflicts with static methods
  * and provide an instance-based way to configure options, often used with the {@link Inertia} bean.
@@ -14,6 +15,8 @@ import java.util.Map;
 public class InertiaSpringRendererOptions {
     private final boolean encryptHistory;
     private final boolean clearHistory;
+    private final String eTag;
+    private final CacheControl cacheControl;
 
     /** Default value for encryptHistory, used by constructors and potentially autoconfiguration. */
     static boolean defaultEncryptHistory = false;
@@ -26,8 +29,22 @@ public class InertiaSpringRendererOptions {
      * @param clearHistory   Value for the clearHistory flag.
      */
     public InertiaSpringRendererOptions(boolean encryptHistory, boolean clearHistory) {
+        this(encryptHistory, clearHistory, null, null);
+    }
+
+    /**
+     * Internal constructor used by the public constructors and the copy methods.
+     */
+    private InertiaSpringRendererOptions(
+        boolean encryptHistory,
+        boolean clearHistory,
+        String eTag,
+        CacheControl cacheControl
+    ) {
         this.encryptHistory = encryptHistory;
         this.clearHistory = clearHistory;
+        this.eTag = eTag;
+        this.cacheControl = cacheControl;
     }
 
     /** Constructs new options using default history flag values. */
@@ -40,7 +57,7 @@ public class InertiaSpringRendererOptions {
      * @return New options instance.
      */
     public InertiaSpringRendererOptions clearHistory() {
-        return new InertiaSpringRendererOptions(encryptHistory, true);
+        return new InertiaSpringRendererOptions(encryptHistory, true, eTag, cacheControl);
     }
 
     /**
@@ -49,7 +66,7 @@ public class InertiaSpringRendererOptions {
      * @return New options instance.
      */
     public InertiaSpringRendererOptions clearHistory(boolean clearHistory) {
-        return new InertiaSpringRendererOptions(encryptHistory, clearHistory);
+        return new InertiaSpringRendererOptions(encryptHistory, clearHistory, eTag, cacheControl);
     }
 
     /**
@@ -57,7 +74,7 @@ public class InertiaSpringRendererOptions {
      * @return New options instance.
      */
     public InertiaSpringRendererOptions encryptHistory() {
-        return new InertiaSpringRendererOptions(true, clearHistory);
+        return new InertiaSpringRendererOptions(true, clearHistory, eTag, cacheControl);
     }
 
     /**
@@ -66,7 +83,28 @@ public class InertiaSpringRendererOptions {
      * @return New options instance.
      */
     public InertiaSpringRendererOptions encryptHistory(boolean encryptHistory) {
-        return new InertiaSpringRendererOptions(encryptHistory, clearHistory);
+        return new InertiaSpringRendererOptions(encryptHistory, clearHistory, eTag, cacheControl);
+    }
+
+    /**
+     * Returns a new options instance with a tag identifying the state of the page, such as a revision number.
+     * GET requests whose `If-None-Match` header matches it are answered with 304 Not Modified before any prop is
+     * resolved. The tag must change whenever a prop of the page changes, shared props included.
+     * @param eTag The tag of the page, or {@code null} to compute it from the response when `inertia.etags` is set.
+     * @return New options instance.
+     */
+    public InertiaSpringRendererOptions eTag(String eTag) {
+        return new InertiaSpringRendererOptions(encryptHistory, clearHistory, eTag, cacheControl);
+    }
+
+    /**
+     * Returns a new options instance with the `Cache-Control` header sent with the page, for instance
+     * {@code CacheControl.noCache().cachePrivate()} to have browsers revalidate the page on every visit.
+     * @param cacheControl The cache policy of the page, or {@code null} not to send the header.
+     * @return New options instance.
+     */
+    public InertiaSpringRendererOptions cacheControl(CacheControl cacheControl) {
+        return new InertiaSpringRendererOptions(encryptHistory, clearHistory, eTag, cacheControl);
     }
 
     /**
@@ -83,6 +121,8 @@ public class InertiaSpringRendererOptions {
         String componentName,
         Map<String, Object> props
     ) {
-        return new InertiaRenderingOptions(encryptHistory, clearHistory, url, componentName, props);
+        return new InertiaRenderingOptions(encryptHistory, clearHistory, url, componentName, props)
+            .withETag(eTag)
+            .withCacheControl(cacheControl != null ? cacheControl.getHeaderValue() : null);
     }
 }
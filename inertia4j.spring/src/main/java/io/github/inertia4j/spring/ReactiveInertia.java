@@ -0,0 +1,344 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.HttpResponse;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.spi.DeferredProp;
+import io.github.inertia4j.spi.LazyProp;
+import io.github.inertia4j.spi.PageObjectSerializer;
+import io.github.inertia4j.spi.TemplateRenderer;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * An injectable Spring bean providing methods for rendering Inertia responses in Spring WebFlux applications.
+ * It is the reactive counterpart of {@link Inertia}: responses are returned as a {@link Mono}, either of a
+ * {@link ResponseEntity} for annotated controllers, or of a {@link ServerResponse} for functional endpoints. The
+ * {@code renderBytes} methods and functional endpoints hand the UTF-8 encoded body to WebFlux as is, without
+ * decoding it to a string.
+ * <p>
+ * Besides the values supported by {@link Inertia}, props can be {@link Mono} or {@link Flux} values, which are
+ * subscribed to only when the prop is included in the response. A {@code Mono} is sent as its value, and a
+ * {@code Flux} as the list of its elements. Lazy props may return them as well.
+ * <p>
+ * Rendering never blocks on reactive props. The other props are evaluated, and the page object serialized, on a
+ * {@link Scheduler} rather than on the event loop: {@link Schedulers#boundedElastic()} by default, or the
+ * {@code inertiaPropExecutor} bean when the autoconfiguration finds one.
+ */
+public class ReactiveInertia {
+    private final InertiaRenderer renderer;
+    private final InertiaRenderer compressingRenderer;
+    private final Scheduler scheduler;
+    private final Executor serializationExecutor;
+    private static final InertiaSpringRendererOptions defaultOptions = new InertiaSpringRendererOptions();
+
+    /**
+     * Internal constructor used by the autoconfiguration.
+     *
+     * @param renderer  The core renderer.
+     * @param scheduler The scheduler props are evaluated and page objects serialized on.
+     */
+    ReactiveInertia(InertiaRenderer renderer, Scheduler scheduler) {
+        // String bodies must not be compressed, byte bodies are sent as is
+        this.renderer = renderer.withCompression(false);
+        this.compressingRenderer = renderer;
+        this.scheduler = scheduler;
+        this.serializationExecutor = scheduler::schedule;
+    }
+
+    /**
+     * Constructs the ReactiveInertia bean with required dependencies.
+     *
+     * @param versionProvider      The provider for the current asset version.
+     * @param pageObjectSerializer The serializer for the PageObject.
+     * @param templateRenderer     The renderer for the base HTML template.
+     */
+    public ReactiveInertia(
+        VersionProvider versionProvider,
+        PageObjectSerializer pageObjectSerializer,
+        TemplateRenderer templateRenderer
+    ) {
+        this(
+            new InertiaRenderer(pageObjectSerializer, versionProvider::get, templateRenderer),
+            Schedulers.boundedElastic()
+        );
+    }
+
+    /**
+     * Renders an Inertia component with the given properties.
+     * Uses the request path as the page object URL and default rendering options.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<String>> render(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props
+    ) {
+        return render(request, component, props, request.getPath().value(), defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options.
+     * Uses the request path as the page object URL.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<String>> render(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) {
+        return render(request, component, props, request.getPath().value(), options);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, URL, and specific rendering options.
+     * The request headers are read when the returned {@link Mono} is subscribed to, on the rendering scheduler.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param url       The URL to be included in the page object.
+     * @param options   Specific rendering options.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<String>> render(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderResponse(renderer, request, component, props, url, options)
+            .map(ReactiveInertia::convertToResponseEntity);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, as a response entity carrying the UTF-8 encoded body.
+     * Uses the request path as the page object URL and default rendering options.
+     * <p>
+     * Unlike {@code render}, the body is handed to WebFlux as produced by the serializer, without decoding it to a
+     * string and encoding it again. The response is compressed with gzip when {@code inertia.compression} is set
+     * and the request accepts it.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<byte[]>> renderBytes(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props
+    ) {
+        return renderBytes(request, component, props, request.getPath().value(), defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options, as a response entity
+     * carrying the UTF-8 encoded body. Uses the request path as the page object URL.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<byte[]>> renderBytes(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderBytes(request, component, props, request.getPath().value(), options);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, URL, and specific rendering options, as a response
+     * entity carrying the UTF-8 encoded body.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param url       The URL to be included in the page object.
+     * @param options   Specific rendering options.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} containing the Inertia response.
+     */
+    public Mono<ResponseEntity<byte[]>> renderBytes(
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderResponse(compressingRenderer, request, component, props, url, options)
+            .map(ReactiveInertia::convertToBytesResponseEntity);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties, for functional endpoints.
+     * Uses the request path as the page object URL and default rendering options.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @return A {@link Mono} of the {@link ServerResponse} containing the Inertia response.
+     */
+    public Mono<ServerResponse> render(ServerRequest request, String component, Map<String, Object> props) {
+        return render(request, component, props, defaultOptions);
+    }
+
+    /**
+     * Renders an Inertia component with the given properties and specific rendering options, for functional
+     * endpoints. Uses the request path as the page object URL.
+     *
+     * @param request   The current request.
+     * @param component The name of the client-side component.
+     * @param props     A map of properties to pass to the component.
+     * @param options   Specific rendering options (e.g., history flags).
+     * @return A {@link Mono} of the {@link ServerResponse} containing the Inertia response.
+     */
+    public Mono<ServerResponse> render(
+        ServerRequest request,
+        String component,
+        Map<String, Object> props,
+        InertiaSpringRendererOptions options
+    ) {
+        return renderBytes(request.exchange().getRequest(), component, props, options)
+            .flatMap(ReactiveInertia::convertToServerResponse);
+    }
+
+    /**
+     * Creates an Inertia redirect response.
+     * Uses a 303 status code for PUT/PATCH/DELETE requests and 302 otherwise.
+     *
+     * @param request  The current request.
+     * @param location The URL to redirect to.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} configured for an Inertia redirect.
+     */
+    public Mono<ResponseEntity<String>> redirect(ServerHttpRequest request, String location) {
+        return Mono.fromSupplier(() ->
+            convertToResponseEntity(renderer.redirect(new InertiaServerHttpRequest(request), location))
+        );
+    }
+
+    /**
+     * Creates an external redirect response (using 409 Conflict + X-Inertia-Location header).
+     *
+     * @param url The external URL to redirect to.
+     * @return A {@link Mono} of the Spring {@link ResponseEntity} configured for an external Inertia redirect.
+     */
+    public Mono<ResponseEntity<String>> location(String url) {
+        return Mono.fromSupplier(() -> convertToResponseEntity(renderer.location(url)));
+    }
+
+    /**
+     * Renders a response with the given core renderer, reading the request headers when the returned {@link Mono} is
+     * subscribed to, on the rendering scheduler.
+     */
+    private Mono<HttpResponse> renderResponse(
+        InertiaRenderer coreRenderer,
+        ServerHttpRequest request,
+        String component,
+        Map<String, Object> props,
+        String url,
+        InertiaSpringRendererOptions options
+    ) {
+        return Mono.defer(() -> Mono.fromCompletionStage(coreRenderer.renderAsync(
+            new InertiaServerHttpRequest(request),
+            options.toCoreRenderingOptions(url, component, reactiveProps(props)),
+            serializationExecutor
+        ))).subscribeOn(scheduler);
+    }
+
+    /**
+     * Wraps the reactive values among the props so that the core renderer awaits them as futures. Publishers are
+     * wrapped in lazy props, so they are only subscribed to when the prop is included in the response.
+     * @param props The props passed by the application, can be null.
+     * @return The props with reactive values adapted, or the same map if there are none.
+     */
+    private static Map<String, Object> reactiveProps(Map<String, Object> props) {
+        if (props == null) return null;
+
+        Map<String, Object> adaptedProps = null;
+        for (Map.Entry<String, Object> prop : props.entrySet()) {
+            Object value = prop.getValue();
+            Object adapted = reactiveProp(value);
+            if (adapted != value) {
+                if (adaptedProps == null) adaptedProps = new HashMap<>(props);
+                adaptedProps.put(prop.getKey(), adapted);
+            }
+        }
+        return adaptedProps != null ? adaptedProps : props;
+    }
+
+    /**
+     * Adapts a single prop value, see {@link #reactiveProps(Map)}.
+     */
+    private static Object reactiveProp(Object value) {
+        if (value instanceof Publisher) {
+            return LazyProp.of(() -> toFuture(value));
+        }
+        if (value instanceof DeferredProp) {
+            DeferredProp prop = (DeferredProp) value;
+            return DeferredProp.of(prop.getGroup(), () -> toFuture(prop.resolve()));
+        }
+        if (value instanceof LazyProp) {
+            LazyProp prop = (LazyProp) value;
+            return LazyProp.of(() -> toFuture(prop.resolve()));
+        }
+        return value;
+    }
+
+    /**
+     * Subscribes to a publisher, collecting the elements of anything but a {@link Mono} into a list.
+     * @param value The value, which may be a {@link Publisher}.
+     * @return A future of the publisher result, or the value itself if it is not a publisher.
+     */
+    private static Object toFuture(Object value) {
+        if (value instanceof Mono) return ((Mono<?>) value).toFuture();
+        if (value instanceof Publisher) return Flux.from((Publisher<?>) value).collectList().toFuture();
+        return value;
+    }
+
+    private static ResponseEntity<String> convertToResponseEntity(HttpResponse response) {
+        HttpHeaders responseHeaders = new HttpHeaders(
+            CollectionUtils.toMultiValueMap(response.getHeaders())
+        );
+        return new ResponseEntity<>(response.getBody(), responseHeaders, response.getCode());
+    }
+
+    private static ResponseEntity<byte[]> convertToBytesResponseEntity(HttpResponse response) {
+        HttpHeaders responseHeaders = new HttpHeaders(
+            CollectionUtils.toMultiValueMap(response.getHeaders())
+        );
+        return new ResponseEntity<>(response.getBodyBytes(), responseHeaders, response.getCode());
+    }
+
+    private static Mono<ServerResponse> convertToServerResponse(ResponseEntity<byte[]> response) {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(response.getStatusCode())
+            .headers(headers -> headers.addAll(response.getHeaders()));
+        return response.getBody() != null ? builder.bodyValue(response.getBody()) : builder.build();
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.inertia4j.spring;
+
+import java.util.Map;
+
+/**
+ * Functional interface for providing props shared by every page, such as feature flags, application settings or
+ * translations. Implementations can be provided as Spring beans: the props of all of them are merged, in bean order,
+ * when the Inertia beans are created. Plain values are then serialized once and reused by every render; lazy props
+ * are resolved by each render including them.
+ *
+ * @see io.github.inertia4j.core.InertiaRenderer#withSharedProps(Map)
+ */
+public interface SharedPropsProvider {
+    /**
+     * @return The shared props, by name.
+     */
+    Map<String, Object> get();
+}
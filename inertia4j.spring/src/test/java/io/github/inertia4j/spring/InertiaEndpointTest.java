@@ -0,0 +1,85 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.DefaultPageObjectSerializer;
+import io.github.inertia4j.core.InertiaRenderer;
+import io.github.inertia4j.core.VersionGracePolicy;
+import io.github.inertia4j.spi.LazyProp;
+import io.github.inertia4j.spring.InertiaEndpoint.ComponentDescriptor;
+import io.github.inertia4j.spring.InertiaEndpoint.InertiaDescriptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InertiaEndpointTest {
+    private final InertiaRenderStatistics statistics = new InertiaRenderStatistics();
+    private final InertiaEndpoint endpoint = new InertiaEndpoint(statistics, () -> "2");
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/records");
+    private final Inertia inertia = new Inertia(
+        new InertiaSpringRenderer(
+            new InertiaRenderer(
+                new DefaultPageObjectSerializer(),
+                () -> "2",
+                pageObjectJson -> "<div id=\"app\" data-page='" + pageObjectJson + "'></div>"
+            ).withRenderObserver(statistics)
+        ),
+        () -> request
+    );
+
+    @Test
+    void inertia_reportsRenderStatisticsByComponent() {
+        Map<String, Object> props = Map.of("records", LazyProp.of(() -> "all"));
+        inertia.render("records/Index", props);
+        request.addHeader("X-Inertia", "true");
+        request.addHeader("X-Inertia-Partial-Data", "records");
+        inertia.render("records/Index", props);
+        request.addHeader("X-Inertia-Version", "1");
+        inertia.render("records/Index", props);
+
+        InertiaDescriptor descriptor = endpoint.inertia();
+
+        assertEquals("2", descriptor.getVersion());
+        assertEquals(3, descriptor.getRenders());
+        assertEquals(1, descriptor.getVersionConflicts());
+        assertEquals(0, descriptor.getAvoidedVersionConflicts());
+        assertEquals(1, descriptor.getComponents().size());
+        ComponentDescriptor component = descriptor.getComponents().get(0);
+        assertEquals("records/Index", component.getComponent());
+        assertEquals(2, component.getRenders());
+        assertEquals(0.5, component.getPartialReloadRatio());
+        assertTrue(component.getP99PayloadBytes() > 0);
+        assertEquals("records", component.getSlowestProps().get(0).getName());
+        assertEquals(2, component.getSlowestProps().get(0).getResolutions());
+        assertEquals("records", component.getLargestProps().get(0).getName());
+        assertEquals("\"records\":\"all\"".length(), component.getLargestProps().get(0).getMaxBytes());
+    }
+
+    @Test
+    void inertia_withVersionGracePolicy_reportsAvoidedVersionConflicts() {
+        Inertia tolerantInertia = new Inertia(
+            new InertiaSpringRenderer(
+                new InertiaRenderer(
+                    new DefaultPageObjectSerializer(),
+                    () -> "2",
+                    pageObjectJson -> "<div id=\"app\" data-page='" + pageObjectJson + "'></div>"
+                )
+                    .withVersionGracePolicy(VersionGracePolicy.strict.withAcceptedVersions(List.of("1")))
+                    .withRenderObserver(statistics)
+            ),
+            () -> request
+        );
+        request.addHeader("X-Inertia", "true");
+        request.addHeader("X-Inertia-Version", "1");
+
+        tolerantInertia.render("records/Index", Map.of());
+
+        InertiaDescriptor descriptor = endpoint.inertia();
+        assertEquals(1, descriptor.getRenders());
+        assertEquals(0, descriptor.getVersionConflicts());
+        assertEquals(1, descriptor.getAvoidedVersionConflicts());
+    }
+}
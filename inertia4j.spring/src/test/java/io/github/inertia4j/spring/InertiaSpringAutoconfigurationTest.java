@@ -0,0 +1,71 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.OpenTelemetryRenderObserver;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InertiaSpringAutoconfigurationTest {
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            ConfigurationPropertiesAutoConfiguration.class,
+            InertiaConfigurationProperties.class,
+            InertiaSpringAutoconfiguration.class
+        ));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void tracingConfiguration_withoutOpenTelemetryBean_createsNoObserver() {
+        contextRunner.run(context ->
+            assertTrue(context.getBeansOfType(OpenTelemetryRenderObserver.class).isEmpty())
+        );
+    }
+
+    @Test
+    void tracingConfiguration_withOpenTelemetryBean_recordsRenderSpans() {
+        InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+            .build();
+        RequestContextHolder.setRequestAttributes(
+            new ServletRequestAttributes(new MockHttpServletRequest("GET", "/records"))
+        );
+
+        contextRunner
+            .withBean(OpenTelemetry.class, () -> OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build())
+            .run(context -> {
+                assertEquals(1, context.getBeansOfType(OpenTelemetryRenderObserver.class).size());
+
+                context.getBean(Inertia.class).render("records/Index", Map.of("records", List.of()));
+
+                List<String> spanNames = spanExporter.getFinishedSpanItems().stream()
+                    .map(SpanData::getName)
+                    .collect(Collectors.toList());
+                assertTrue(spanNames.contains("render records/Index"), () -> "Spans: " + spanNames);
+                assertTrue(spanNames.contains("render template"), () -> "Spans: " + spanNames);
+            });
+        tracerProvider.close();
+    }
+}
@@ -9,14 +9,19 @@ import io.github.inertia4j.spi.TemplateRenderer;
 import io.github.inertia4j.spring.Inertia.Options;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -67,6 +72,15 @@ public class InertiaTest {
         assertEquals(getExpectedHtmlBody(false, false), response.getBody());
     }
 
+    @Test
+    void renderBytes_whenInitialRequest_returnsUtf8HtmlResponse() {
+        ResponseEntity<byte[]> response = inertia.renderBytes(testComponent, testProps);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.TEXT_HTML, response.getHeaders().getContentType());
+        assertEquals(getExpectedHtmlBody(false, false), new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
     @Test
     void render_whenPartialRequest_returnsPartialJsonResponse() {
         request.addHeader("X-Inertia", "true");
@@ -81,6 +95,39 @@ public class InertiaTest {
         assertEquals(getExpectedJsonBody(false, false, Map.of("prop1", "value1")), response.getBody());
     }
 
+    @Test
+    void render_withSharedProps_mergesThemWithPageProps() {
+        request.addHeader("X-Inertia", "true");
+        inertia.share("prop1", "shared");
+        inertia.share("flash", "Saved");
+
+        ResponseEntity<String> response = inertia.render(testComponent, testProps);
+
+        assertEquals(
+            getExpectedJsonBody(false, false, Map.of("flash", "Saved", "prop1", "value1", "prop2", 123)),
+            response.getBody()
+        );
+    }
+
+    @Test
+    void render_withETag_whenIfNoneMatchMatches_returnsNotModifiedResponse() {
+        request.addHeader("X-Inertia", "true");
+        ResponseEntity<String> first = inertia.render(testComponent, testProps, Options.eTag("revision-1"));
+        String eTag = first.getHeaders().getETag();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        ResponseEntity<String> response = inertia.render(
+            testComponent,
+            testProps,
+            Options.eTag("revision-1").cacheControl(CacheControl.noCache())
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(eTag, response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        assertNull(response.getBody());
+    }
+
     @Test
     void render_withMismatchingVersion_returnsConflictResponse() {
         request.addHeader("X-Inertia", "true");
@@ -152,6 +199,47 @@ public class InertiaTest {
         assertEquals(getExpectedJsonBody(true, false), response.getBody());
     }
 
+    @Test
+    void renderAsync_withFutureProps_completesWithJsonResponse() {
+        request.addHeader("X-Inertia", "true");
+        CompletableFuture<Object> prop2 = new CompletableFuture<>();
+
+        CompletableFuture<ResponseEntity<String>> response = inertia.renderAsync(
+            testComponent,
+            Map.of("prop1", "value1", "prop2", prop2)
+        );
+        prop2.complete(123);
+
+        assertEquals(HttpStatus.OK, response.join().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.join().getHeaders().getContentType());
+        assertEquals(getExpectedJsonBody(false, false), response.join().getBody());
+    }
+
+    @Test
+    void stream_whenInitialRequest_writesHtmlResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        inertia.stream(response, testComponent, testProps);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(MediaType.TEXT_HTML_VALUE, response.getContentType());
+        assertNull(response.getHeader("X-Inertia"));
+        assertEquals(getExpectedHtmlBody(false, false), response.getContentAsString());
+    }
+
+    @Test
+    void stream_whenInertiaRequest_writesJsonResponse() throws IOException {
+        request.addHeader("X-Inertia", "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        inertia.stream(response, testComponent, testProps);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals("true", response.getHeader("X-Inertia"));
+        assertEquals(getExpectedJsonBody(false, false), response.getContentAsString());
+    }
+
     private static String getExpectedJsonBody(boolean encryptHistory, boolean clearHistory) {
         return getExpectedJsonBody(encryptHistory, clearHistory, testProps);
     }
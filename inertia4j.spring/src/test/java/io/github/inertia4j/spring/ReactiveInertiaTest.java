@@ -0,0 +1,118 @@
+package io.github.inertia4j.spring;
+
+import io.github.inertia4j.core.DefaultPageObjectSerializer;
+import io.github.inertia4j.spi.DeferredProp;
+import io.github.inertia4j.spi.LazyProp;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class ReactiveInertiaTest {
+    private final ReactiveInertia inertia = new ReactiveInertia(
+        () -> "1",
+        new DefaultPageObjectSerializer(),
+        pageObjectJson -> "<div id=\"app\" data-page='" + pageObjectJson + "'></div>"
+    );
+
+    @Test
+    void render_whenInertiaRequest_resolvesReactiveProps() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/records")
+            .header("X-Inertia", "true")
+            .build();
+
+        ResponseEntity<String> response = inertia.render(request, "records/Index", Map.of(
+            "record", Mono.just("first"),
+            "records", Flux.just("first", "second")
+        )).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(
+            "{\"component\":\"records/Index\",\"props\":{\"record\":\"first\",\"records\":[\"first\",\"second\"]},\"url\":\"/records\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}",
+            response.getBody()
+        );
+    }
+
+    @Test
+    void renderBytes_whenInertiaRequest_returnsUtf8JsonResponse() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/records")
+            .header("X-Inertia", "true")
+            .build();
+
+        ResponseEntity<byte[]> response = inertia.renderBytes(request, "records/Index", Map.of(
+            "record", Mono.just("caf\u00e9")
+        )).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(
+            "{\"component\":\"records/Index\",\"props\":{\"record\":\"caf\u00e9\"},\"url\":\"/records\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}",
+            new String(response.getBody(), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void render_whenPartialRequest_doesNotSubscribeToExcludedProps() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/records")
+            .header("X-Inertia", "true")
+            .header("X-Inertia-Partial-Component", "records/Index")
+            .header("X-Inertia-Partial-Data", "record")
+            .build();
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        ResponseEntity<String> response = inertia.render(request, "records/Index", Map.of(
+            "record", Mono.just("first"),
+            "stats", Mono.fromSupplier(subscriptions::incrementAndGet),
+            "permissions", DeferredProp.of(() -> Mono.just("all"))
+        )).block();
+
+        assertEquals(
+            "{\"component\":\"records/Index\",\"props\":{\"record\":\"first\"},\"url\":\"/records\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}",
+            response.getBody()
+        );
+        assertEquals(0, subscriptions.get());
+    }
+
+    @Test
+    void render_whenInitialRequest_returnsHtmlResponse() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/records").build();
+
+        ResponseEntity<String> response = inertia.render(request, "records/Index", Map.of()).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.TEXT_HTML, response.getHeaders().getContentType());
+        assertEquals(
+            "<div id=\"app\" data-page='{\"component\":\"records/Index\",\"props\":{},\"url\":\"/records\",\"version\":\"1\",\"encryptHistory\":false,\"clearHistory\":false}'></div>",
+            response.getBody()
+        );
+    }
+
+    @Test
+    void render_doesNotEvaluatePropsOnSubscribingThread() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/records")
+            .header("X-Inertia", "true")
+            .build();
+        AtomicReference<Thread> propThread = new AtomicReference<>();
+
+        inertia.render(request, "records/Index", Map.of(
+            "record", LazyProp.of(() -> {
+                propThread.set(Thread.currentThread());
+                return "first";
+            })
+        )).block();
+
+        assertNotSame(Thread.currentThread(), propThread.get());
+    }
+}
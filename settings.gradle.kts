@@ -8,3 +8,4 @@ include("inertia4j.spi")
 include("inertia4j.core")
 include("inertia4j.ktor")
 include("inertia4j.spring")
+include("inertia4j.benchmarks")